@@ -0,0 +1,23 @@
+package com.dushy.tenantmanage.audit;
+
+import com.dushy.tenantmanage.enums.AuditAction;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable change event queued for the audit log.
+ * The acting user is captured by email on the request thread and resolved to
+ * an ID by the writer, so publishing never touches the database.
+ */
+@Value
+@Builder
+public class AuditEvent {
+    String entityType;
+    Long entityId;
+    AuditAction action;
+    String changedByEmail;
+    String changes;
+    LocalDateTime timestamp;
+}
@@ -0,0 +1,63 @@
+package com.dushy.tenantmanage.audit;
+
+import com.dushy.tenantmanage.enums.AuditAction;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry point for services to record entity changes.
+ * Events are delivered to {@link AuditLogWriter} only after the surrounding
+ * transaction commits; rolled-back changes are never audited.
+ */
+@Component
+public class AuditEventPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public AuditEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Record a change without field-level details.
+     *
+     * @param entityType the changed entity class
+     * @param entityId   the ID of the changed entity
+     * @param action     what happened
+     */
+    public void publish(Class<?> entityType, Long entityId, AuditAction action) {
+        publish(entityType, entityId, action, null);
+    }
+
+    /**
+     * Record a change with field-level details.
+     *
+     * @param entityType the changed entity class
+     * @param entityId   the ID of the changed entity
+     * @param action     what happened
+     * @param changes    JSON describing the change, or null
+     */
+    public void publish(Class<?> entityType, Long entityId, AuditAction action, String changes) {
+        eventPublisher.publishEvent(AuditEvent.builder()
+                .entityType(entityType.getSimpleName())
+                .entityId(entityId)
+                .action(action)
+                .changedByEmail(currentUserEmail())
+                .changes(changes)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    private String currentUserEmail() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+}
@@ -0,0 +1,256 @@
+package com.dushy.tenantmanage.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Background writer for the audit log.
+ * Committed {@link AuditEvent}s go into a bounded lock-free queue that a
+ * single thread drains and batch-inserts with JDBC, keeping audit writes off
+ * the request path. When the queue is full the configured overflow policy
+ * decides which event is dropped; drops and write failures are exported as
+ * metrics. A batch that fails is retried row by row, so one bad event does
+ * not take the rest with it.
+ *
+ * <p>Events published before startup wait in the queue for the drain thread.
+ * On shutdown the queue is closed first and then flushed, so every event it
+ * accepted is written; events arriving after that are dropped.
+ */
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_SQL = "INSERT INTO audit_logs "
+            + "(entity_type, entity_id, action, changed_by, changes, timestamp) "
+            + "VALUES (?, ?, ?, (SELECT id FROM users WHERE email = ?), CAST(? AS jsonb), ?)";
+
+    /**
+     * What to do with a new event when the queue is full.
+     */
+    public enum OverflowPolicy {
+        DROP_NEWEST,
+        DROP_OLDEST
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final OverflowPolicy overflowPolicy;
+
+    private final ConcurrentLinkedQueue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Publishers hold the read lock while they enqueue; stop() takes the write
+     * lock to close the queue, so nothing is added after its final drain.
+     */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private volatile ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${audit.queue-capacity:10000}") int capacity,
+            @Value("${audit.batch-size:200}") int batchSize,
+            @Value("${audit.flush-interval-ms:500}") long flushIntervalMs,
+            @Value("${audit.overflow-policy:DROP_NEWEST}") OverflowPolicy overflowPolicy) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.overflowPolicy = overflowPolicy;
+
+        this.enqueuedCounter = meterRegistry.counter("audit.events.enqueued");
+        this.droppedCounter = meterRegistry.counter("audit.events.dropped");
+        this.writtenCounter = meterRegistry.counter("audit.events.written");
+        this.failedCounter = meterRegistry.counter("audit.events.failed");
+        Gauge.builder("audit.queue.size", size, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuditEvent(AuditEvent event) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                droppedCounter.increment();
+                log.warn("Audit writer is stopped; dropped {} event for {} {}",
+                        event.getAction(), event.getEntityType(), event.getEntityId());
+                return;
+            }
+            offer(event);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add an event to the queue, applying the overflow policy when full.
+     *
+     * @param event the event to queue
+     * @return true if the event was queued, false if it was dropped
+     */
+    boolean offer(AuditEvent event) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            droppedCounter.increment();
+            if (overflowPolicy != OverflowPolicy.DROP_OLDEST || queue.poll() == null) {
+                return false;
+            }
+            // Oldest event evicted; its slot goes to the new one
+        }
+        queue.offer(event);
+        enqueuedCounter.increment();
+        return true;
+    }
+
+    /**
+     * Write everything currently queued, in batches.
+     */
+    void drain() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        AuditEvent event;
+        while ((event = queue.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(event);
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), AuditLogWriter::bind);
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            if (batch.size() > 1 && e.getCause() instanceof BatchUpdateException) {
+                // The driver sends a batch as one implicit transaction, so none of it was kept;
+                // retry each row to lose only the ones that are actually bad
+                log.warn("Audit batch of {} failed, retrying row by row: {}", batch.size(), e.getMessage());
+                batch.forEach(this::writeOne);
+                return;
+            }
+            // Audit must never break the application; count the loss and move on
+            failedCounter.increment(batch.size());
+            log.warn("Failed to write {} audit events: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void writeOne(AuditEvent event) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, event));
+            writtenCounter.increment();
+        } catch (DataAccessException e) {
+            failedCounter.increment();
+            log.warn("Failed to write audit event {} for {} {}: {}", event.getAction(), event.getEntityType(),
+                    event.getEntityId(), e.getMessage());
+        }
+    }
+
+    private static void bind(PreparedStatement ps, AuditEvent event) throws SQLException {
+        ps.setString(1, event.getEntityType());
+        if (event.getEntityId() != null) {
+            ps.setLong(2, event.getEntityId());
+        } else {
+            ps.setNull(2, Types.BIGINT);
+        }
+        ps.setString(3, event.getAction().name());
+        ps.setString(4, event.getChangedByEmail());
+        ps.setString(5, event.getChanges());
+        ps.setTimestamp(6, Timestamp.valueOf(event.getTimestamp()));
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Audit writer drain failed", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::drainSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        setClosed(false);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        setClosed(true);
+        running = false;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Flush whatever the drain thread did not get to; the queue is closed, so this is the last of it
+        drain();
+    }
+
+    private void setClosed(boolean closed) {
+        closeLock.writeLock().lock();
+        try {
+            this.closed = closed;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stop after the web server so in-flight requests can still enqueue
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,80 @@
+package com.dushy.tenantmanage.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly audit_logs partitions in shape.
+ * Partitions for the coming months are created ahead of time so new rows never
+ * land in the default partition, and partitions older than the retention
+ * period are dropped whole. Both steps are idempotent, so running on every
+ * node is harmless.
+ */
+@Component
+public class AuditPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditPartitionMaintenance.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_p(\\d{6})");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionMonths;
+    private final int premakeMonths;
+
+    public AuditPartitionMaintenance(JdbcTemplate jdbcTemplate,
+            @Value("${audit.retention-months:24}") int retentionMonths,
+            @Value("${audit.partition-premake-months:3}") int premakeMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionMonths = retentionMonths;
+        this.premakeMonths = premakeMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${audit.partition-maintenance-cron:0 15 2 * * *}")
+    public void maintainPartitions() {
+        try {
+            createUpcomingPartitions();
+            dropExpiredPartitions();
+        } catch (DataAccessException e) {
+            log.warn("Audit partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            jdbcTemplate.queryForList("SELECT ensure_audit_log_partition(?)", current.plusMonths(i).atDay(1));
+        }
+    }
+
+    void dropExpiredPartitions() {
+        YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths);
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "WHERE i.inhparent = 'audit_logs'::regclass",
+                String.class);
+
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (matcher.matches() && YearMonth.parse(matcher.group(1), PARTITION_MONTH).isBefore(oldestKept)) {
+                // Name is validated by the pattern above, so it is safe to inline
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("Dropped audit log partition {} (older than {} months)", partition, retentionMonths);
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.dushy.tenantmanage.audit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Field-level change detector for one entity type.
+ * Fields are declared up front as plain getter lambdas, so diffing uses no
+ * reflection. A diff is rendered as compact JSON containing only the fields
+ * that changed, e.g. {@code {"monthlyRentAmount":{"old":5000,"new":6000}}},
+ * with Jackson's streaming generator so escaping and number formatting are
+ * always valid for the {@code jsonb} column.
+ *
+ * @param <T> the entity type
+ */
+public final class EntityDiffer<T> {
+
+    private static final JsonFactory JSON = JsonFactory.builder()
+            .enable(StreamWriteFeature.WRITE_BIGDECIMAL_AS_PLAIN)
+            .build();
+    private static final SerializableString OLD = new SerializedString("old");
+    private static final SerializableString NEW = new SerializedString("new");
+    /** Diffs are written on the caller's thread, so each thread keeps one output buffer. */
+    private static final ThreadLocal<ReusableWriter> OUT = ThreadLocal.withInitial(ReusableWriter::new);
+
+    private final SerializableString[] keys;
+    private final Function<T, ?>[] accessors;
+
+    private EntityDiffer(List<String> names, List<Function<T, ?>> accessors) {
+        this.keys = new SerializableString[names.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new SerializedString(names.get(i));
+        }
+        @SuppressWarnings("unchecked")
+        Function<T, ?>[] array = accessors.toArray(new Function[0]);
+        this.accessors = array;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Capture the current values of all tracked fields.
+     * Take the snapshot before mutating the entity and pass it to {@link #diff}.
+     *
+     * @param entity the entity, may be null
+     * @return the captured values, or null for a null entity
+     */
+    public Object[] snapshot(T entity) {
+        if (entity == null) {
+            return null;
+        }
+        Object[] values = new Object[accessors.length];
+        for (int i = 0; i < accessors.length; i++) {
+            values[i] = accessors[i].apply(entity);
+        }
+        return values;
+    }
+
+    /**
+     * Describe a newly created entity: every non-null field as a change from null.
+     *
+     * @param entity the created entity
+     * @return the changes as JSON, or null if all fields are null
+     */
+    public String created(T entity) {
+        return diff(null, entity);
+    }
+
+    /**
+     * Compare a snapshot with the entity's current state.
+     *
+     * @param before snapshot taken with {@link #snapshot}, or null if the entity is new
+     * @param after  the entity after the change
+     * @return the changed fields as JSON, or null if nothing changed
+     */
+    public String diff(Object[] before, T after) {
+        ReusableWriter out = OUT.get();
+        try {
+            // Created at the first change, so an unchanged entity costs only the comparisons
+            JsonGenerator json = null;
+            for (int i = 0; i < accessors.length; i++) {
+                Object oldValue = before != null ? before[i] : null;
+                Object newValue = accessors[i].apply(after);
+                if (sameValue(oldValue, newValue)) {
+                    continue;
+                }
+                if (json == null) {
+                    out.reset();
+                    json = JSON.createGenerator(out);
+                    json.writeStartObject();
+                }
+                json.writeFieldName(keys[i]);
+                json.writeStartObject();
+                json.writeFieldName(OLD);
+                writeValue(json, oldValue);
+                json.writeFieldName(NEW);
+                writeValue(json, newValue);
+                json.writeEndObject();
+            }
+            if (json == null) {
+                return null;
+            }
+            json.writeEndObject();
+            json.close();
+        } catch (IOException e) {
+            // Writing to a StringBuilder does not fail
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    private static boolean sameValue(Object a, Object b) {
+        if (a instanceof BigDecimal x && b instanceof BigDecimal y) {
+            // 5000 and 5000.00 are the same amount
+            return x.compareTo(y) == 0;
+        }
+        return Objects.equals(a, b);
+    }
+
+    private static void writeValue(JsonGenerator json, Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else if (value instanceof BigDecimal decimal) {
+            json.writeNumber(decimal);
+        } else if (value instanceof BigInteger integer) {
+            json.writeNumber(integer);
+        } else if (value instanceof Double || value instanceof Float) {
+            // NaN and infinities are written as strings, since JSON has no literal for them
+            json.writeNumber(((Number) value).doubleValue());
+        } else if (value instanceof Number number) {
+            json.writeNumber(number.longValue());
+        } else if (value instanceof Boolean flag) {
+            json.writeBoolean(flag);
+        } else if (value instanceof Collection<?> items) {
+            json.writeStartArray();
+            for (Object item : items) {
+                writeValue(json, item);
+            }
+            json.writeEndArray();
+        } else {
+            String text = value.toString();
+            // jsonb rejects NUL characters, even escaped
+            json.writeString(text.indexOf('\0') >= 0 ? text.replace('\0', '\uFFFD') : text);
+        }
+    }
+
+    /**
+     * Unsynchronized writer over a StringBuilder that is cleared rather than
+     * reallocated between diffs. A buffer grown by an unusually large diff is
+     * dropped so a thread does not hold on to it.
+     */
+    private static final class ReusableWriter extends Writer {
+        private static final int INITIAL_CAPACITY = 256;
+        private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+        private StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+
+        void reset() {
+            if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+                buffer = new StringBuilder(INITIAL_CAPACITY);
+            } else {
+                buffer.setLength(0);
+            }
+        }
+
+        @Override
+        public void write(int c) {
+            buffer.append((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            buffer.append(text, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+
+    public static final class Builder<T> {
+        private final List<String> names = new ArrayList<>();
+        private final List<Function<T, ?>> accessors = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Track a field. Accessors must return an immutable value or a copy,
+         * since snapshots hold on to what they return.
+         */
+        public Builder<T> field(String name, Function<T, ?> accessor) {
+            names.add(name);
+            accessors.add(accessor);
+            return this;
+        }
+
+        public EntityDiffer<T> build() {
+            return new EntityDiffer<>(names, accessors);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.dushy.tenantmanage.audit;
+
+import com.dushy.tenantmanage.entity.Floor;
+import com.dushy.tenantmanage.entity.Properties;
+import com.dushy.tenantmanage.entity.PropertyAccess;
+import com.dushy.tenantmanage.entity.RentAgreement;
+import com.dushy.tenantmanage.entity.RentPayment;
+import com.dushy.tenantmanage.entity.Room;
+import com.dushy.tenantmanage.entity.Tenant;
+import com.dushy.tenantmanage.entity.User;
+
+import java.util.function.Function;
+
+/**
+ * Audited fields per entity.
+ * Associations are recorded by ID (reading the ID of a lazy proxy does not
+ * load it); timestamps maintained by Hibernate are left out.
+ */
+public final class EntityDiffers {
+
+    public static final EntityDiffer<Tenant> TENANT = EntityDiffer.<Tenant>builder()
+            .field("roomId", t -> idOf(t.getRoom(), Room::getId))
+            .field("propertyId", Tenant::getPropertyId)
+            .field("fullName", Tenant::getFullName)
+            .field("email", Tenant::getEmail)
+            .field("phone", Tenant::getPhone)
+            .field("idProofType", Tenant::getIdProofType)
+            .field("idProofNumber", Tenant::getIdProofNumber)
+            .field("emergencyContactName", Tenant::getEmergencyContactName)
+            .field("emergencyContactPhone", Tenant::getEmergencyContactPhone)
+            .field("moveInDate", Tenant::getMoveInDate)
+            .field("moveOutDate", Tenant::getMoveOutDate)
+            .field("isActive", Tenant::getIsActive)
+            .build();
+
+    public static final EntityDiffer<Room> ROOM = EntityDiffer.<Room>builder()
+            .field("floorId", r -> idOf(r.getFloor(), Floor::getId))
+            .field("propertyId", Room::getPropertyId)
+            .field("roomNumber", Room::getRoomNumber)
+            .field("roomType", Room::getRoomType)
+            .field("sizeSqft", Room::getSizeSqft)
+            .field("isOccupied", Room::getIsOccupied)
+            .field("isActive", Room::getIsActive)
+            .build();
+
+    public static final EntityDiffer<RentAgreement> RENT_AGREEMENT = EntityDiffer.<RentAgreement>builder()
+            .field("tenantId", a -> idOf(a.getTenant(), Tenant::getId))
+            .field("monthlyRentAmount", RentAgreement::getMonthlyRentAmount)
+            .field("securityDeposit", RentAgreement::getSecurityDeposit)
+            .field("startDate", RentAgreement::getStartDate)
+            .field("endDate", RentAgreement::getEndDate)
+            .field("paymentDueDay", RentAgreement::getPaymentDueDay)
+            .field("isActive", RentAgreement::getIsActive)
+            .build();
+
+    public static final EntityDiffer<RentPayment> RENT_PAYMENT = EntityDiffer.<RentPayment>builder()
+            .field("rentAgreementId", p -> idOf(p.getRentAgreement(), RentAgreement::getId))
+            .field("tenantId", p -> idOf(p.getTenant(), Tenant::getId))
+            .field("propertyId", RentPayment::getPropertyId)
+            .field("amountPaid", RentPayment::getAmountPaid)
+            .field("paymentDate", RentPayment::getPaymentDate)
+            .field("paymentForMonth", RentPayment::getPaymentForMonth)
+            .field("paymentMode", RentPayment::getPaymentMode)
+            .field("transactionReference", RentPayment::getTransactionReference)
+            .field("notes", RentPayment::getNotes)
+            .build();
+
+    public static final EntityDiffer<PropertyAccess> PROPERTY_ACCESS = EntityDiffer.<PropertyAccess>builder()
+            .field("propertyId", a -> idOf(a.getProperty(), Properties::getId))
+            .field("userId", a -> idOf(a.getUser(), User::getId))
+            .field("accessLevel", PropertyAccess::getAccessLevel)
+            // Copied and sorted: the entity mutates its set in place
+            .field("permissions", a -> a.getPermissions() == null ? null
+                    : a.getPermissions().stream().map(Enum::name).sorted().toList())
+            .field("isActive", PropertyAccess::getIsActive)
+            .field("revokedAt", PropertyAccess::getRevokedAt)
+            .build();
+
+    public static final EntityDiffer<Properties> PROPERTY = EntityDiffer.<Properties>builder()
+            .field("ownerId", p -> idOf(p.getOwner(), User::getId))
+            .field("name", Properties::getName)
+            .field("address", Properties::getAddress)
+            .field("city", Properties::getCity)
+            .field("state", Properties::getState)
+            .field("postalCode", Properties::getPostalCode)
+            .field("country", Properties::getCountry)
+            .field("totalFloors", Properties::getTotalFloors)
+            .field("isActive", Properties::getIsActive)
+            .build();
+
+    private EntityDiffers() {
+    }
+
+    private static <A> Long idOf(A association, Function<A, Long> id) {
+        return association != null ? id.apply(association) : null;
+    }
+}
@@ -0,0 +1,197 @@
+package com.dushy.tenantmanage.billing;
+
+import com.dushy.tenantmanage.dto.response.ArrearsAgingPageResponse;
+import com.dushy.tenantmanage.dto.response.ArrearsAgingResponse;
+import com.dushy.tenantmanage.enums.ArrearsSort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Maintains and reads arrears_aging, computed from rent_charges and rent_payments.
+ * Each agreement's payments, whatever month they were recorded for, pay off
+ * its oldest posted charges first; the rest of every charge is owed and aged
+ * by days past its due date into 0-30, 31-60, 61-90 and over 90 days.
+ * Agreements that owe nothing have no row.
+ *
+ * <p>{@link RentPostingJob} refreshes whole properties every day; recording a
+ * payment refreshes just its agreement, so the report reflects payments
+ * straight away while amounts only move between buckets daily.
+ */
+@Component
+public class ArrearsAging {
+
+    private static final String DELETE_SQL = "DELETE FROM arrears_aging WHERE %s = ANY (?)";
+
+    // Upsert rather than insert: a concurrent refresh of an overlapping scope may have re-added the row
+    private static final String REFRESH_SQL = "INSERT INTO arrears_aging (rent_agreement_id, tenant_id, property_id, "
+            + "due_0_30, due_31_60, due_61_90, due_over_90, total_due, oldest_due_date, as_of, refreshed_at) "
+            + "SELECT o.rent_agreement_id, o.tenant_id, o.property_id, "
+            + "COALESCE(SUM(o.owed) FILTER (WHERE o.age <= 30), 0), "
+            + "COALESCE(SUM(o.owed) FILTER (WHERE o.age BETWEEN 31 AND 60), 0), "
+            + "COALESCE(SUM(o.owed) FILTER (WHERE o.age BETWEEN 61 AND 90), 0), "
+            + "COALESCE(SUM(o.owed) FILTER (WHERE o.age > 90), 0), "
+            + "SUM(o.owed), MIN(o.due_date) FILTER (WHERE o.owed > 0), CAST(? AS date), clock_timestamp() "
+            + "FROM (SELECT c.rent_agreement_id, c.tenant_id, c.property_id, c.due_date, "
+            + "CAST(? AS date) - c.due_date AS age, "
+            // Running total of charges minus everything paid: what is left of this charge
+            + "GREATEST(0, LEAST(c.amount, SUM(c.amount) OVER (PARTITION BY c.rent_agreement_id "
+            + "ORDER BY c.charge_month) - COALESCE(p.paid, 0))) AS owed "
+            + "FROM rent_charges c "
+            + "LEFT JOIN (SELECT rp.rent_agreement_id, SUM(rp.amount_paid) AS paid FROM rent_payments rp "
+            + "WHERE rp.rent_agreement_id IN (SELECT rent_agreement_id FROM rent_charges WHERE %1$s = ANY (?)) "
+            + "GROUP BY rp.rent_agreement_id) p ON p.rent_agreement_id = c.rent_agreement_id "
+            + "WHERE c.%1$s = ANY (?) AND c.due_date <= ?) o "
+            + "GROUP BY o.rent_agreement_id, o.tenant_id, o.property_id "
+            + "HAVING SUM(o.owed) > 0 "
+            + "ON CONFLICT (rent_agreement_id) DO UPDATE SET tenant_id = EXCLUDED.tenant_id, "
+            + "property_id = EXCLUDED.property_id, due_0_30 = EXCLUDED.due_0_30, "
+            + "due_31_60 = EXCLUDED.due_31_60, due_61_90 = EXCLUDED.due_61_90, "
+            + "due_over_90 = EXCLUDED.due_over_90, total_due = EXCLUDED.total_due, "
+            + "oldest_due_date = EXCLUDED.oldest_due_date, as_of = EXCLUDED.as_of, "
+            + "refreshed_at = EXCLUDED.refreshed_at";
+
+    // Totals over every matching row, joined to the requested page so both come back in one round trip;
+    // the totals row is there even when the page is past the end
+    private static final String PAGE_SQL = "WITH matching AS (SELECT a.rent_agreement_id, a.tenant_id, "
+            + "t.full_name AS tenant_name, r.room_number, a.property_id, p.name AS property_name, "
+            + "a.due_0_30, a.due_31_60, a.due_61_90, a.due_over_90, a.total_due, a.oldest_due_date, a.as_of "
+            + "FROM arrears_aging a "
+            + "JOIN tenants t ON t.id = a.tenant_id "
+            + "JOIN rooms r ON r.id = t.room_id "
+            + "JOIN properties p ON p.id = a.property_id "
+            + "WHERE a.property_id = ANY (?) AND (CAST(? AS bigint) IS NULL OR p.owner_id = ?)) "
+            + "SELECT totals.*, page.* "
+            + "FROM (SELECT COUNT(*) AS total_items, COALESCE(SUM(due_0_30), 0) AS sum_0_30, "
+            + "COALESCE(SUM(due_31_60), 0) AS sum_31_60, COALESCE(SUM(due_61_90), 0) AS sum_61_90, "
+            + "COALESCE(SUM(due_over_90), 0) AS sum_over_90, COALESCE(SUM(total_due), 0) AS sum_total "
+            + "FROM matching) totals "
+            + "LEFT JOIN LATERAL (SELECT * FROM matching ORDER BY %s, rent_agreement_id LIMIT ? OFFSET ?) page ON true";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArrearsAging(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Replace the aging rows of the given properties with figures as of the
+     * given date. Runs in the caller's transaction.
+     *
+     * @param propertyIds the properties to recompute
+     * @param asOf        the date ages are counted to; later charges are ignored
+     * @return the number of agreements in arrears
+     */
+    public int refreshProperties(Collection<Long> propertyIds, LocalDate asOf) {
+        return refresh("property_id", propertyIds, asOf);
+    }
+
+    /**
+     * Recompute one agreement after a payment, keeping the date its row was
+     * aged to so it stays comparable with the rest of the report. Must run
+     * after the payment is written, in the same transaction.
+     *
+     * <p>The figures always come from rent_charges, never from whether the
+     * agreement has a row: a property refresh running at the same time
+     * deletes and re-adds its rows, so a missing row does not mean nothing
+     * is owed. Whichever transaction commits second upserts last, and this
+     * one sees its own payment, so the payment is never lost from the report.
+     *
+     * @param agreementId the agreement paid against
+     */
+    public void paymentRecorded(Long agreementId) {
+        List<Date> asOf = jdbcTemplate.queryForList(
+                "SELECT as_of FROM arrears_aging WHERE rent_agreement_id = ?", Date.class, agreementId);
+        refresh("rent_agreement_id", List.of(agreementId),
+                asOf.isEmpty() ? LocalDate.now() : asOf.get(0).toLocalDate());
+    }
+
+    private int refresh(String scopeColumn, Collection<Long> ids, LocalDate asOf) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Date date = Date.valueOf(asOf);
+        jdbcTemplate.update(DELETE_SQL.formatted(scopeColumn),
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+        return jdbcTemplate.update(REFRESH_SQL.formatted(scopeColumn), ps -> {
+            ps.setDate(1, date);
+            ps.setDate(2, date);
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+            ps.setArray(4, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+            ps.setDate(5, date);
+        });
+    }
+
+    /**
+     * One page of the agreements in arrears on the given properties.
+     *
+     * @param propertyIds the properties to report on
+     * @param ownerId     when not null, only those of the properties this user owns
+     * @param sort        the order of the rows
+     * @param page        zero-based page number
+     * @param size        rows per page
+     * @return the page, with counts and totals over all matching rows
+     */
+    public ArrearsAgingPageResponse findPage(Collection<Long> propertyIds, Long ownerId, ArrearsSort sort,
+            int page, int size) {
+        String orderBy = switch (sort) {
+            case TOTAL_DUE -> "total_due DESC";
+            case OVER_90 -> "due_over_90 DESC, total_due DESC";
+            case OLDEST_DUE -> "oldest_due_date ASC, total_due DESC";
+            case TENANT_NAME -> "tenant_name ASC";
+        };
+        return jdbcTemplate.query(PAGE_SQL.formatted(orderBy), ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", propertyIds.toArray()));
+            ps.setObject(2, ownerId, Types.BIGINT);
+            ps.setObject(3, ownerId, Types.BIGINT);
+            ps.setInt(4, size);
+            ps.setLong(5, (long) page * size);
+        }, rs -> {
+            List<ArrearsAgingResponse> items = new ArrayList<>(size);
+            long totalItems = 0;
+            BigDecimal due0To30 = null;
+            BigDecimal due31To60 = null;
+            BigDecimal due61To90 = null;
+            BigDecimal dueOver90 = null;
+            BigDecimal totalDue = null;
+            while (rs.next()) {
+                if (items.isEmpty()) {
+                    totalItems = rs.getLong("total_items");
+                    due0To30 = rs.getBigDecimal("sum_0_30");
+                    due31To60 = rs.getBigDecimal("sum_31_60");
+                    due61To90 = rs.getBigDecimal("sum_61_90");
+                    dueOver90 = rs.getBigDecimal("sum_over_90");
+                    totalDue = rs.getBigDecimal("sum_total");
+                }
+                long agreementId = rs.getLong("rent_agreement_id");
+                if (rs.wasNull()) {
+                    // Page past the end: only the totals row
+                    break;
+                }
+                items.add(new ArrearsAgingResponse(
+                        agreementId,
+                        rs.getLong("tenant_id"),
+                        rs.getString("tenant_name"),
+                        rs.getString("room_number"),
+                        rs.getLong("property_id"),
+                        rs.getString("property_name"),
+                        rs.getBigDecimal("due_0_30"),
+                        rs.getBigDecimal("due_31_60"),
+                        rs.getBigDecimal("due_61_90"),
+                        rs.getBigDecimal("due_over_90"),
+                        rs.getBigDecimal("total_due"),
+                        rs.getDate("oldest_due_date").toLocalDate(),
+                        rs.getDate("as_of").toLocalDate()));
+            }
+            return new ArrearsAgingPageResponse(items, page, size, totalItems,
+                    due0To30, due31To60, due61To90, dueOver90, totalDue);
+        });
+    }
+}
@@ -0,0 +1,193 @@
+package com.dushy.tenantmanage.billing;
+
+import com.dushy.tenantmanage.datasource.Workload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Posts monthly rent charges and recomputes arrears aging, once a day.
+ *
+ * <p>Every active agreement gets a charge in rent_charges for each month
+ * from its start, once that month's payment due day has passed (the last day
+ * of the month for due days it does not have). Missed days are caught up on
+ * the next run, and a month is never charged twice. {@link ArrearsAging} is
+ * then refreshed for the same properties.
+ *
+ * <p>Properties are split into {@code chunks} fixed groups by ID, worked on
+ * {@code parallelism} threads, each chunk in its own transaction. Every node
+ * runs the schedule; a chunk is only worked by the node holding its Postgres
+ * advisory lock, and is recorded in scheduled_job_runs in that same
+ * transaction so no other node repeats it that day. A failed chunk rolls
+ * back whole and is picked up by the next run.
+ */
+@Component
+@ConditionalOnProperty(name = "rent.posting.enabled", havingValue = "true", matchIfMissing = true)
+public class RentPostingJob implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RentPostingJob.class);
+
+    static final String JOB_NAME = "rent-posting";
+
+    /** First key of this job's advisory locks; the second is the chunk. */
+    private static final int LOCK_CLASS = 0x52454e54;
+
+    private static final String CHUNK_PROPERTIES_SQL = "SELECT id FROM properties WHERE id % ? = ? ORDER BY id";
+
+    private static final String CLAIM_SQL = "INSERT INTO scheduled_job_runs (job_name, run_date, chunk, completed_at) "
+            + "VALUES (?, ?, ?, clock_timestamp()) ON CONFLICT DO NOTHING";
+
+    private static final String POST_SQL = "INSERT INTO rent_charges "
+            + "(rent_agreement_id, tenant_id, property_id, charge_month, due_date, amount, posted_at) "
+            + "SELECT s.rent_agreement_id, s.tenant_id, s.property_id, s.charge_month, s.due_date, s.amount, "
+            + "clock_timestamp() "
+            + "FROM (SELECT a.id AS rent_agreement_id, a.tenant_id, t.property_id, "
+            + "CAST(m.month AS date) AS charge_month, "
+            + "make_date(CAST(EXTRACT(YEAR FROM m.month) AS int), CAST(EXTRACT(MONTH FROM m.month) AS int), "
+            + "LEAST(GREATEST(COALESCE(a.payment_due_day, 1), 1), "
+            + "CAST(EXTRACT(DAY FROM m.month + INTERVAL '1 month' - INTERVAL '1 day') AS int))) AS due_date, "
+            + "a.monthly_rent_amount AS amount "
+            + "FROM rent_agreements a "
+            + "JOIN tenants t ON t.id = a.tenant_id "
+            + "CROSS JOIN LATERAL generate_series(date_trunc('month', CAST(a.start_date AS timestamp)), "
+            + "date_trunc('month', CAST(LEAST(COALESCE(a.end_date, CAST(? AS date)), CAST(? AS date)) AS timestamp)), "
+            + "INTERVAL '1 month') AS m(month) "
+            + "WHERE a.is_active = true AND t.property_id = ANY (?)) s "
+            + "WHERE s.due_date <= ? "
+            + "ON CONFLICT (rent_agreement_id, charge_month) DO NOTHING";
+
+    enum Outcome {
+        COMPLETED,
+        ALREADY_DONE,
+        LOCKED,
+        FAILED
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArrearsAging arrearsAging;
+    private final int chunks;
+    private final ExecutorService executor;
+
+    private final Counter chargesPosted;
+    private final Counter chunksFailed;
+    private final Timer runTimer;
+
+    public RentPostingJob(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ArrearsAging arrearsAging,
+            MeterRegistry meterRegistry,
+            @Value("${rent.posting.chunks:16}") int chunks,
+            @Value("${rent.posting.parallelism:2}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Read-write, so the routing data source keeps the job on the primary
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.arrearsAging = arrearsAging;
+        this.chunks = chunks;
+        this.executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("rent-posting-", 0).daemon(true).factory());
+
+        this.chargesPosted = meterRegistry.counter("rent.posting.charges");
+        this.chunksFailed = meterRegistry.counter("rent.posting.chunks.failed");
+        this.runTimer = meterRegistry.timer("rent.posting.run");
+    }
+
+    @Scheduled(cron = "${rent.posting.cron:0 30 1 * * *}")
+    public void run() {
+        run(LocalDate.now());
+    }
+
+    /**
+     * Post charges due on or before the given day and age arrears to it.
+     *
+     * @param today the run date
+     * @return how many chunks ended each way on this node
+     */
+    Map<Outcome, Integer> run(LocalDate today) {
+        return runTimer.record(() -> {
+            List<Future<Outcome>> futures = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int current = chunk;
+                futures.add(executor.submit(() -> runChunk(today, current)));
+            }
+            Map<Outcome, Integer> outcomes = new EnumMap<>(Outcome.class);
+            for (Future<Outcome> future : futures) {
+                Outcome outcome;
+                try {
+                    outcome = future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return outcomes;
+                } catch (ExecutionException e) {
+                    outcome = Outcome.FAILED;
+                }
+                outcomes.merge(outcome, 1, Integer::sum);
+            }
+            log.info("Rent posting for {}: {}", today, outcomes);
+            return outcomes;
+        });
+    }
+
+    private Outcome runChunk(LocalDate today, int chunk) {
+        // Batch work shares the report lane so it cannot crowd out requests
+        Workload.set(Workload.REPORT);
+        try {
+            return transactionTemplate.execute(status -> {
+                Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?, ?)",
+                        Boolean.class, LOCK_CLASS, chunk);
+                if (!Boolean.TRUE.equals(locked)) {
+                    return Outcome.LOCKED;
+                }
+                if (jdbcTemplate.update(CLAIM_SQL, JOB_NAME, Date.valueOf(today), chunk) == 0) {
+                    return Outcome.ALREADY_DONE;
+                }
+                List<Long> propertyIds = jdbcTemplate.queryForList(CHUNK_PROPERTIES_SQL, Long.class, chunks, chunk);
+                if (propertyIds.isEmpty()) {
+                    return Outcome.COMPLETED;
+                }
+                Date date = Date.valueOf(today);
+                int posted = jdbcTemplate.update(POST_SQL, ps -> {
+                    ps.setDate(1, date);
+                    ps.setDate(2, date);
+                    ps.setArray(3, ps.getConnection().createArrayOf("bigint", propertyIds.toArray()));
+                    ps.setDate(4, date);
+                });
+                chargesPosted.increment(posted);
+                arrearsAging.refreshProperties(propertyIds, today);
+                return Outcome.COMPLETED;
+            });
+        } catch (RuntimeException e) {
+            chunksFailed.increment();
+            log.warn("Rent posting chunk {} failed for {}: {}", chunk, today, e.getMessage());
+            return Outcome.FAILED;
+        } finally {
+            Workload.clear();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,371 @@
+package com.dushy.tenantmanage.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps the in-process caches of several application nodes in step.
+ *
+ * <p>{@link PropertyChangeTracker} publishes what a transaction changed with
+ * {@code pg_notify} on the transaction's own connection. Postgres delivers a
+ * notification only once that transaction commits, and not at all on
+ * rollback, so other nodes never evict for changes they cannot read yet.
+ *
+ * <p>Every node listens on a dedicated connection, outside the pool. Each
+ * notification evicts the changed entities and their collections from the
+ * second-level cache, clears the query cache and refreshes the affected
+ * {@link DashboardCache} entries. Notifications arriving within
+ * {@code coalesce-ms} of each other are merged and applied once. A node
+ * ignores its own notifications, which it has already applied locally.
+ *
+ * <p>When the listening connection breaks, the node reconnects with
+ * exponential backoff. Notifications sent in the meantime are lost, so after
+ * a reconnect the node evicts everything and refreshes all dashboard entries.
+ */
+@Component
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    static final String CHANNEL = "cache_invalidation";
+
+    /** Postgres rejects payloads of 8000 bytes or more. */
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    /**
+     * What one transaction changed. {@code entities} holds the IDs of changed
+     * second-level-cached entities by entity name. {@code all} replaces
+     * everything else when the change is too large for one notification.
+     */
+    public record Invalidation(String node, boolean all, Set<Long> propertyIds, Set<Long> tenantIds,
+            Map<String, Set<Long>> entities) {
+
+        boolean isEmpty() {
+            return !all && propertyIds.isEmpty() && tenantIds.isEmpty() && entities.isEmpty();
+        }
+    }
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final DashboardCache dashboardCache;
+    private final ObjectMapper objectMapper;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectProvider<JdbcConnectionDetails> connectionDetails;
+    private final boolean enabled;
+    private final long coalesceMs;
+    private final int pollMs;
+    private final long reconnectInitialMs;
+    private final long reconnectMaxMs;
+    private final String node = UUID.randomUUID().toString();
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter reconnectsCounter;
+
+    /** Second-level-cached collection roles by owning entity name. */
+    private volatile Map<String, List<String>> collectionRoles;
+    private volatile Thread listener;
+    private volatile Connection listenConnection;
+    private volatile boolean listening;
+    private volatile boolean running;
+
+    public CacheInvalidationBus(EntityManagerFactory entityManagerFactory,
+            DashboardCache dashboardCache,
+            ObjectMapper objectMapper,
+            DataSourceProperties dataSourceProperties,
+            ObjectProvider<JdbcConnectionDetails> connectionDetails,
+            MeterRegistry meterRegistry,
+            @Value("${cache.invalidation.enabled:true}") boolean enabled,
+            @Value("${cache.invalidation.coalesce-ms:100}") long coalesceMs,
+            @Value("${cache.invalidation.poll-ms:5000}") int pollMs,
+            @Value("${cache.invalidation.reconnect-initial-ms:1000}") long reconnectInitialMs,
+            @Value("${cache.invalidation.reconnect-max-ms:30000}") long reconnectMaxMs) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.dashboardCache = dashboardCache;
+        this.objectMapper = objectMapper;
+        this.dataSourceProperties = dataSourceProperties;
+        this.connectionDetails = connectionDetails;
+        this.enabled = enabled;
+        this.coalesceMs = coalesceMs;
+        this.pollMs = pollMs;
+        this.reconnectInitialMs = reconnectInitialMs;
+        this.reconnectMaxMs = reconnectMaxMs;
+
+        this.publishedCounter = meterRegistry.counter("cache.invalidation.published");
+        this.receivedCounter = meterRegistry.counter("cache.invalidation.received");
+        this.reconnectsCounter = meterRegistry.counter("cache.invalidation.reconnects");
+        Gauge.builder("cache.invalidation.listening", this, bus -> bus.listening ? 1 : 0)
+                .description("Whether this node is receiving cache invalidations from other nodes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a notification of the given changes on the caller's connection,
+     * inside the transaction that made them.
+     */
+    void publish(Connection connection, Set<Long> propertyIds, Set<Long> tenantIds,
+            Map<String, Set<Long>> entities) throws SQLException {
+        if (!enabled) {
+            return;
+        }
+        Invalidation invalidation = new Invalidation(node, false, propertyIds, tenantIds, entities);
+        if (invalidation.isEmpty()) {
+            return;
+        }
+        String payload = toJson(invalidation);
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            // Bulk change; other nodes start over rather than receive it in pieces
+            payload = toJson(new Invalidation(node, true, Set.of(), Set.of(), Map.of()));
+        }
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            ps.setString(1, CHANNEL);
+            ps.setString(2, payload);
+            ps.execute();
+        }
+        publishedCounter.increment();
+    }
+
+    /**
+     * Whether the listening connection is currently up.
+     */
+    boolean isListening() {
+        return listening;
+    }
+
+    private void listen() {
+        long backoffMs = reconnectInitialMs;
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = connect()) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                listening = true;
+                backoffMs = reconnectInitialMs;
+                if (reconnect) {
+                    log.info("Cache invalidation listener reconnected; evicting all cached data");
+                    reconnectsCounter.increment();
+                    applySafely(new Invalidation(node, true, Set.of(), Set.of(), Map.of()));
+                }
+                reconnect = true;
+                receive(connection);
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, retrying in {} ms: {}", backoffMs, e.getMessage());
+            } catch (RuntimeException e) {
+                // Such as a malformed notification; the batch is lost, so the reconnect evicts everything
+                log.error("Cache invalidation listener failed, reconnecting in {} ms", backoffMs, e);
+            } finally {
+                listening = false;
+                listenConnection = null;
+            }
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+            backoffMs = Math.min(backoffMs * 2, reconnectMaxMs);
+        }
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollMs);
+            if (notifications == null || notifications.length == 0) {
+                // Nothing arrived; make sure the connection is still there
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                continue;
+            }
+            List<PGNotification> batch = new ArrayList<>(List.of(notifications));
+            long deadline = System.currentTimeMillis() + coalesceMs;
+            long remaining;
+            while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+                // A zero timeout would block until the next notification
+                PGNotification[] more = pgConnection.getNotifications((int) Math.max(1, remaining));
+                if (more != null) {
+                    batch.addAll(List.of(more));
+                }
+            }
+            applySafely(merge(batch));
+        }
+    }
+
+    private Invalidation merge(List<PGNotification> notifications) {
+        boolean all = false;
+        Set<Long> propertyIds = new HashSet<>();
+        Set<Long> tenantIds = new HashSet<>();
+        Map<String, Set<Long>> entities = new HashMap<>();
+        for (PGNotification notification : notifications) {
+            Invalidation invalidation;
+            try {
+                invalidation = objectMapper.readValue(notification.getParameter(), Invalidation.class);
+            } catch (JsonProcessingException e) {
+                log.warn("Unreadable cache invalidation, evicting all cached data: {}", e.getMessage());
+                all = true;
+                continue;
+            }
+            if (node.equals(invalidation.node())) {
+                continue;
+            }
+            receivedCounter.increment();
+            all |= invalidation.all();
+            propertyIds.addAll(invalidation.propertyIds());
+            tenantIds.addAll(invalidation.tenantIds());
+            invalidation.entities().forEach((entityName, ids) ->
+                    entities.computeIfAbsent(entityName, name -> new HashSet<>()).addAll(ids));
+        }
+        return new Invalidation(null, all, propertyIds, tenantIds, entities);
+    }
+
+    private void applySafely(Invalidation invalidation) {
+        try {
+            apply(invalidation);
+        } catch (RuntimeException e) {
+            log.error("Failed to apply cache invalidation", e);
+        }
+    }
+
+    private void apply(Invalidation invalidation) {
+        if (invalidation.isEmpty()) {
+            return;
+        }
+        Cache cache = sessionFactory.getCache();
+        if (invalidation.all()) {
+            cache.evictAllRegions();
+            dashboardCache.allChanged();
+            return;
+        }
+        invalidation.entities().forEach((entityName, ids) -> {
+            for (Long id : ids) {
+                cache.evictEntityData(entityName, id);
+                for (String role : collectionRoles.getOrDefault(entityName, List.of())) {
+                    cache.evictCollectionData(role, id);
+                }
+            }
+        });
+        if (!invalidation.entities().isEmpty()) {
+            // Cached query results may list rows that changed or now match
+            cache.evictQueryRegions();
+        }
+        dashboardCache.propertiesChanged(invalidation.propertyIds());
+        dashboardCache.tenantsChanged(invalidation.tenantIds());
+    }
+
+    private Connection connect() throws SQLException {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        Properties info = new Properties();
+        info.setProperty("ApplicationName", "tenantmanage-cache-invalidation");
+        info.setProperty("tcpKeepAlive", "true");
+        String url;
+        if (details != null) {
+            url = details.getJdbcUrl();
+            putIfNotNull(info, "user", details.getUsername());
+            putIfNotNull(info, "password", details.getPassword());
+        } else {
+            // Replica routing defines its own data sources from the same properties
+            url = dataSourceProperties.determineUrl();
+            putIfNotNull(info, "user", dataSourceProperties.determineUsername());
+            putIfNotNull(info, "password", dataSourceProperties.determinePassword());
+        }
+        Connection connection = DriverManager.getConnection(url, info);
+        connection.setAutoCommit(true);
+        return connection;
+    }
+
+    private static void putIfNotNull(Properties info, String key, String value) {
+        if (value != null) {
+            info.setProperty(key, value);
+        }
+    }
+
+    private String toJson(Invalidation invalidation) {
+        try {
+            return objectMapper.writeValueAsString(invalidation);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize cache invalidation", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Map<String, List<String>> roles = new HashMap<>();
+        sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(descriptor -> {
+            if (descriptor.hasCache()) {
+                roles.computeIfAbsent(descriptor.getOwnerEntityPersister().getEntityName(),
+                        name -> new ArrayList<>()).add(descriptor.getRole());
+            }
+        });
+        collectionRoles = roles;
+        running = true;
+        listener = Thread.ofPlatform().name("cache-invalidation").daemon(true).start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = listener;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        Connection connection = listenConnection;
+        if (connection != null) {
+            try {
+                // Unblocks a pending wait for notifications
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("Failed to close cache invalidation connection", e);
+            }
+        }
+        try {
+            thread.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        listener = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
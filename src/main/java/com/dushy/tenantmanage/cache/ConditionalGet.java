@@ -0,0 +1,103 @@
+package com.dushy.tenantmanage.cache;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * ETag / Last-Modified handling for reads scoped to one or more properties.
+ *
+ * <p>The ETag is a hash of the covered property IDs and their
+ * {@link PropertyVersions}, Last-Modified the latest of their change times.
+ * Both are known from a single primary-key lookup, so a matching
+ * If-None-Match / If-Modified-Since is answered with 304 before the response
+ * body is loaded, mapped or serialized. Versions change more than once a
+ * second but HTTP dates only have seconds, so If-Modified-Since on its own
+ * never gets a 304 within the second of the last change. Responses are marked private and
+ * no-cache: clients keep them but revalidate on every use.
+ *
+ * <p>The ETag is weak because it covers every representation of the data:
+ * JSON or Smile, gzipped or not (a strong ETag would also stop Tomcat from
+ * compressing the response). {@code Vary: Accept} keeps caches from handing
+ * one format to a client that asked for the other.
+ */
+@Component
+public class ConditionalGet {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final PropertyVersions propertyVersions;
+
+    public ConditionalGet(PropertyVersions propertyVersions) {
+        this.propertyVersions = propertyVersions;
+    }
+
+    /**
+     * 304 Not Modified if the client's copy is current, otherwise 200 with
+     * the body.
+     *
+     * @param request     the current request
+     * @param propertyIds every property whose data the body shows; the caller
+     *                    must already have checked access to them
+     * @param body        builds the response body, only called for 200
+     * @return the response
+     */
+    public <T> ResponseEntity<T> ok(WebRequest request, Collection<Long> propertyIds, Supplier<T> body) {
+        Map<Long, PropertyVersions.Version> versions = new TreeMap<>(propertyVersions.find(propertyIds));
+        if (versions.size() < propertyIds.stream().distinct().count()) {
+            // Some property has no version yet; no validator we could trust
+            return ResponseEntity.ok(body.get());
+        }
+
+        StringBuilder key = new StringBuilder();
+        long lastModified = -1;
+        for (Map.Entry<Long, PropertyVersions.Version> entry : versions.entrySet()) {
+            key.append(entry.getKey()).append(':').append(entry.getValue().version()).append(';');
+            lastModified = Math.max(lastModified, entry.getValue().updatedAt().toEpochMilli());
+        }
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        boolean notModified = changedInIfModifiedSinceSecond(request, lastModified)
+                ? request.checkNotModified(etag)
+                : request.checkNotModified(etag, lastModified);
+        if (notModified) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CACHE_CONTROL).varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+        return ResponseEntity.ok().cacheControl(CACHE_CONTROL).varyBy(HttpHeaders.ACCEPT).lastModified(lastModified)
+                .body(body.get());
+    }
+
+    /**
+     * Whether the request validates by date alone and the last change falls
+     * in the very second its If-Modified-Since names. HTTP dates have no
+     * fractions, so a change later in that second would look unmodified;
+     * such a request gets the full response.
+     */
+    private static boolean changedInIfModifiedSinceSecond(WebRequest request, long lastModified) {
+        String ifModifiedSince = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince == null || request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            return false;
+        }
+        try {
+            long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return lastModified / 1000 == since;
+        } catch (DateTimeParseException e) {
+            // Ignored by checkNotModified as well
+            return false;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.dushy.tenantmanage.cache;
+
+import com.dushy.tenantmanage.datasource.Workload;
+import com.dushy.tenantmanage.dto.DashboardSummaryDto;
+import com.dushy.tenantmanage.dto.TrendDataDto;
+import com.dushy.tenantmanage.repository.PropertiesRepository;
+import com.dushy.tenantmanage.repository.TenantRepository;
+import com.dushy.tenantmanage.service.DashboardService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Per-user and per-property cache of dashboard figures.
+ *
+ * <p>Entries are never simply dropped. When a committed change touches a
+ * property an entry covers ({@link PropertyChangeTracker}), or once it is
+ * older than {@code refresh-after-ms}, it is recomputed on a small background
+ * pool while readers keep getting the previous value, so only the very first
+ * request for a key waits for the queries. Refreshes caused by a write read
+ * from the primary, since a replica may not have the change yet. A user
+ * summary recomputed after a change is published as a
+ * {@link DashboardSummaryRefreshed} event for clients following the dashboard
+ * live, once it has actually replaced the cached value.
+ */
+@Component
+public class DashboardCache implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardCache.class);
+
+    enum Kind {
+        SUMMARY,
+        PROPERTY_SUMMARY,
+        RENT_TRENDS,
+        OCCUPANCY_TRENDS
+    }
+
+    /**
+     * Cache key. {@code id} is the property ID for PROPERTY_SUMMARY and the
+     * user ID otherwise.
+     */
+    record Key(Kind kind, Long id, int months) {
+    }
+
+    /**
+     * Cached value. Replaced by a new instance on invalidation so any refresh
+     * that was already running with pre-change data, Caffeine's or
+     * {@link #reload}, is discarded: both install only over the instance they
+     * started from.
+     */
+    private record Snapshot(Object value) {
+    }
+
+    private final DashboardService dashboardService;
+    private final PropertiesRepository propertiesRepository;
+    private final TenantRepository tenantRepository;
+    private final TransactionTemplate primaryReads;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final ExecutorService refreshPool;
+    private final Executor refreshExecutor;
+    private final LoadingCache<Key, Snapshot> cache;
+    private final Set<Key> changedKeys = ConcurrentHashMap.newKeySet();
+
+    public DashboardCache(DashboardService dashboardService,
+            PropertiesRepository propertiesRepository,
+            TenantRepository tenantRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${dashboard.cache.enabled:true}") boolean enabled,
+            @Value("${dashboard.cache.maximum-size:10000}") long maximumSize,
+            @Value("${dashboard.cache.refresh-after-ms:300000}") long refreshAfterMs,
+            @Value("${dashboard.cache.expire-after-ms:3600000}") long expireAfterMs,
+            @Value("${dashboard.cache.refresh-threads:2}") int refreshThreads) {
+        this.dashboardService = dashboardService;
+        this.propertiesRepository = propertiesRepository;
+        this.tenantRepository = tenantRepository;
+        // Read-write so the routing data source picks the primary; nothing is written
+        this.primaryReads = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+
+        this.refreshPool = Executors.newFixedThreadPool(refreshThreads,
+                Thread.ofPlatform().name("dashboard-refresh-", 0).daemon(true).factory());
+        // Background recomputes are report traffic, like the endpoints they serve
+        this.refreshExecutor = command -> refreshPool.execute(() -> {
+            Workload.set(Workload.REPORT);
+            try {
+                command.run();
+            } finally {
+                Workload.clear();
+            }
+        });
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(Duration.ofMillis(refreshAfterMs))
+                .expireAfterWrite(Duration.ofMillis(expireAfterMs))
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(this::load);
+    }
+
+    public DashboardSummaryDto getDashboardSummary(Long userId) {
+        return get(new Key(Kind.SUMMARY, userId, 0), () -> dashboardService.getDashboardSummary(userId));
+    }
+
+    public DashboardSummaryDto getPropertySummary(Long propertyId) {
+        return get(new Key(Kind.PROPERTY_SUMMARY, propertyId, 0),
+                () -> dashboardService.getPropertySummary(propertyId));
+    }
+
+    public List<TrendDataDto> getRentTrendsForUser(Long userId, int months) {
+        return get(new Key(Kind.RENT_TRENDS, userId, months),
+                () -> dashboardService.getRentTrendsForUser(userId, months));
+    }
+
+    public List<TrendDataDto> getOccupancyTrendsForUser(Long userId, int months) {
+        return get(new Key(Kind.OCCUPANCY_TRENDS, userId, months),
+                () -> dashboardService.getOccupancyTrendsForUser(userId, months));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Key key, Supplier<T> uncached) {
+        if (!enabled) {
+            return uncached.get();
+        }
+        return (T) cache.get(key).value();
+    }
+
+    private Snapshot load(Key key) {
+        if (changedKeys.remove(key)) {
+            return primaryReads.execute(status -> compute(key));
+        }
+        return compute(key);
+    }
+
+    private Snapshot compute(Key key) {
+        Object value = switch (key.kind()) {
+            case SUMMARY -> dashboardService.getDashboardSummary(key.id());
+            case PROPERTY_SUMMARY -> dashboardService.getPropertySummary(key.id());
+            case RENT_TRENDS -> List.copyOf(dashboardService.getRentTrendsForUser(key.id(), key.months()));
+            case OCCUPANCY_TRENDS -> List.copyOf(dashboardService.getOccupancyTrendsForUser(key.id(), key.months()));
+        };
+        return new Snapshot(value);
+    }
+
+    /**
+     * Refresh, in the background, every entry covering one of the given
+     * properties: their property summaries and all entries of their owners.
+     * Call only after the change is committed.
+     *
+     * @param propertyIds the changed properties
+     */
+    public void propertiesChanged(Collection<Long> propertyIds) {
+        if (!enabled || propertyIds.isEmpty() || cache.estimatedSize() == 0) {
+            return;
+        }
+        Set<Long> properties = Set.copyOf(propertyIds);
+        refreshExecutor.execute(() -> refreshAffected(() -> properties));
+    }
+
+    /**
+     * Same as {@link #propertiesChanged(Collection)} for changes only known
+     * by tenant, such as rent agreements.
+     *
+     * @param tenantIds the tenants whose data changed
+     */
+    public void tenantsChanged(Collection<Long> tenantIds) {
+        if (!enabled || tenantIds.isEmpty() || cache.estimatedSize() == 0) {
+            return;
+        }
+        Set<Long> tenants = Set.copyOf(tenantIds);
+        refreshExecutor.execute(() -> refreshAffected(() -> tenantRepository.findPropertyIdsByIdIn(tenants)));
+    }
+
+    /**
+     * Refresh every entry in the background, for changes that cannot be
+     * narrowed down, such as those another node made while this one was not
+     * receiving its cache invalidations ({@link CacheInvalidationBus}).
+     */
+    public void allChanged() {
+        if (!enabled || cache.estimatedSize() == 0) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                refreshKeys(key -> true);
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh dashboard cache", e);
+            }
+        });
+    }
+
+    private void refreshAffected(Supplier<Collection<Long>> changedProperties) {
+        try {
+            Set<Long> propertyIds = new HashSet<>(primaryReads.execute(status -> changedProperties.get()));
+            Set<Long> ownerIds = propertyIds.isEmpty() ? Set.of() : new HashSet<>(
+                    primaryReads.execute(status -> propertiesRepository.findOwnerIdsByIdIn(propertyIds)));
+            refreshKeys(key -> key.kind() == Kind.PROPERTY_SUMMARY
+                    ? propertyIds.contains(key.id())
+                    : ownerIds.contains(key.id()));
+        } catch (RuntimeException e) {
+            // Entries still refresh on their own after refresh-after-ms
+            log.warn("Failed to refresh dashboard cache after a change", e);
+        }
+    }
+
+    private void refreshKeys(Predicate<Key> affected) {
+        for (Key key : cache.asMap().keySet()) {
+            if (!affected.test(key)) {
+                continue;
+            }
+            Snapshot marked = cache.asMap().computeIfPresent(key, (k, snapshot) -> new Snapshot(snapshot.value()));
+            if (marked != null) {
+                changedKeys.add(key);
+                refreshExecutor.execute(() -> reload(key, marked));
+            }
+        }
+    }
+
+    /**
+     * Recompute an entry and put the result in place of the given snapshot.
+     * If the entry has been replaced meanwhile, by a later change or a
+     * Caffeine refresh, the result is dropped and not published.
+     */
+    private void reload(Key key, Snapshot marked) {
+        Snapshot reloaded;
+        try {
+            reloaded = load(key);
+        } catch (RuntimeException e) {
+            // The previous value stays until the next change or refresh-after-ms
+            log.warn("Failed to refresh dashboard entry {}", key, e);
+            return;
+        }
+        Snapshot current = cache.asMap().computeIfPresent(key,
+                (k, snapshot) -> snapshot == marked ? reloaded : snapshot);
+        if (current == reloaded && key.kind() == Kind.SUMMARY) {
+            eventPublisher.publishEvent(
+                    new DashboardSummaryRefreshed(key.id(), (DashboardSummaryDto) reloaded.value()));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "dashboard");
+    }
+
+    @Override
+    public void destroy() {
+        refreshPool.shutdownNow();
+    }
+}
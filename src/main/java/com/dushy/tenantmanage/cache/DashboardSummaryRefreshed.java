@@ -0,0 +1,13 @@
+package com.dushy.tenantmanage.cache;
+
+import com.dushy.tenantmanage.dto.DashboardSummaryDto;
+
+/**
+ * Published by {@link DashboardCache} when a user's dashboard summary has
+ * been recomputed after a committed change to one of their properties.
+ *
+ * @param userId  the owner the summary belongs to
+ * @param summary the recomputed summary
+ */
+public record DashboardSummaryRefreshed(Long userId, DashboardSummaryDto summary) {
+}
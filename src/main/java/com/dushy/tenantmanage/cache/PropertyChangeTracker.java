@@ -0,0 +1,205 @@
+package com.dushy.tenantmanage.cache;
+
+import com.dushy.tenantmanage.entity.Floor;
+import com.dushy.tenantmanage.entity.Properties;
+import com.dushy.tenantmanage.entity.PropertyAccess;
+import com.dushy.tenantmanage.entity.RentAgreement;
+import com.dushy.tenantmanage.entity.RentPayment;
+import com.dushy.tenantmanage.entity.Room;
+import com.dushy.tenantmanage.entity.Tenant;
+import com.dushy.tenantmanage.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.AbstractEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Works out which properties a transaction changed.
+ * Hooks into Hibernate's insert/update/delete events for every entity shown
+ * under a property (the property and its owner, floors, rooms, tenants,
+ * agreements, payments and access grants) and collects the affected IDs for
+ * the transaction. Just before it commits, their {@link PropertyVersions} are
+ * bumped and other nodes are notified through {@link CacheInvalidationBus},
+ * both in the same transaction; once it has committed, {@link DashboardCache}
+ * refreshes the entries covering them. Rolled-back changes do none of this.
+ * Outside Spring-managed transactions there is no local dashboard refresh.
+ */
+@Component
+public class PropertyChangeTracker
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener,
+        PostCollectionRecreateEventListener, PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+    private final PropertyVersions propertyVersions;
+    private final DashboardCache dashboardCache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public PropertyChangeTracker(EntityManagerFactory entityManagerFactory,
+            PropertyVersions propertyVersions,
+            DashboardCache dashboardCache,
+            CacheInvalidationBus invalidationBus) {
+        this.propertyVersions = propertyVersions;
+        this.dashboardCache = dashboardCache;
+        this.invalidationBus = invalidationBus;
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        // Collection-only changes, such as an assistant's permissions, do not update the owner
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        changed(event, event.getEntity(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        changed(event, event.getEntity(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        changed(event, event.getEntity(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void collectionChanged(AbstractCollectionEvent event) {
+        Object owner = event.getAffectedOwnerOrNull();
+        if (owner == null) {
+            return;
+        }
+        EntityPersister persister = event.getSession().getFactory().getMappingMetamodel()
+                .getEntityDescriptor(event.getAffectedOwnerEntityName());
+        changed(event, owner, persister, event.getAffectedOwnerIdOrNull());
+    }
+
+    private void changed(AbstractEvent event, Object entity, EntityPersister persister, Object id) {
+        Long propertyId = switch (entity) {
+            case Properties property -> property.getId();
+            case Floor floor -> floor.getProperty().getId();
+            case Room room -> room.getPropertyId();
+            case Tenant tenant -> tenant.getPropertyId();
+            case RentPayment payment -> payment.getPropertyId();
+            case PropertyAccess access -> access.getProperty().getId();
+            default -> null;
+        };
+        // Agreements only reference their tenant, which may be an unloaded proxy;
+        // the property is looked up by SQL rather than loaded mid-flush
+        Long tenantId = entity instanceof RentAgreement agreement ? agreement.getTenant().getId() : null;
+        // Owners are embedded in property responses
+        Long ownerId = entity instanceof User user ? user.getId() : null;
+        if (propertyId == null && tenantId == null && ownerId == null) {
+            return;
+        }
+
+        PendingChanges changes = pendingChanges(event.getSession());
+        if (propertyId != null) {
+            changes.propertyIds.add(propertyId);
+        }
+        if (tenantId != null) {
+            changes.tenantIds.add(tenantId);
+        }
+        if (ownerId != null) {
+            changes.ownerIds.add(ownerId);
+        }
+        // Other nodes evict these from their second-level caches
+        if (persister.canWriteToCache() && id instanceof Long entityId) {
+            changes.entities.computeIfAbsent(persister.getEntityName(), name -> new HashSet<>()).add(entityId);
+        }
+    }
+
+    private PendingChanges pendingChanges(SessionImplementor session) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingChanges changes = new PendingChanges();
+            session.getActionQueue().registerProcess(changes);
+            return changes;
+        }
+        PendingChanges changes = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            changes = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(changes);
+            session.getActionQueue().registerProcess(changes);
+        }
+        return changes;
+    }
+
+    private final class PendingChanges implements BeforeTransactionCompletionProcess, TransactionSynchronization {
+
+        private final Set<Long> propertyIds = new HashSet<>();
+        private final Set<Long> tenantIds = new HashSet<>();
+        private final Set<Long> ownerIds = new HashSet<>();
+        private final Map<String, Set<Long>> entities = new HashMap<>();
+
+        /**
+         * Runs after Hibernate's final flush, so changes flushed at commit are included.
+         */
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            session.doWork(connection -> {
+                propertyVersions.bump(connection, propertyIds, tenantIds, ownerIds);
+                invalidationBus.publish(connection, propertyIds, tenantIds, entities);
+            });
+        }
+
+        @Override
+        public void afterCommit() {
+            dashboardCache.propertiesChanged(propertyIds);
+            dashboardCache.tenantsChanged(tenantIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PropertyChangeTracker.this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.dushy.tenantmanage.cache;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads and bumps the per-property version counters in property_versions.
+ * A property's version changes whenever anything shown under it changes, so
+ * together with the property IDs a response covers it is a complete
+ * validator for that response (see {@link ConditionalGet}).
+ */
+@Component
+public class PropertyVersions {
+
+    /**
+     * Version counter and time of the last change of one property.
+     */
+    public record Version(long version, Instant updatedAt) {
+    }
+
+    private static final String BUMP_SQL = "INSERT INTO property_versions (property_id, version, updated_at) "
+            + "SELECT p.id, 1, clock_timestamp() FROM properties p "
+            + "WHERE p.id = ANY (?) OR p.owner_id = ANY (?) "
+            + "OR p.id IN (SELECT t.property_id FROM tenants t WHERE t.id = ANY (?)) "
+            // Same lock order in every transaction
+            + "ORDER BY p.id "
+            + "ON CONFLICT (property_id) DO UPDATE "
+            + "SET version = property_versions.version + 1, updated_at = EXCLUDED.updated_at";
+
+    private static final String FIND_SQL = "SELECT property_id, version, updated_at "
+            + "FROM property_versions WHERE property_id = ANY (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PropertyVersions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Versions of the given properties. Properties without a row (e.g. bulk
+     * loaded outside the application) are missing from the result.
+     * Controllers call this outside any transaction, so it reads from the
+     * primary and never validates against a lagging replica.
+     *
+     * @param propertyIds the property IDs
+     * @return versions by property ID
+     */
+    public Map<Long, Version> find(Collection<Long> propertyIds) {
+        if (propertyIds.isEmpty()) {
+            return Map.of();
+        }
+        return jdbcTemplate.query(FIND_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", propertyIds.toArray())),
+                rs -> {
+                    Map<Long, Version> versions = new HashMap<>();
+                    while (rs.next()) {
+                        versions.put(rs.getLong("property_id"), new Version(rs.getLong("version"),
+                                rs.getTimestamp("updated_at").toInstant()));
+                    }
+                    return versions;
+                });
+    }
+
+    /**
+     * Bump the versions of the given properties, of the properties of the
+     * given tenants and of all properties of the given owners. Runs on the
+     * caller's connection, inside the transaction that made the change.
+     */
+    void bump(Connection connection, Collection<Long> propertyIds, Collection<Long> tenantIds,
+            Collection<Long> ownerIds) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(BUMP_SQL)) {
+            ps.setArray(1, connection.createArrayOf("bigint", propertyIds.toArray()));
+            ps.setArray(2, connection.createArrayOf("bigint", ownerIds.toArray()));
+            ps.setArray(3, connection.createArrayOf("bigint", tenantIds.toArray()));
+            ps.executeUpdate();
+        }
+    }
+}
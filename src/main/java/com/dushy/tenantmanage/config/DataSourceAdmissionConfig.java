@@ -0,0 +1,68 @@
+package com.dushy.tenantmanage.config;
+
+import com.dushy.tenantmanage.datasource.AdmissionControlledDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Puts an {@link AdmissionControlledDataSource} in front of the Hikari pool
+ * (see datasource.admission in application.yml). Permits default to the pool's
+ * maximum size, so callers queue on the semaphore instead of inside Hikari,
+ * and report traffic is capped below that so OLTP always has connections.
+ * Startup fails if the report lane would get the whole pool or nothing, so
+ * the default needs more than two permits.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.admission.enabled", havingValue = "true")
+public class DataSourceAdmissionConfig {
+
+    /** Connections the report lane leaves to OLTP unless report.max-concurrent is set. */
+    static final int OLTP_RESERVED_CONNECTIONS = 2;
+
+    @Bean
+    public static BeanPostProcessor dataSourceAdmissionPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int maxConcurrent = environment.getProperty("datasource.admission.max-concurrent", Integer.class,
+                        hikari.getMaximumPoolSize());
+                long acquireTimeoutMs = environment.getProperty("datasource.admission.acquire-timeout-ms",
+                        Long.class, hikari.getConnectionTimeout());
+                // By default reports may use all but two connections, leaving those for OLTP
+                int maxReportConcurrent = environment.getProperty("datasource.admission.report.max-concurrent",
+                        Integer.class, maxConcurrent - OLTP_RESERVED_CONNECTIONS);
+                String name = hikari.getPoolName() != null ? hikari.getPoolName() : beanName;
+                if (maxReportConcurrent < 1 || maxReportConcurrent >= maxConcurrent) {
+                    // Clamping instead would hand reports the whole of a one- or two-connection pool
+                    throw new IllegalStateException("Report lane of pool " + name + " allows " + maxReportConcurrent
+                            + " of " + maxConcurrent + " connections; it needs at least one and must leave one "
+                            + "for OLTP. Raise datasource.admission.max-concurrent above "
+                            + OLTP_RESERVED_CONNECTIONS + " or set datasource.admission.report.max-concurrent");
+                }
+                long reportAcquireTimeoutMs = environment.getProperty(
+                        "datasource.admission.report.acquire-timeout-ms", Long.class, 2000L);
+                return new AdmissionControlledDataSource(hikari, name, maxConcurrent, acquireTimeoutMs,
+                        maxReportConcurrent, reportAcquireTimeoutMs);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dataSourceAdmissionMetrics(ObjectProvider<DataSource> dataSources) {
+        // With a read replica there is one limiter per pool
+        return registry -> dataSources.orderedStream()
+                .filter(AdmissionControlledDataSource.class::isInstance)
+                .forEach(dataSource -> ((AdmissionControlledDataSource) dataSource).bindTo(registry));
+    }
+}
@@ -0,0 +1,94 @@
+package com.dushy.tenantmanage.config;
+
+import com.dushy.tenantmanage.datasource.ReplicaLagMonitor;
+import com.dushy.tenantmanage.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Read-replica routing, enabled with datasource.replica.enabled.
+ * Replaces the auto-configured pool with a primary and a replica pool (both
+ * tuned from spring.datasource.hikari, the replica overridable under
+ * datasource.replica.hikari) behind a {@link ReplicaRoutingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public DataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public DataSource replicaDataSource(DataSourceProperties properties, Environment environment,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username}") String username,
+            @Value("${datasource.replica.password}") String password) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.getDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+        binder.bind("datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.max-lag-ms:5000}") long maxLagMs,
+            @Value("${datasource.replica.lag-check-interval-ms:1000}") long checkIntervalMs) {
+        return new ReplicaLagMonitor(replicaDataSource, meterRegistry, maxLagMs, checkIntervalMs);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.read-your-writes-ms:5000}") long readYourWritesMs) {
+        // Lazy proxy: the target is chosen at the first statement, after the transaction's read-only flag is set
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource,
+                replicaDataSource, replicaLagMonitor, readYourWritesMs, meterRegistry));
+    }
+
+    /**
+     * Spring's default holds a connection for the whole EntityManager, which
+     * with open-in-view is the whole request; a read-only transaction would
+     * then pin later writes in the same request to the replica. Releasing
+     * after each transaction lets every transaction be routed on its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
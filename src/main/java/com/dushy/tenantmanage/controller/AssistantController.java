@@ -1,5 +1,7 @@
 package com.dushy.tenantmanage.controller;
 
+import com.dushy.tenantmanage.audit.AuditEventPublisher;
+import com.dushy.tenantmanage.audit.EntityDiffers;
 import com.dushy.tenantmanage.dto.AssistantDto;
 import com.dushy.tenantmanage.dto.request.AddAssistantRequest;
 import com.dushy.tenantmanage.dto.request.UpdatePermissionsRequest;
@@ -7,12 +9,14 @@ import com.dushy.tenantmanage.entity.Properties;
 import com.dushy.tenantmanage.entity.PropertyAccess;
 import com.dushy.tenantmanage.entity.User;
 import com.dushy.tenantmanage.enums.AccessLevel;
+import com.dushy.tenantmanage.enums.AuditAction;
 import com.dushy.tenantmanage.exception.ResourceNotFoundException;
 import com.dushy.tenantmanage.repository.PropertiesRepository;
 import com.dushy.tenantmanage.repository.PropertyAccessRepository;
 import com.dushy.tenantmanage.repository.UserRepository;
 import com.dushy.tenantmanage.security.CustomUserDetailsService;
 import com.dushy.tenantmanage.security.PropertyAuthorizationService;
+import com.dushy.tenantmanage.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,7 +26,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/properties/{propertyId}/assistants")
@@ -33,17 +36,23 @@ public class AssistantController {
     private final UserRepository userRepository;
     private final PropertyAccessRepository propertyAccessRepository;
     private final PropertiesRepository propertiesRepository;
+    private final AuditEventPublisher auditEventPublisher;
+    private final UserService userService;
 
     public AssistantController(PropertyAuthorizationService authorizationService,
             CustomUserDetailsService userDetailsService,
             UserRepository userRepository,
             PropertyAccessRepository propertyAccessRepository,
-            PropertiesRepository propertiesRepository) {
+            PropertiesRepository propertiesRepository,
+            AuditEventPublisher auditEventPublisher,
+            UserService userService) {
         this.authorizationService = authorizationService;
         this.userDetailsService = userDetailsService;
         this.userRepository = userRepository;
         this.propertyAccessRepository = propertyAccessRepository;
         this.propertiesRepository = propertiesRepository;
+        this.auditEventPublisher = auditEventPublisher;
+        this.userService = userService;
     }
 
     private User getCurrentUser() {
@@ -81,8 +90,10 @@ public class AssistantController {
                 .build();
 
         access = propertyAccessRepository.save(access);
+        auditEventPublisher.publish(PropertyAccess.class, access.getId(), AuditAction.GRANT,
+                EntityDiffers.PROPERTY_ACCESS.created(access));
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(toDto(access));
+        return ResponseEntity.status(HttpStatus.CREATED).body(AssistantDto.from(access));
     }
 
     @GetMapping
@@ -90,12 +101,7 @@ public class AssistantController {
         User currentUser = getCurrentUser();
         authorizationService.checkPropertyOwner(currentUser.getId(), propertyId);
 
-        List<PropertyAccess> assistants = propertyAccessRepository.findByPropertyIdAndIsActiveTrue(propertyId);
-        List<AssistantDto> dtos = assistants.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(userService.getPropertyAssistants(propertyId));
     }
 
     @PutMapping("/{userId}")
@@ -109,10 +115,13 @@ public class AssistantController {
         PropertyAccess access = propertyAccessRepository.findByPropertyIdAndUserIdAndIsActiveTrue(propertyId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Assistant", userId));
 
+        Object[] before = EntityDiffers.PROPERTY_ACCESS.snapshot(access);
         access.setPermissions(request.getPermissions());
         access = propertyAccessRepository.save(access);
+        auditEventPublisher.publish(PropertyAccess.class, access.getId(), AuditAction.UPDATE,
+                EntityDiffers.PROPERTY_ACCESS.diff(before, access));
 
-        return ResponseEntity.ok(toDto(access));
+        return ResponseEntity.ok(AssistantDto.from(access));
     }
 
     @DeleteMapping("/{userId}")
@@ -124,20 +133,13 @@ public class AssistantController {
         PropertyAccess access = propertyAccessRepository.findByPropertyIdAndUserIdAndIsActiveTrue(propertyId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Assistant", userId));
 
+        Object[] before = EntityDiffers.PROPERTY_ACCESS.snapshot(access);
         access.setIsActive(false);
         access.setRevokedAt(java.time.LocalDateTime.now());
         propertyAccessRepository.save(access);
+        auditEventPublisher.publish(PropertyAccess.class, access.getId(), AuditAction.REVOKE,
+                EntityDiffers.PROPERTY_ACCESS.diff(before, access));
 
         return ResponseEntity.noContent().build();
     }
-
-    private AssistantDto toDto(PropertyAccess access) {
-        return AssistantDto.builder()
-                .userId(access.getUser().getId())
-                .email(access.getUser().getEmail())
-                .fullName(access.getUser().getFullName())
-                .permissions(access.getPermissions())
-                .isActive(access.getIsActive())
-                .build();
-    }
 }
@@ -0,0 +1,113 @@
+package com.dushy.tenantmanage.controller;
+
+import com.dushy.tenantmanage.datasource.ReportWorkload;
+import com.dushy.tenantmanage.dto.AuditLogPageDto;
+import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.exception.AccessDeniedException;
+import com.dushy.tenantmanage.exception.InvalidOperationException;
+import com.dushy.tenantmanage.security.CustomUserDetailsService;
+import com.dushy.tenantmanage.security.PropertyAuthorizationService;
+import com.dushy.tenantmanage.service.AuditLogService;
+import com.dushy.tenantmanage.service.UserService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * REST Controller for reading the audit log.
+ * Entity history requires access to the entity's property; user activity is
+ * visible to the user themselves and to the owner they assist.
+ */
+@RestController
+@ReportWorkload
+@RequestMapping("/api/audit-logs")
+public class AuditLogController {
+
+    private final AuditLogService auditLogService;
+    private final UserService userService;
+    private final CustomUserDetailsService userDetailsService;
+    private final PropertyAuthorizationService authorizationService;
+
+    public AuditLogController(AuditLogService auditLogService,
+            UserService userService,
+            CustomUserDetailsService userDetailsService,
+            PropertyAuthorizationService authorizationService) {
+        this.auditLogService = auditLogService;
+        this.userService = userService;
+        this.userDetailsService = userDetailsService;
+        this.authorizationService = authorizationService;
+    }
+
+    private User getCurrentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return userDetailsService.loadUserEntityByEmail(auth.getName());
+    }
+
+    @GetMapping("/entities/{entityType}/{entityId}")
+    public ResponseEntity<AuditLogPageDto> getEntityHistory(@PathVariable String entityType,
+            @PathVariable Long entityId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        User currentUser = getCurrentUser();
+        checkEntityAccess(currentUser, entityType, entityId);
+
+        return ResponseEntity.ok(auditLogService.getEntityHistory(entityType, entityId, cursor, limit));
+    }
+
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<AuditLogPageDto> getUserActivity(@PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        User currentUser = getCurrentUser();
+        if (!visibleUserIds(currentUser).contains(userId)) {
+            throw new AccessDeniedException("User activity", userId);
+        }
+
+        return ResponseEntity.ok(auditLogService.getUserActivity(userId, cursor, limit));
+    }
+
+    @GetMapping
+    public ResponseEntity<AuditLogPageDto> getActivityBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        User currentUser = getCurrentUser();
+        // Scoped to changes by the current user and their assistants
+        return ResponseEntity.ok(auditLogService.getActivityBetween(
+                visibleUserIds(currentUser), from, to, cursor, limit));
+    }
+
+    private List<Long> visibleUserIds(User currentUser) {
+        List<Long> userIds = new ArrayList<>();
+        userIds.add(currentUser.getId());
+        userService.getAssistants(currentUser.getId()).forEach(assistant -> userIds.add(assistant.id()));
+        return userIds;
+    }
+
+    private void checkEntityAccess(User currentUser, String entityType, Long entityId) {
+        if ("User".equals(entityType)) {
+            if (!entityId.equals(currentUser.getId())) {
+                throw new AccessDeniedException("User", entityId);
+            }
+            return;
+        }
+        Long propertyId = switch (entityType) {
+            case "Properties" -> entityId;
+            case "Floor" -> authorizationService.getPropertyIdFromFloor(entityId);
+            case "Room" -> authorizationService.getPropertyIdFromRoom(entityId);
+            case "Tenant" -> authorizationService.getPropertyIdFromTenant(entityId);
+            case "RentAgreement" -> authorizationService.getPropertyIdFromAgreement(entityId);
+            case "RentPayment" -> authorizationService.getPropertyIdFromPayment(entityId);
+            case "PropertyAccess" -> authorizationService.getPropertyIdFromAccess(entityId);
+            default -> throw new InvalidOperationException("Audit history is not available for " + entityType);
+        };
+        authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
+    }
+}
@@ -1,36 +1,45 @@
 package com.dushy.tenantmanage.controller;
 
+import com.dushy.tenantmanage.cache.DashboardCache;
+import com.dushy.tenantmanage.datasource.ReportWorkload;
 import com.dushy.tenantmanage.dto.DashboardSummaryDto;
 import com.dushy.tenantmanage.dto.TrendDataDto;
 import com.dushy.tenantmanage.entity.User;
 import com.dushy.tenantmanage.security.CustomUserDetailsService;
 import com.dushy.tenantmanage.security.PropertyAuthorizationService;
-import com.dushy.tenantmanage.service.DashboardService;
+import com.dushy.tenantmanage.web.DashboardEventStream;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
 /**
  * REST Controller for dashboard and analytics.
  * All endpoints are secured with property-level authorization.
+ * Figures are served from {@link DashboardCache}.
  */
 @RestController
+@ReportWorkload
 @RequestMapping("/api/dashboard")
 public class DashboardController {
 
-    private final DashboardService dashboardService;
+    private final DashboardCache dashboardCache;
     private final CustomUserDetailsService userDetailsService;
     private final PropertyAuthorizationService authorizationService;
+    private final DashboardEventStream dashboardEventStream;
 
-    public DashboardController(DashboardService dashboardService,
+    public DashboardController(DashboardCache dashboardCache,
             CustomUserDetailsService userDetailsService,
-            PropertyAuthorizationService authorizationService) {
-        this.dashboardService = dashboardService;
+            PropertyAuthorizationService authorizationService,
+            DashboardEventStream dashboardEventStream) {
+        this.dashboardCache = dashboardCache;
         this.userDetailsService = userDetailsService;
         this.authorizationService = authorizationService;
+        this.dashboardEventStream = dashboardEventStream;
     }
 
     private User getCurrentUser() {
@@ -42,17 +51,24 @@ public class DashboardController {
     public ResponseEntity<DashboardSummaryDto> getDashboardSummary() {
         User currentUser = getCurrentUser();
         // Already scoped by userId - only shows user's accessible properties
-        DashboardSummaryDto summary = dashboardService.getDashboardSummary(currentUser.getId());
+        DashboardSummaryDto summary = dashboardCache.getDashboardSummary(currentUser.getId());
         return ResponseEntity.ok(summary);
     }
 
+    @GetMapping(path = "/summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboardSummary() {
+        User currentUser = getCurrentUser();
+        // Full summary first, then only the figures that change; replaces polling /summary
+        return dashboardEventStream.subscribe(currentUser.getId());
+    }
+
     @GetMapping("/summary/property/{propertyId}")
     public ResponseEntity<DashboardSummaryDto> getPropertySummary(@PathVariable Long propertyId) {
         User currentUser = getCurrentUser();
         // Check read access to property
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
 
-        DashboardSummaryDto summary = dashboardService.getPropertySummary(propertyId);
+        DashboardSummaryDto summary = dashboardCache.getPropertySummary(propertyId);
         return ResponseEntity.ok(summary);
     }
 
@@ -61,7 +77,7 @@ public class DashboardController {
             @RequestParam(defaultValue = "6") int months) {
         User currentUser = getCurrentUser();
         // Get rent trends for user's accessible properties only
-        List<TrendDataDto> trends = dashboardService.getRentTrendsForUser(currentUser.getId(), months);
+        List<TrendDataDto> trends = dashboardCache.getRentTrendsForUser(currentUser.getId(), months);
         return ResponseEntity.ok(trends);
     }
 
@@ -70,7 +86,7 @@ public class DashboardController {
             @RequestParam(defaultValue = "6") int months) {
         User currentUser = getCurrentUser();
         // Get occupancy trends for user's accessible properties only
-        List<TrendDataDto> trends = dashboardService.getOccupancyTrendsForUser(currentUser.getId(), months);
+        List<TrendDataDto> trends = dashboardCache.getOccupancyTrendsForUser(currentUser.getId(), months);
         return ResponseEntity.ok(trends);
     }
 }
@@ -1,14 +1,16 @@
 package com.dushy.tenantmanage.controller;
 
+import com.dushy.tenantmanage.cache.ConditionalGet;
 import com.dushy.tenantmanage.dto.BulkFloorDto;
 import com.dushy.tenantmanage.dto.BulkRoomDto;
 import com.dushy.tenantmanage.dto.FloorDto;
 import com.dushy.tenantmanage.dto.PropertyDto;
+import com.dushy.tenantmanage.dto.PropertyTreeDto;
 import com.dushy.tenantmanage.dto.RoomDto;
 import com.dushy.tenantmanage.dto.RoomInfoDto;
-import com.dushy.tenantmanage.entity.Floor;
-import com.dushy.tenantmanage.entity.Properties;
-import com.dushy.tenantmanage.entity.Room;
+import com.dushy.tenantmanage.dto.response.FloorResponse;
+import com.dushy.tenantmanage.dto.response.PropertyResponse;
+import com.dushy.tenantmanage.dto.response.RoomResponse;
 import com.dushy.tenantmanage.entity.User;
 import com.dushy.tenantmanage.security.CustomUserDetailsService;
 import com.dushy.tenantmanage.security.PropertyAuthorizationService;
@@ -19,13 +21,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST Controller for property management.
  * Handles property hierarchy: Property -> Floor -> Room.
  * All endpoints are secured with property-level authorization.
+ * Property-scoped reads support conditional GET via {@link ConditionalGet}.
  */
 @RestController
 @RequestMapping("/api")
@@ -34,13 +39,16 @@ public class PropertyController {
     private final PropertyService propertyService;
     private final CustomUserDetailsService userDetailsService;
     private final PropertyAuthorizationService authorizationService;
+    private final ConditionalGet conditionalGet;
 
     public PropertyController(PropertyService propertyService,
             CustomUserDetailsService userDetailsService,
-            PropertyAuthorizationService authorizationService) {
+            PropertyAuthorizationService authorizationService,
+            ConditionalGet conditionalGet) {
         this.propertyService = propertyService;
         this.userDetailsService = userDetailsService;
         this.authorizationService = authorizationService;
+        this.conditionalGet = conditionalGet;
     }
 
     private User getCurrentUser() {
@@ -51,49 +59,41 @@ public class PropertyController {
     // ==================== PROPERTY ENDPOINTS ====================
 
     @PostMapping("/properties")
-    public ResponseEntity<Properties> createProperty(@Valid @RequestBody PropertyDto propertyDto) {
+    public ResponseEntity<PropertyResponse> createProperty(@Valid @RequestBody PropertyDto propertyDto) {
         User currentUser = getCurrentUser();
-        Properties property = propertyService.createProperty(propertyDto, currentUser.getId());
+        PropertyResponse property = propertyService.createProperty(propertyDto, currentUser.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(property);
     }
 
     @GetMapping("/properties")
-    public ResponseEntity<List<Properties>> getMyProperties(
+    public ResponseEntity<List<PropertyResponse>> getMyProperties(
             @RequestParam(required = false, defaultValue = "all") String mode,
-            @RequestParam(required = false) Long ownerId) {
+            @RequestParam(required = false) Long ownerId,
+            WebRequest request) {
         User currentUser = getCurrentUser();
 
-        List<Properties> properties;
-        if ("owner".equalsIgnoreCase(mode)) {
-            // Only properties where user is the owner
-            properties = authorizationService.getPropertiesAsOwner(currentUser.getId());
-        } else if ("assistant".equalsIgnoreCase(mode)) {
-            // Only properties where user is an assistant, optionally filtered by owner
-            properties = authorizationService.getPropertiesAsAssistant(currentUser.getId(), ownerId);
-        } else {
-            // Default: all accessible properties (owned + assistant access)
-            properties = authorizationService.getAccessibleProperties(currentUser.getId());
-        }
-        return ResponseEntity.ok(properties);
+        // Every mode returns a subset of the accessible properties, so their versions validate it
+        Set<Long> accessiblePropertyIds = authorizationService.getAccessiblePropertyIds(currentUser.getId());
+        return conditionalGet.ok(request, accessiblePropertyIds,
+                () -> propertyService.getAccessibleProperties(currentUser.getId(), mode, ownerId));
     }
 
     @GetMapping("/properties/{id}")
-    public ResponseEntity<Properties> getPropertyById(@PathVariable Long id) {
+    public ResponseEntity<PropertyResponse> getPropertyById(@PathVariable Long id, WebRequest request) {
         User currentUser = getCurrentUser();
         // Check access before returning property
         authorizationService.checkPropertyAccess(currentUser.getId(), id);
-        Properties property = propertyService.getPropertyById(id);
-        return ResponseEntity.ok(property);
+        return conditionalGet.ok(request, List.of(id),
+                () -> propertyService.getPropertyById(id));
     }
 
     @PutMapping("/properties/{id}")
-    public ResponseEntity<Properties> updateProperty(@PathVariable Long id,
+    public ResponseEntity<PropertyResponse> updateProperty(@PathVariable Long id,
             @Valid @RequestBody PropertyDto propertyDto) {
         User currentUser = getCurrentUser();
         // Only owner can update property
         authorizationService.checkPropertyOwner(currentUser.getId(), id);
-        Properties property = propertyService.updateProperty(id, propertyDto);
-        return ResponseEntity.ok(property);
+        return ResponseEntity.ok(propertyService.updateProperty(id, propertyDto));
     }
 
     @DeleteMapping("/properties/{id}")
@@ -106,56 +106,70 @@ public class PropertyController {
     }
 
     @GetMapping("/properties/{propertyId}/rooms")
-    public ResponseEntity<List<Room>> getRoomsByProperty(@PathVariable Long propertyId) {
+    public ResponseEntity<List<RoomResponse>> getRoomsByProperty(@PathVariable Long propertyId, WebRequest request) {
         User currentUser = getCurrentUser();
         // Check access to property
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
-        List<Room> rooms = propertyService.getRoomsByProperty(propertyId);
-        return ResponseEntity.ok(rooms);
+        return conditionalGet.ok(request, List.of(propertyId),
+                () -> propertyService.getRoomsByProperty(propertyId));
+    }
+
+    @GetMapping("/properties/{propertyId}/tree")
+    public ResponseEntity<PropertyTreeDto> getPropertyTree(@PathVariable Long propertyId,
+            @RequestParam(required = false) Set<String> include,
+            WebRequest request) {
+        User currentUser = getCurrentUser();
+        // Check access to property
+        authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
+
+        // Default: full tree; otherwise only the requested levels below floors
+        boolean includeTenants = include == null || include.contains("tenants");
+        boolean includeRooms = includeTenants || include.contains("rooms");
+        return conditionalGet.ok(request, List.of(propertyId),
+                () -> propertyService.getPropertyTree(propertyId, includeRooms, includeTenants));
     }
 
     // ==================== FLOOR ENDPOINTS ====================
 
     @GetMapping("/properties/{propertyId}/floors")
-    public ResponseEntity<List<Floor>> getFloorsByProperty(@PathVariable Long propertyId) {
+    public ResponseEntity<List<FloorResponse>> getFloorsByProperty(@PathVariable Long propertyId, WebRequest request) {
         User currentUser = getCurrentUser();
         // Check access to property
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
-        List<Floor> floors = propertyService.getFloorsByProperty(propertyId);
-        return ResponseEntity.ok(floors);
+        return conditionalGet.ok(request, List.of(propertyId),
+                () -> propertyService.getFloorsByProperty(propertyId));
     }
 
     @PostMapping("/properties/{propertyId}/floors")
-    public ResponseEntity<Floor> addFloor(@PathVariable Long propertyId,
+    public ResponseEntity<FloorResponse> addFloor(@PathVariable Long propertyId,
             @Valid @RequestBody FloorDto floorDto) {
         User currentUser = getCurrentUser();
         // Require MANAGE_ROOMS permission
         authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_ROOMS);
-        Floor floor = propertyService.addFloor(floorDto, propertyId);
+        FloorResponse floor = propertyService.addFloor(floorDto, propertyId);
         return ResponseEntity.status(HttpStatus.CREATED).body(floor);
     }
 
     @GetMapping("/floors/{floorId}")
-    public ResponseEntity<Floor> getFloorById(@PathVariable Long floorId) {
+    public ResponseEntity<FloorResponse> getFloorById(@PathVariable Long floorId, WebRequest request) {
         User currentUser = getCurrentUser();
         // Check access via property hierarchy
         Long propertyId = authorizationService.getPropertyIdFromFloor(floorId);
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
-        Floor floor = propertyService.getFloorById(floorId);
-        return ResponseEntity.ok(floor);
+        return conditionalGet.ok(request, List.of(propertyId),
+                () -> propertyService.getFloorById(floorId));
     }
 
     @PutMapping("/floors/{id}")
-    public ResponseEntity<Floor> updateFloor(@PathVariable Long id,
+    public ResponseEntity<FloorResponse> updateFloor(@PathVariable Long id,
             @Valid @RequestBody FloorDto floorDto) {
         User currentUser = getCurrentUser();
         // Require MANAGE_ROOMS permission
         Long propertyId = authorizationService.getPropertyIdFromFloor(id);
         authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_ROOMS);
-        Floor floor = propertyService.updateFloor(id, floorDto);
-        return ResponseEntity.ok(floor);
+        return ResponseEntity.ok(propertyService.updateFloor(id, floorDto));
     }
 
     @DeleteMapping("/floors/{id}")
@@ -170,79 +184,77 @@ public class PropertyController {
     }
 
     @PostMapping("/floors/bulk")
-    public ResponseEntity<List<Floor>> bulkCreateFloors(@Valid @RequestBody BulkFloorDto bulkFloorDto) {
+    public ResponseEntity<List<FloorResponse>> bulkCreateFloors(@Valid @RequestBody BulkFloorDto bulkFloorDto) {
         User currentUser = getCurrentUser();
         // Require MANAGE_ROOMS permission
         authorizationService.checkPropertyPermission(currentUser.getId(), bulkFloorDto.getPropertyId(),
                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_ROOMS);
-        List<Floor> floors = propertyService.bulkCreateFloors(bulkFloorDto);
+        List<FloorResponse> floors = propertyService.bulkCreateFloors(bulkFloorDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(floors);
     }
 
     // ==================== ROOM ENDPOINTS ====================
 
     @GetMapping("/floors/{floorId}/rooms")
-    public ResponseEntity<List<Room>> getRoomsByFloor(@PathVariable Long floorId) {
+    public ResponseEntity<List<RoomResponse>> getRoomsByFloor(@PathVariable Long floorId, WebRequest request) {
         User currentUser = getCurrentUser();
         // Check access via property hierarchy
         Long propertyId = authorizationService.getPropertyIdFromFloor(floorId);
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
-        List<Room> rooms = propertyService.getRoomsByFloor(floorId);
-        return ResponseEntity.ok(rooms);
+        return conditionalGet.ok(request, List.of(propertyId),
+                () -> propertyService.getRoomsByFloor(floorId));
     }
 
     @GetMapping("/floors/{floorId}/rooms/info")
-    public ResponseEntity<List<RoomInfoDto>> getRoomsInfoByFloor(@PathVariable Long floorId) {
+    public ResponseEntity<List<RoomInfoDto>> getRoomsInfoByFloor(@PathVariable Long floorId, WebRequest request) {
         User currentUser = getCurrentUser();
         // Check access via property hierarchy
         Long propertyId = authorizationService.getPropertyIdFromFloor(floorId);
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
-        List<RoomInfoDto> roomsInfo = propertyService.getRoomsInfoByFloor(floorId);
-        return ResponseEntity.ok(roomsInfo);
+        return conditionalGet.ok(request, List.of(propertyId), () -> propertyService.getRoomsInfoByFloor(floorId));
     }
 
     @GetMapping("/floors/{floorId}/rooms/available")
-    public ResponseEntity<List<Room>> getAvailableRooms(@PathVariable Long floorId) {
+    public ResponseEntity<List<RoomResponse>> getAvailableRooms(@PathVariable Long floorId, WebRequest request) {
         User currentUser = getCurrentUser();
         // Check access via property hierarchy
         Long propertyId = authorizationService.getPropertyIdFromFloor(floorId);
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
-        List<Room> rooms = propertyService.getAvailableRoomsByFloor(floorId);
-        return ResponseEntity.ok(rooms);
+        return conditionalGet.ok(request, List.of(propertyId),
+                () -> propertyService.getAvailableRoomsByFloor(floorId));
     }
 
     @PostMapping("/floors/{floorId}/rooms")
-    public ResponseEntity<Room> addRoom(@PathVariable Long floorId,
+    public ResponseEntity<RoomResponse> addRoom(@PathVariable Long floorId,
             @Valid @RequestBody RoomDto roomDto) {
         User currentUser = getCurrentUser();
         // Require MANAGE_ROOMS permission
         Long propertyId = authorizationService.getPropertyIdFromFloor(floorId);
         authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_ROOMS);
-        Room room = propertyService.addRoom(roomDto, floorId);
+        RoomResponse room = propertyService.addRoom(roomDto, floorId);
         return ResponseEntity.status(HttpStatus.CREATED).body(room);
     }
 
     @GetMapping("/rooms/{roomId}")
-    public ResponseEntity<Room> getRoomById(@PathVariable Long roomId) {
+    public ResponseEntity<RoomResponse> getRoomById(@PathVariable Long roomId, WebRequest request) {
         User currentUser = getCurrentUser();
         // Check access via property hierarchy
         Long propertyId = authorizationService.getPropertyIdFromRoom(roomId);
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
-        Room room = propertyService.getRoomById(roomId);
-        return ResponseEntity.ok(room);
+        return conditionalGet.ok(request, List.of(propertyId),
+                () -> propertyService.getRoomById(roomId));
     }
 
     @PutMapping("/rooms/{id}")
-    public ResponseEntity<Room> updateRoom(@PathVariable Long id,
+    public ResponseEntity<RoomResponse> updateRoom(@PathVariable Long id,
             @Valid @RequestBody RoomDto roomDto) {
         User currentUser = getCurrentUser();
         // Require MANAGE_ROOMS permission
         Long propertyId = authorizationService.getPropertyIdFromRoom(id);
         authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_ROOMS);
-        Room room = propertyService.updateRoom(id, roomDto);
-        return ResponseEntity.ok(room);
+        return ResponseEntity.ok(propertyService.updateRoom(id, roomDto));
     }
 
     @DeleteMapping("/rooms/{id}")
@@ -257,26 +269,26 @@ public class PropertyController {
     }
 
     @GetMapping("/rooms/vacant")
-    public ResponseEntity<List<Room>> getVacantRooms() {
+    public ResponseEntity<List<RoomResponse>> getVacantRooms() {
         User currentUser = getCurrentUser();
         // Get all vacant rooms, then filter by accessible properties
-        List<Room> allVacantRooms = propertyService.getVacantRooms();
-        List<Room> accessibleRooms = allVacantRooms.stream()
+        List<RoomResponse> allVacantRooms = propertyService.getVacantRooms();
+        List<RoomResponse> accessibleRooms = allVacantRooms.stream()
                 .filter(room -> authorizationService.hasPropertyAccess(
                         currentUser.getId(),
-                        room.getFloor().getProperty().getId()))
+                        room.propertyId()))
                 .toList();
         return ResponseEntity.ok(accessibleRooms);
     }
 
     @PostMapping("/rooms/bulk")
-    public ResponseEntity<List<Room>> bulkCreateRooms(@Valid @RequestBody BulkRoomDto bulkRoomDto) {
+    public ResponseEntity<List<RoomResponse>> bulkCreateRooms(@Valid @RequestBody BulkRoomDto bulkRoomDto) {
         User currentUser = getCurrentUser();
         // Require MANAGE_ROOMS permission
         Long propertyId = authorizationService.getPropertyIdFromFloor(bulkRoomDto.getFloorId());
         authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_ROOMS);
-        List<Room> rooms = propertyService.bulkCreateRooms(bulkRoomDto);
+        List<RoomResponse> rooms = propertyService.bulkCreateRooms(bulkRoomDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(rooms);
     }
 }
@@ -1,16 +1,20 @@
 package com.dushy.tenantmanage.controller;
 
+import com.dushy.tenantmanage.datasource.ReportWorkload;
 import com.dushy.tenantmanage.dto.BulkPaymentDto;
 import com.dushy.tenantmanage.dto.DueRentDto;
 import com.dushy.tenantmanage.dto.RentPaymentDto;
 import com.dushy.tenantmanage.dto.RentPaymentResponseDto;
 import com.dushy.tenantmanage.dto.RentSummaryDto;
-import com.dushy.tenantmanage.entity.RentAgreement;
-import com.dushy.tenantmanage.entity.RentPayment;
+import com.dushy.tenantmanage.dto.response.ArrearsAgingPageResponse;
+import com.dushy.tenantmanage.dto.response.RentAgreementResponse;
+import com.dushy.tenantmanage.dto.response.RentPaymentResponse;
 import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.enums.ArrearsSort;
 import com.dushy.tenantmanage.security.CustomUserDetailsService;
 import com.dushy.tenantmanage.security.PropertyAuthorizationService;
 import com.dushy.tenantmanage.service.RentService;
+import com.dushy.tenantmanage.web.StreamingJson;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -18,10 +22,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * REST Controller for rent management.
@@ -34,13 +42,16 @@ public class RentController {
         private final RentService rentService;
         private final CustomUserDetailsService userDetailsService;
         private final PropertyAuthorizationService authorizationService;
+        private final StreamingJson streamingJson;
 
         public RentController(RentService rentService,
                         CustomUserDetailsService userDetailsService,
-                        PropertyAuthorizationService authorizationService) {
+                        PropertyAuthorizationService authorizationService,
+                        StreamingJson streamingJson) {
                 this.rentService = rentService;
                 this.userDetailsService = userDetailsService;
                 this.authorizationService = authorizationService;
+                this.streamingJson = streamingJson;
         }
 
         private User getCurrentUser() {
@@ -48,10 +59,24 @@ public class RentController {
                 return userDetailsService.loadUserEntityByEmail(auth.getName());
         }
 
+        /**
+         * Keep the items the user may see financials for. The permission is
+         * checked once per distinct property rather than once per item.
+         */
+        private <T> List<T> filterByFinancialAccess(List<T> items, Long userId, Function<T, Long> propertyIdOf) {
+                Map<Long, Boolean> allowed = new HashMap<>();
+                return items.stream()
+                                .filter(item -> allowed.computeIfAbsent(propertyIdOf.apply(item),
+                                                propertyId -> authorizationService.hasPropertyPermission(userId,
+                                                                propertyId,
+                                                                com.dushy.tenantmanage.enums.PropertyPermission.VIEW_FINANCIALS)))
+                                .toList();
+        }
+
         // ==================== PAYMENT ENDPOINTS ====================
 
         @PostMapping("/payments/tenant/{tenantId}")
-        public ResponseEntity<RentPayment> recordPayment(@PathVariable Long tenantId,
+        public ResponseEntity<RentPaymentResponse> recordPayment(@PathVariable Long tenantId,
                         @Valid @RequestBody RentPaymentDto paymentDto) {
                 User currentUser = getCurrentUser();
                 // Require MANAGE_PAYMENTS permission
@@ -59,63 +84,58 @@ public class RentController {
                 authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_PAYMENTS);
 
-                RentPayment payment = rentService.recordPayment(paymentDto, tenantId, currentUser.getId());
+                RentPaymentResponse payment = rentService.recordPayment(paymentDto, tenantId, currentUser.getId());
                 return ResponseEntity.status(HttpStatus.CREATED).body(payment);
         }
 
         @GetMapping("/payments/tenant/{tenantId}")
-        public ResponseEntity<List<RentPayment>> getPaymentsByTenant(@PathVariable Long tenantId) {
+        public ResponseEntity<List<RentPaymentResponse>> getPaymentsByTenant(@PathVariable Long tenantId) {
                 User currentUser = getCurrentUser();
                 // Check VIEW_FINANCIALS permission
                 Long propertyId = authorizationService.getPropertyIdFromTenant(tenantId);
                 authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                                 com.dushy.tenantmanage.enums.PropertyPermission.VIEW_FINANCIALS);
 
-                List<RentPayment> payments = rentService.getPaymentsByTenant(tenantId);
-                return ResponseEntity.ok(payments);
+                return ResponseEntity.ok(rentService.getPaymentsByTenant(tenantId));
         }
 
         @GetMapping("/payments/month/{month}")
-        public ResponseEntity<List<RentPayment>> getPaymentsByMonth(
+        public ResponseEntity<List<RentPaymentResponse>> getPaymentsByMonth(
                         @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate month) {
                 User currentUser = getCurrentUser();
                 // Get all payments and filter by accessible properties
-                List<RentPayment> allPayments = rentService.getPaymentsByMonth(month);
+                List<RentPaymentResponse> allPayments = rentService.getPaymentsByMonth(month);
 
-                List<RentPayment> accessiblePayments = allPayments.stream()
-                                .filter(payment -> authorizationService.hasPropertyPermission(
-                                                currentUser.getId(),
-                                                payment.getTenant().getRoom().getFloor().getProperty().getId(),
-                                                com.dushy.tenantmanage.enums.PropertyPermission.VIEW_FINANCIALS))
-                                .toList();
+                List<RentPaymentResponse> accessiblePayments = filterByFinancialAccess(allPayments,
+                                currentUser.getId(), RentPaymentResponse::propertyId);
                 return ResponseEntity.ok(accessiblePayments);
         }
 
         @GetMapping("/payments/search")
-        public ResponseEntity<List<RentPaymentResponseDto>> searchPayments(
+        @ReportWorkload
+        public ResponseEntity<StreamingResponseBody> searchPayments(
                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
                         @RequestParam(required = false) Long propertyId,
                         @RequestParam(required = false) Long roomId) {
                 User currentUser = getCurrentUser();
 
-                // Get payments with filters
-                List<RentPaymentResponseDto> allPayments = rentService.searchPaymentsWithFilters(startDate, endDate,
-                                propertyId,
-                                roomId);
-
-                // Filter by accessible properties
-                List<RentPaymentResponseDto> accessiblePayments = allPayments.stream()
-                                .filter(payment -> authorizationService.hasPropertyPermission(
-                                                currentUser.getId(),
-                                                payment.getPropertyId(),
-                                                com.dushy.tenantmanage.enums.PropertyPermission.VIEW_FINANCIALS))
-                                .toList();
-                return ResponseEntity.ok(accessiblePayments);
+                // Decide up front which properties' payments may be shown; the query is
+                // restricted to them, so rows can stream without further checks
+                List<Long> candidates = propertyId != null
+                                ? List.of(propertyId)
+                                : List.copyOf(authorizationService.getAccessiblePropertyIds(currentUser.getId()));
+                List<Long> financialPropertyIds = filterByFinancialAccess(candidates, currentUser.getId(),
+                                Function.identity());
+
+                // Large date ranges: rows are read a page at a time and written out as they arrive
+                return streamingJson.array(RentPaymentResponseDto.class,
+                                rows -> rentService.streamPaymentsWithFilters(startDate, endDate,
+                                                financialPropertyIds, roomId, rows));
         }
 
         @PostMapping("/payments/bulk")
-        public ResponseEntity<List<RentPayment>> bulkRecordPayments(
+        public ResponseEntity<List<RentPaymentResponse>> bulkRecordPayments(
                         @Valid @RequestBody BulkPaymentDto bulkPaymentDto) {
                 User currentUser = getCurrentUser();
                 // Verify write access for all tenants in the bulk payment
@@ -125,7 +145,8 @@ public class RentController {
                                         com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_PAYMENTS);
                 }
 
-                List<RentPayment> payments = rentService.bulkRecordPayments(bulkPaymentDto, currentUser.getId());
+                List<RentPaymentResponse> payments = rentService.bulkRecordPayments(bulkPaymentDto,
+                                currentUser.getId());
                 return ResponseEntity.status(HttpStatus.CREATED).body(payments);
         }
 
@@ -147,6 +168,7 @@ public class RentController {
         }
 
         @GetMapping("/due/report")
+        @ReportWorkload
         public ResponseEntity<List<DueRentDto>> getDueRentReport(
                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate month) {
                 User currentUser = getCurrentUser();
@@ -155,18 +177,46 @@ public class RentController {
                 // Get all due rent and filter by accessible properties
                 List<DueRentDto> allDueRent = rentService.getDueRentReport(targetMonth);
 
-                List<DueRentDto> accessibleDueRent = allDueRent.stream()
-                                .filter(due -> authorizationService.hasPropertyPermission(
-                                                currentUser.getId(),
-                                                due.getPropertyId(),
-                                                com.dushy.tenantmanage.enums.PropertyPermission.VIEW_FINANCIALS))
-                                .toList();
+                List<DueRentDto> accessibleDueRent = filterByFinancialAccess(allDueRent, currentUser.getId(),
+                                DueRentDto::getPropertyId);
                 return ResponseEntity.ok(accessibleDueRent);
         }
 
+        // ==================== ARREARS AGING ENDPOINTS ====================
+
+        @GetMapping("/arrears/property/{propertyId}")
+        @ReportWorkload
+        public ResponseEntity<ArrearsAgingPageResponse> getPropertyArrears(@PathVariable Long propertyId,
+                        @RequestParam(defaultValue = "TOTAL_DUE") ArrearsSort sort,
+                        @RequestParam(defaultValue = "0") int page,
+                        @RequestParam(defaultValue = "50") int size) {
+                User currentUser = getCurrentUser();
+                // Check VIEW_FINANCIALS permission
+                authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
+                                com.dushy.tenantmanage.enums.PropertyPermission.VIEW_FINANCIALS);
+
+                return ResponseEntity.ok(rentService.getArrearsAging(List.of(propertyId), null, sort, page, size));
+        }
+
+        @GetMapping("/arrears/owner/{ownerId}")
+        @ReportWorkload
+        public ResponseEntity<ArrearsAgingPageResponse> getOwnerArrears(@PathVariable Long ownerId,
+                        @RequestParam(defaultValue = "TOTAL_DUE") ArrearsSort sort,
+                        @RequestParam(defaultValue = "0") int page,
+                        @RequestParam(defaultValue = "50") int size) {
+                User currentUser = getCurrentUser();
+                // The owner's properties among those the user may see financials for
+                List<Long> financialPropertyIds = filterByFinancialAccess(
+                                List.copyOf(authorizationService.getAccessiblePropertyIds(currentUser.getId())),
+                                currentUser.getId(), Function.identity());
+
+                return ResponseEntity.ok(rentService.getArrearsAging(financialPropertyIds, ownerId, sort, page, size));
+        }
+
         // ==================== SUMMARY ENDPOINTS ====================
 
         @GetMapping("/summary/property/{propertyId}")
+        @ReportWorkload
         public ResponseEntity<RentSummaryDto> getRentSummary(@PathVariable Long propertyId) {
                 User currentUser = getCurrentUser();
                 // Check VIEW_FINANCIALS permission
@@ -180,7 +230,7 @@ public class RentController {
         // ==================== AGREEMENT ENDPOINTS ====================
 
         @GetMapping("/agreements/{tenantId}")
-        public ResponseEntity<RentAgreement> getActiveAgreement(@PathVariable Long tenantId) {
+        public ResponseEntity<RentAgreementResponse> getActiveAgreement(@PathVariable Long tenantId) {
                 User currentUser = getCurrentUser();
                 // Check access to tenant's property (Agreements are viewable with VIEW_PROPERTY
                 // or VIEW_FINANCIALS?)
@@ -190,7 +240,7 @@ public class RentController {
                 authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                                 com.dushy.tenantmanage.enums.PropertyPermission.VIEW_PROPERTY);
 
-                Optional<RentAgreement> agreement = rentService.getActiveAgreementByTenant(tenantId);
+                Optional<RentAgreementResponse> agreement = rentService.getActiveAgreementByTenant(tenantId);
                 return agreement.map(ResponseEntity::ok)
                                 .orElse(ResponseEntity.noContent().build());
         }
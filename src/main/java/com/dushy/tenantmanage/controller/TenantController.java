@@ -1,12 +1,14 @@
 package com.dushy.tenantmanage.controller;
 
+import com.dushy.tenantmanage.cache.ConditionalGet;
+import com.dushy.tenantmanage.dto.BulkTenantOperationResultDto;
 import com.dushy.tenantmanage.dto.RentAgreementDto;
 import com.dushy.tenantmanage.dto.TenantDto;
 import com.dushy.tenantmanage.dto.TenantResponseDto;
+import com.dushy.tenantmanage.dto.response.RentAgreementResponse;
+import com.dushy.tenantmanage.dto.request.BulkTenantOperationRequest;
 import com.dushy.tenantmanage.dto.request.CreateTenantRequest;
 import com.dushy.tenantmanage.dto.request.SwapTenantRequest;
-import com.dushy.tenantmanage.entity.RentAgreement;
-import com.dushy.tenantmanage.entity.Tenant;
 import com.dushy.tenantmanage.entity.User;
 import com.dushy.tenantmanage.security.CustomUserDetailsService;
 import com.dushy.tenantmanage.security.PropertyAuthorizationService;
@@ -17,7 +19,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -25,6 +29,7 @@ import java.util.Set;
 /**
  * REST Controller for tenant lifecycle management.
  * All endpoints are secured with property-level authorization.
+ * Tenant reads support conditional GET via {@link ConditionalGet}.
  */
 @RestController
 @RequestMapping("/api")
@@ -33,13 +38,16 @@ public class TenantController {
     private final TenantService tenantService;
     private final CustomUserDetailsService userDetailsService;
     private final PropertyAuthorizationService authorizationService;
+    private final ConditionalGet conditionalGet;
 
     public TenantController(TenantService tenantService,
             CustomUserDetailsService userDetailsService,
-            PropertyAuthorizationService authorizationService) {
+            PropertyAuthorizationService authorizationService,
+            ConditionalGet conditionalGet) {
         this.tenantService = tenantService;
         this.userDetailsService = userDetailsService;
         this.authorizationService = authorizationService;
+        this.conditionalGet = conditionalGet;
     }
 
     private User getCurrentUser() {
@@ -55,37 +63,35 @@ public class TenantController {
         authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_TENANTS);
 
-        Tenant tenant = tenantService.addTenant(
+        TenantResponseDto tenant = tenantService.addTenant(
                 request.getTenant(),
                 request.getRoomId(),
                 request.getAgreement(),
                 currentUser.getId());
-        return ResponseEntity.status(HttpStatus.CREATED).body(tenantService.toResponseDto(tenant));
+        return ResponseEntity.status(HttpStatus.CREATED).body(tenant);
     }
 
     @GetMapping("/tenants")
-    public ResponseEntity<List<TenantResponseDto>> getActiveTenants() {
+    public ResponseEntity<List<TenantResponseDto>> getActiveTenants(WebRequest request) {
         User currentUser = getCurrentUser();
-        // Get all active tenants, then filter by accessible properties
-        List<Tenant> allTenants = tenantService.getActiveTenants();
         Set<Long> accessiblePropertyIds = authorizationService.getAccessiblePropertyIds(currentUser.getId());
 
-        List<Tenant> accessibleTenants = allTenants.stream()
+        // Get all active tenants, then filter by accessible properties
+        return conditionalGet.ok(request, accessiblePropertyIds, () -> tenantService.getActiveTenants().stream()
                 .filter(tenant -> accessiblePropertyIds.contains(
-                        tenant.getRoom().getFloor().getProperty().getId()))
-                .toList();
-        return ResponseEntity.ok(tenantService.toResponseDtos(accessibleTenants));
+                        tenant.getPropertyId()))
+                .toList());
     }
 
     @GetMapping("/tenants/{id}")
-    public ResponseEntity<TenantResponseDto> getTenantById(@PathVariable Long id) {
+    public ResponseEntity<TenantResponseDto> getTenantById(@PathVariable Long id, WebRequest request) {
         User currentUser = getCurrentUser();
         // Check access via tenant's property
         Long propertyId = authorizationService.getPropertyIdFromTenant(id);
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
 
-        Tenant tenant = tenantService.getTenantById(id);
-        return ResponseEntity.ok(tenantService.toResponseDto(tenant));
+        return conditionalGet.ok(request, List.of(propertyId),
+                () -> tenantService.getTenantById(id));
     }
 
     @PutMapping("/tenants/{id}")
@@ -97,8 +103,7 @@ public class TenantController {
         authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_TENANTS);
 
-        Tenant tenant = tenantService.updateTenant(id, tenantDto);
-        return ResponseEntity.ok(tenantService.toResponseDto(tenant));
+        return ResponseEntity.ok(tenantService.updateTenant(id, tenantDto));
     }
 
     @DeleteMapping("/tenants/{id}")
@@ -109,8 +114,7 @@ public class TenantController {
         authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_TENANTS);
 
-        Tenant tenant = tenantService.moveOutTenant(id);
-        return ResponseEntity.ok(tenantService.toResponseDto(tenant));
+        return ResponseEntity.ok(tenantService.moveOutTenant(id));
     }
 
     @PostMapping("/tenants/{id}/swap")
@@ -122,16 +126,44 @@ public class TenantController {
         authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_TENANTS);
 
-        Tenant newTenant = tenantService.swapTenant(
+        TenantResponseDto newTenant = tenantService.swapTenant(
                 id,
                 request.getNewTenant(),
                 request.getAgreement(),
                 currentUser.getId());
-        return ResponseEntity.status(HttpStatus.CREATED).body(tenantService.toResponseDto(newTenant));
+        return ResponseEntity.status(HttpStatus.CREATED).body(newTenant);
+    }
+
+    @PostMapping("/tenants/bulk")
+    public ResponseEntity<List<BulkTenantOperationResultDto>> bulkTenantOperations(
+            @Valid @RequestBody BulkTenantOperationRequest request) {
+        User currentUser = getCurrentUser();
+        // Require MANAGE_TENANTS permission on every property touched by the batch
+        Set<Long> tenantIds = new HashSet<>();
+        Set<Long> roomIds = new HashSet<>();
+        for (BulkTenantOperationRequest.TenantOperation operation : request.getOperations()) {
+            if (operation.getTenantId() != null) {
+                tenantIds.add(operation.getTenantId());
+            }
+            if (operation.getRoomId() != null) {
+                roomIds.add(operation.getRoomId());
+            }
+        }
+        Set<Long> propertyIds = new HashSet<>(authorizationService.getPropertyIdsFromTenants(tenantIds));
+        propertyIds.addAll(authorizationService.getPropertyIdsFromRooms(roomIds));
+        for (Long propertyId : propertyIds) {
+            authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
+                    com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_TENANTS);
+        }
+
+        List<BulkTenantOperationResultDto> results = tenantService.bulkTenantOperations(
+                request.getOperations(),
+                currentUser.getId());
+        return ResponseEntity.ok(results);
     }
 
     @PutMapping("/tenants/{id}/agreement")
-    public ResponseEntity<RentAgreement> updateAgreement(@PathVariable Long id,
+    public ResponseEntity<RentAgreementResponse> updateAgreement(@PathVariable Long id,
             @Valid @RequestBody RentAgreementDto agreementDto) {
         User currentUser = getCurrentUser();
         // Require MANAGE_TENANTS permission
@@ -139,8 +171,7 @@ public class TenantController {
         authorizationService.checkPropertyPermission(currentUser.getId(), propertyId,
                 com.dushy.tenantmanage.enums.PropertyPermission.MANAGE_TENANTS);
 
-        RentAgreement agreement = tenantService.updateAgreement(id, agreementDto);
-        return ResponseEntity.ok(agreement);
+        return ResponseEntity.ok(tenantService.updateAgreement(id, agreementDto));
     }
 
     @GetMapping("/tenants/search")
@@ -152,29 +183,29 @@ public class TenantController {
         if (propertyId != null) {
             // If searching in a specific property, check access
             authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
-            List<Tenant> tenants = tenantService.searchTenants(query, propertyId);
-            return ResponseEntity.ok(tenantService.toResponseDtos(tenants));
+            return ResponseEntity.ok(tenantService.searchTenants(query, propertyId));
         }
 
         // Search across all tenants, then filter by accessible properties
-        List<Tenant> allTenants = tenantService.searchTenants(query, null);
+        List<TenantResponseDto> allTenants = tenantService.searchTenants(query, null);
         Set<Long> accessiblePropertyIds = authorizationService.getAccessiblePropertyIds(currentUser.getId());
 
-        List<Tenant> accessibleTenants = allTenants.stream()
+        List<TenantResponseDto> accessibleTenants = allTenants.stream()
                 .filter(tenant -> accessiblePropertyIds.contains(
-                        tenant.getRoom().getFloor().getProperty().getId()))
+                        tenant.getPropertyId()))
                 .toList();
-        return ResponseEntity.ok(tenantService.toResponseDtos(accessibleTenants));
+        return ResponseEntity.ok(accessibleTenants);
     }
 
     @GetMapping("/properties/{propertyId}/tenants")
-    public ResponseEntity<List<TenantResponseDto>> getTenantsByProperty(@PathVariable Long propertyId) {
+    public ResponseEntity<List<TenantResponseDto>> getTenantsByProperty(@PathVariable Long propertyId,
+            WebRequest request) {
         User currentUser = getCurrentUser();
         // Check access to the property
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
 
-        List<Tenant> tenants = tenantService.getTenantsByProperty(propertyId);
-        return ResponseEntity.ok(tenantService.toResponseDtos(tenants));
+        return conditionalGet.ok(request, List.of(propertyId),
+                () -> tenantService.getTenantsByProperty(propertyId));
     }
 
     @GetMapping("/rooms/{roomId}/tenant")
@@ -184,19 +215,19 @@ public class TenantController {
         Long propertyId = authorizationService.getPropertyIdFromRoom(roomId);
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
 
-        Optional<Tenant> tenant = tenantService.getActiveTenantByRoom(roomId);
-        return tenant.map(t -> ResponseEntity.ok(tenantService.toResponseDto(t)))
+        Optional<TenantResponseDto> tenant = tenantService.getActiveTenantByRoom(roomId);
+        return tenant.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.noContent().build());
     }
 
     @GetMapping("/rooms/{roomId}/tenant-history")
-    public ResponseEntity<List<TenantResponseDto>> getTenantHistoryByRoom(@PathVariable Long roomId) {
+    public ResponseEntity<List<TenantResponseDto>> getTenantHistoryByRoom(@PathVariable Long roomId,
+            WebRequest request) {
         User currentUser = getCurrentUser();
         // Check access via room's property
         Long propertyId = authorizationService.getPropertyIdFromRoom(roomId);
         authorizationService.checkPropertyAccess(currentUser.getId(), propertyId);
 
-        List<TenantResponseDto> history = tenantService.getTenantHistoryByRoom(roomId);
-        return ResponseEntity.ok(history);
+        return conditionalGet.ok(request, List.of(propertyId), () -> tenantService.getTenantHistoryByRoom(roomId));
     }
 }
@@ -6,7 +6,8 @@ import com.dushy.tenantmanage.dto.OwnerDto;
 import com.dushy.tenantmanage.dto.PropertyAccessDto;
 import com.dushy.tenantmanage.dto.UpdatePasswordDto;
 import com.dushy.tenantmanage.dto.UserDto;
-import com.dushy.tenantmanage.entity.PropertyAccess;
+import com.dushy.tenantmanage.dto.response.PropertyAccessResponse;
+import com.dushy.tenantmanage.dto.response.UserResponse;
 import com.dushy.tenantmanage.entity.User;
 import com.dushy.tenantmanage.security.CustomUserDetailsService;
 import com.dushy.tenantmanage.service.UserService;
@@ -46,16 +47,15 @@ public class UserController {
     // ==================== PROFILE ENDPOINTS ====================
 
     @GetMapping("/me")
-    public ResponseEntity<User> getCurrentUserProfile() {
-        User user = getCurrentUser();
-        return ResponseEntity.ok(user);
+    public ResponseEntity<UserResponse> getCurrentUserProfile() {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(userService.getUserById(currentUser.getId()));
     }
 
     @PutMapping("/me")
-    public ResponseEntity<User> updateProfile(@Valid @RequestBody UserDto userDto) {
+    public ResponseEntity<UserResponse> updateProfile(@Valid @RequestBody UserDto userDto) {
         User currentUser = getCurrentUser();
-        User updated = userService.updateProfile(currentUser.getId(), userDto);
-        return ResponseEntity.ok(updated);
+        return ResponseEntity.ok(userService.updateProfile(currentUser.getId(), userDto));
     }
 
     @PutMapping("/me/password")
@@ -68,21 +68,19 @@ public class UserController {
     // ==================== USER MANAGEMENT ENDPOINTS ====================
 
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
         User currentUser = getCurrentUser();
         // Only allow users to view their own profile
         if (!currentUser.getId().equals(id)) {
             throw new com.dushy.tenantmanage.exception.AccessDeniedException("User", id);
         }
-        User user = userService.getUserById(id);
-        return ResponseEntity.ok(user);
+        return ResponseEntity.ok(userService.getUserById(id));
     }
 
     @GetMapping("/assistants")
-    public ResponseEntity<List<User>> getAssistants() {
+    public ResponseEntity<List<UserResponse>> getAssistants() {
         User currentUser = getCurrentUser();
-        List<User> assistants = userService.getAssistants(currentUser.getId());
-        return ResponseEntity.ok(assistants);
+        return ResponseEntity.ok(userService.getAssistants(currentUser.getId()));
     }
 
     @PostMapping("/assistants")
@@ -113,13 +111,14 @@ public class UserController {
     // ==================== ACCESS MANAGEMENT ENDPOINTS ====================
 
     @PostMapping("/access")
-    public ResponseEntity<PropertyAccess> assignPropertyAccess(@Valid @RequestBody PropertyAccessDto accessDto) {
+    public ResponseEntity<PropertyAccessResponse> assignPropertyAccess(
+            @Valid @RequestBody PropertyAccessDto accessDto) {
         User currentUser = getCurrentUser();
 
         // Only property owner can assign access
         authorizationService.checkPropertyOwner(currentUser.getId(), accessDto.getPropertyId());
 
-        PropertyAccess access = userService.assignPropertyAccess(
+        PropertyAccessResponse access = userService.assignPropertyAccess(
                 accessDto.getPropertyId(),
                 accessDto.getUserId(),
                 accessDto.getAccessLevel(),
@@ -128,15 +127,14 @@ public class UserController {
     }
 
     @GetMapping("/{userId}/access")
-    public ResponseEntity<List<PropertyAccess>> getPropertyAccessByUser(@PathVariable Long userId) {
+    public ResponseEntity<List<PropertyAccessResponse>> getPropertyAccessByUser(@PathVariable Long userId) {
         User currentUser = getCurrentUser();
         // Only allow users to view their own access
         if (!currentUser.getId().equals(userId)) {
             throw new com.dushy.tenantmanage.exception.AccessDeniedException("User", userId);
         }
 
-        List<PropertyAccess> accessList = userService.getPropertyAccessByUser(userId);
-        return ResponseEntity.ok(accessList);
+        return ResponseEntity.ok(userService.getPropertyAccessByUser(userId));
     }
 
     @DeleteMapping("/access/{accessId}")
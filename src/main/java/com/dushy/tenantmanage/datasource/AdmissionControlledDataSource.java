@@ -0,0 +1,184 @@
+package com.dushy.tenantmanage.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits how many callers may hold a pooled connection at once, with a
+ * separate lane for report traffic.
+ *
+ * <p>With virtual threads there is no longer a thread pool bounding
+ * concurrency, so thousands of requests can pile onto the connection pool's
+ * hand-off queue at the same moment. A fair semaphore in front of the pool
+ * queues them in arrival order instead; a permit is taken in getConnection and
+ * returned when the connection is closed.
+ *
+ * <p>{@link Workload#REPORT} callers must first take one of a smaller number
+ * of report permits, so reports can never occupy the whole pool and interactive
+ * requests always find a connection. They also give up after a much shorter
+ * timeout. Callers that cannot get a permit fail the same way a pool timeout
+ * would, with {@link SQLTransientConnectionException}.
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxReportConcurrent;
+    private final Semaphore permits;
+    private final Semaphore reportPermits;
+    private final long acquireTimeoutMs;
+    private final long reportAcquireTimeoutMs;
+
+    private final Map<Workload, Timer> waitTimers = new EnumMap<>(Workload.class);
+    private final Map<Workload, Counter> rejectedCounters = new EnumMap<>(Workload.class);
+
+    public AdmissionControlledDataSource(DataSource target, String name, int maxConcurrent, long acquireTimeoutMs,
+            int maxReportConcurrent, long reportAcquireTimeoutMs) {
+        super(target);
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxReportConcurrent = Math.min(maxReportConcurrent, maxConcurrent);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.reportPermits = new Semaphore(this.maxReportConcurrent, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.reportAcquireTimeoutMs = reportAcquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Workload workload = acquire();
+        try {
+            return releasingOnClose(super.getConnection(), workload);
+        } catch (SQLException | RuntimeException e) {
+            release(workload);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Workload workload = acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password), workload);
+        } catch (SQLException | RuntimeException e) {
+            release(workload);
+            throw e;
+        }
+    }
+
+    private Workload acquire() throws SQLException {
+        Workload workload = Workload.current();
+        long start = System.nanoTime();
+        try {
+            if (workload == Workload.REPORT) {
+                long deadline = start + TimeUnit.MILLISECONDS.toNanos(reportAcquireTimeoutMs);
+                if (!reportPermits.tryAcquire(reportAcquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw rejected(workload, start);
+                }
+                if (!permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    reportPermits.release();
+                    throw rejected(workload, start);
+                }
+            } else if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw rejected(workload, start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection permit", e);
+        }
+        recordWait(workload, start);
+        return workload;
+    }
+
+    private void release(Workload workload) {
+        permits.release();
+        if (workload == Workload.REPORT) {
+            reportPermits.release();
+        }
+    }
+
+    private SQLTransientConnectionException rejected(Workload workload, long start) {
+        recordWait(workload, start);
+        Counter counter = rejectedCounters.get(workload);
+        if (counter != null) {
+            counter.increment();
+        }
+        long timeoutMs = workload == Workload.REPORT ? reportAcquireTimeoutMs : acquireTimeoutMs;
+        return new SQLTransientConnectionException(String.format(
+                "%s - %s connection admission timed out after %d ms (%d in use, %d waiting)",
+                name, workload, timeoutMs, maxConcurrent - permits.availablePermits(), permits.getQueueLength()));
+    }
+
+    private void recordWait(Workload workload, long start) {
+        Timer timer = waitTimers.get(workload);
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection, Workload workload) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        // Repeat closes are no-ops, so the pooled connection and the permit go back once
+                        if (released.compareAndSet(false, true)) {
+                            try {
+                                connection.close();
+                            } finally {
+                                release(workload);
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // Bound once at startup, before traffic; the maps are only read afterwards
+        for (Workload workload : Workload.values()) {
+            String tag = workload.name().toLowerCase();
+            waitTimers.put(workload, Timer.builder("datasource.admission.wait")
+                    .tags("pool", name, "workload", tag)
+                    .description("Time spent waiting for a connection permit")
+                    .register(registry));
+            rejectedCounters.put(workload, Counter.builder("datasource.admission.rejected")
+                    .tags("pool", name, "workload", tag)
+                    .description("Connection requests that timed out waiting for a permit")
+                    .register(registry));
+        }
+        Gauge.builder("datasource.admission.waiting", permits, Semaphore::getQueueLength)
+                .tag("pool", name)
+                .register(registry);
+        Gauge.builder("datasource.admission.in-use", permits, p -> maxConcurrent - p.availablePermits())
+                .tag("pool", name)
+                .register(registry);
+        Gauge.builder("datasource.admission.report.in-use", reportPermits,
+                        p -> maxReportConcurrent - p.availablePermits())
+                .tag("pool", name)
+                .register(registry);
+    }
+}
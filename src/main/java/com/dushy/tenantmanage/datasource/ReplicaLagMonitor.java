@@ -0,0 +1,80 @@
+package com.dushy.tenantmanage.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Polls the replica's replay lag. The replica is only used while the last
+ * successful check is recent and reported a lag within the threshold; until
+ * the first check, and whenever the replica cannot be reached, all reads stay
+ * on the primary.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Zero when the replica has replayed everything it received, otherwise the
+    // age of the last replayed transaction. A server not in recovery (e.g. a
+    // second standalone instance used for local testing) reports zero.
+    private static final String LAG_SQL = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final JdbcTemplate replica;
+    private final long maxLagMs;
+    private final long staleAfterMs;
+
+    private volatile long lagMs = -1;
+    private volatile long checkedAt;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, MeterRegistry meterRegistry, long maxLagMs,
+            long checkIntervalMs) {
+        this(new JdbcTemplate(replicaDataSource), meterRegistry, maxLagMs, checkIntervalMs);
+        this.replica.setQueryTimeout(Math.max(1, (int) (maxLagMs / 1000)));
+    }
+
+    ReplicaLagMonitor(JdbcTemplate replica, MeterRegistry meterRegistry, long maxLagMs, long checkIntervalMs) {
+        this.replica = replica;
+        this.maxLagMs = maxLagMs;
+        // A check result older than a few intervals says nothing about the replica now
+        this.staleAfterMs = Math.max(3 * checkIntervalMs, maxLagMs);
+        Gauge.builder("datasource.replica.lag", this, m -> m.lagMs)
+                .baseUnit("milliseconds")
+                .description("Replica replay lag at the last check, -1 if unknown")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        try {
+            Double lag = replica.queryForObject(LAG_SQL, Double.class);
+            long previous = lagMs;
+            lagMs = lag != null ? lag.longValue() : 0;
+            checkedAt = System.currentTimeMillis();
+            if (previous <= maxLagMs && lagMs > maxLagMs) {
+                log.warn("Replica lag {} ms exceeds {} ms, reads fall back to the primary", lagMs, maxLagMs);
+            }
+        } catch (DataAccessException e) {
+            if (lagMs != -1) {
+                log.warn("Replica lag check failed, reads fall back to the primary: {}", e.getMessage());
+            }
+            lagMs = -1;
+        }
+    }
+
+    /**
+     * Whether read-only transactions may currently go to the replica.
+     */
+    public boolean isReplicaUsable() {
+        long lag = lagMs;
+        return lag >= 0 && lag <= maxLagMs && System.currentTimeMillis() - checkedAt <= staleAfterMs;
+    }
+}
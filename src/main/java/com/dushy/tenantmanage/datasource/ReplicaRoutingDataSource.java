@@ -0,0 +1,124 @@
+package com.dushy.tenantmanage.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the
+ * primary. Must sit behind a LazyConnectionDataSourceProxy so the connection is
+ * only fetched once the transaction's read-only flag is known.
+ *
+ * <p>Reads stay on the primary when the {@link ReplicaLagMonitor} reports the
+ * replica as lagging or unreachable, and for a short window after the same
+ * user committed a write, so users always see their own changes.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final int PURGE_THRESHOLD = 1000;
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long readYourWritesMs;
+    private final Map<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+    private final Counter replicaReads;
+    private final Counter primaryWrites;
+    private final Counter lagFallbacks;
+    private final Counter recentWriteFallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+            long readYourWritesMs, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesMs = readYourWritesMs;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        replicaReads = routed(meterRegistry, "replica", "read-only");
+        primaryWrites = routed(meterRegistry, "primary", "read-write");
+        lagFallbacks = routed(meterRegistry, "primary", "replica-lag");
+        recentWriteFallbacks = routed(meterRegistry, "primary", "recent-write");
+    }
+
+    private static Counter routed(MeterRegistry registry, String target, String reason) {
+        return Counter.builder("datasource.routing")
+                .tags("target", target, "reason", reason)
+                .description("Transactional connections by routing decision")
+                .register(registry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Target.PRIMARY;
+        }
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryWrites.increment();
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        if (recentWriters.size() >= PURGE_THRESHOLD) {
+                            purgeExpiredWriters();
+                        }
+                        recentWriters.put(user, System.currentTimeMillis() + readYourWritesMs);
+                    }
+                });
+            }
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            lagFallbacks.increment();
+            return Target.PRIMARY;
+        }
+        if (user != null && wroteRecently(user)) {
+            recentWriteFallbacks.increment();
+            return Target.PRIMARY;
+        }
+        replicaReads.increment();
+        return Target.REPLICA;
+    }
+
+    private boolean wroteRecently(String user) {
+        Long until = recentWriters.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            recentWriters.remove(user, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Drops expired read-your-writes entries of users who have not read since.
+     */
+    private void purgeExpiredWriters() {
+        long now = System.currentTimeMillis();
+        recentWriters.values().removeIf(until -> until < now);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
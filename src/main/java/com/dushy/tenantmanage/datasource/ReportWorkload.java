@@ -0,0 +1,18 @@
+package com.dushy.tenantmanage.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller or handler method as {@link Workload#REPORT} traffic.
+ * Its connections come from the capped report share of the pool and fail
+ * fast when that share is exhausted, so reports cannot starve OLTP requests.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReportWorkload {
+}
@@ -0,0 +1,34 @@
+package com.dushy.tenantmanage.datasource;
+
+/**
+ * Traffic class of the current thread's database work, used by
+ * {@link AdmissionControlledDataSource} to decide which permits it may use.
+ */
+public enum Workload {
+    /**
+     * Short interactive reads and writes (default).
+     */
+    OLTP,
+    /**
+     * Dashboards, analytics and other heavy read-only queries.
+     */
+    REPORT;
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Workload of the current thread, OLTP unless marked otherwise.
+     */
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : OLTP;
+    }
+
+    public static void set(Workload workload) {
+        CURRENT.set(workload);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,34 @@
+package com.dushy.tenantmanage.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Sets the {@link Workload} for handlers annotated with {@link ReportWorkload}.
+ */
+public class WorkloadInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod
+                && (handlerMethod.hasMethodAnnotation(ReportWorkload.class)
+                        || handlerMethod.getBeanType().isAnnotationPresent(ReportWorkload.class))) {
+            Workload.set(Workload.REPORT);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        Workload.clear();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        Workload.clear();
+    }
+}
@@ -1,5 +1,6 @@
 package com.dushy.tenantmanage.dto;
 
+import com.dushy.tenantmanage.entity.PropertyAccess;
 import com.dushy.tenantmanage.enums.PropertyPermission;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,4 +19,17 @@ public class AssistantDto {
     private String fullName;
     private Set<PropertyPermission> permissions;
     private boolean isActive;
+
+    /**
+     * Reads the grant's assistant user, so call inside the transaction that loaded it.
+     */
+    public static AssistantDto from(PropertyAccess access) {
+        return AssistantDto.builder()
+                .userId(access.getUser().getId())
+                .email(access.getUser().getEmail())
+                .fullName(access.getUser().getFullName())
+                .permissions(access.getPermissions())
+                .isActive(access.getIsActive())
+                .build();
+    }
 }
@@ -0,0 +1,28 @@
+package com.dushy.tenantmanage.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a single audit log entry.
+ * Changes are the stored JSON diff, emitted as-is.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditLogDto {
+    private Long id;
+    private String entityType;
+    private Long entityId;
+    private String action;
+    private Long changedById;
+    @JsonRawValue
+    private String changes;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,22 @@
+package com.dushy.tenantmanage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of audit log entries, newest first.
+ * Pass nextCursor back as the cursor parameter to fetch the following page;
+ * it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditLogPageDto {
+    private List<AuditLogDto> items;
+    private String nextCursor;
+}
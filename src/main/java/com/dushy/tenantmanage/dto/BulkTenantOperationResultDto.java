@@ -0,0 +1,25 @@
+package com.dushy.tenantmanage.dto;
+
+import com.dushy.tenantmanage.enums.TenantOperationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-item result of a bulk tenant operation.
+ * Failed items carry an error message and no tenant.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTenantOperationResultDto {
+    private int index;
+    private TenantOperationType type;
+    private boolean success;
+    private String message;
+
+    // Resulting tenant (moved-out tenant for MOVE_OUT, new tenant otherwise)
+    private TenantResponseDto tenant;
+}
@@ -0,0 +1,82 @@
+package com.dushy.tenantmanage.dto;
+
+import com.dushy.tenantmanage.enums.RoomType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO for the full building view: property -> floors -> rooms -> tenant.
+ * Sections that were not requested are left null and omitted from the JSON.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PropertyTreeDto {
+    private Long id;
+    private String name;
+    private String address;
+    private String city;
+    private Integer totalFloors;
+    private Boolean isActive;
+
+    // Occupancy summary across all floors
+    private int totalRooms;
+    private int occupiedRooms;
+
+    private List<FloorNode> floors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class FloorNode {
+        private Long id;
+        private Integer floorNumber;
+        private String floorName;
+        private Boolean isActive;
+        private int totalRooms;
+        private int occupiedRooms;
+        private List<RoomNode> rooms;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RoomNode {
+        private Long id;
+        private String roomNumber;
+        private RoomType roomType;
+        private BigDecimal sizeSqft;
+        private Boolean isOccupied;
+        private Boolean isActive;
+
+        // Active tenant (null if vacant or not requested)
+        private TenantNode tenant;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class TenantNode {
+        private Long id;
+        private String fullName;
+        private String phone;
+        private LocalDate moveInDate;
+        private BigDecimal rentAmount;
+        private Integer paymentDueDay;
+    }
+}
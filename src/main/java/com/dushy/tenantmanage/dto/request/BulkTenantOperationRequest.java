@@ -0,0 +1,57 @@
+package com.dushy.tenantmanage.dto.request;
+
+import com.dushy.tenantmanage.dto.RentAgreementDto;
+import com.dushy.tenantmanage.dto.TenantDto;
+import com.dushy.tenantmanage.enums.TenantOperationType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request wrapper for bulk tenant lifecycle operations.
+ * Operations are applied in order, so a move-out can free a room for a later
+ * move-in in the same request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTenantOperationRequest {
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 500, message = "At most 500 operations are allowed per request")
+    @Valid
+    private List<TenantOperation> operations;
+
+    /**
+     * A single move-in, move-out or swap.
+     * MOVE_IN uses roomId, tenant and agreement; MOVE_OUT uses tenantId;
+     * SWAP uses tenantId, tenant and agreement.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TenantOperation {
+
+        @NotNull(message = "Operation type is required")
+        private TenantOperationType type;
+
+        private Long tenantId;
+
+        private Long roomId;
+
+        @Valid
+        private TenantDto tenant;
+
+        @Valid
+        private RentAgreementDto agreement;
+    }
+}
@@ -0,0 +1,24 @@
+package com.dushy.tenantmanage.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * One page of the arrears aging report. The counts and bucket totals cover
+ * every matching agreement, not just this page.
+ */
+public record ArrearsAgingPageResponse(
+        List<ArrearsAgingResponse> items,
+        int page,
+        int size,
+        long totalItems,
+        BigDecimal due0To30,
+        BigDecimal due31To60,
+        BigDecimal due61To90,
+        BigDecimal dueOver90,
+        BigDecimal totalDue) {
+
+    public ArrearsAgingPageResponse {
+        items = List.copyOf(items);
+    }
+}
@@ -0,0 +1,24 @@
+package com.dushy.tenantmanage.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * What one rent agreement owes, split by days past the due date.
+ * Read from the precomputed arrears_aging table as of {@code asOf}.
+ */
+public record ArrearsAgingResponse(
+        Long rentAgreementId,
+        Long tenantId,
+        String tenantName,
+        String roomNumber,
+        Long propertyId,
+        String propertyName,
+        BigDecimal due0To30,
+        BigDecimal due31To60,
+        BigDecimal due61To90,
+        BigDecimal dueOver90,
+        BigDecimal totalDue,
+        LocalDate oldestDueDate,
+        LocalDate asOf) {
+}
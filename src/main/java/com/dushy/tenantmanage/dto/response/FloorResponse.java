@@ -0,0 +1,27 @@
+package com.dushy.tenantmanage.dto.response;
+
+import com.dushy.tenantmanage.entity.Floor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Floor as returned by the API. The property is referenced by ID only.
+ */
+public record FloorResponse(
+        Long id,
+        Long propertyId,
+        Integer floorNumber,
+        String floorName,
+        Boolean isActive,
+        LocalDateTime createdAt) {
+
+    public static FloorResponse from(Floor floor) {
+        return new FloorResponse(
+                floor.getId(),
+                floor.getProperty().getId(),
+                floor.getFloorNumber(),
+                floor.getFloorName(),
+                floor.getIsActive(),
+                floor.getCreatedAt());
+    }
+}
@@ -0,0 +1,37 @@
+package com.dushy.tenantmanage.dto.response;
+
+import com.dushy.tenantmanage.entity.PropertyAccess;
+import com.dushy.tenantmanage.enums.AccessLevel;
+import com.dushy.tenantmanage.enums.PropertyPermission;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Property access grant as returned by the API. Property, user and granting
+ * user are referenced by ID only.
+ */
+public record PropertyAccessResponse(
+        Long id,
+        Long propertyId,
+        Long userId,
+        AccessLevel accessLevel,
+        Set<PropertyPermission> permissions,
+        Long grantedById,
+        LocalDateTime grantedAt,
+        Boolean isActive,
+        LocalDateTime revokedAt) {
+
+    public static PropertyAccessResponse from(PropertyAccess access) {
+        return new PropertyAccessResponse(
+                access.getId(),
+                access.getProperty().getId(),
+                access.getUser().getId(),
+                access.getAccessLevel(),
+                Set.copyOf(access.getPermissions()),
+                access.getGrantedBy().getId(),
+                access.getGrantedAt(),
+                access.getIsActive(),
+                access.getRevokedAt());
+    }
+}
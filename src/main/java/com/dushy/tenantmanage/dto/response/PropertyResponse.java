@@ -0,0 +1,39 @@
+package com.dushy.tenantmanage.dto.response;
+
+import com.dushy.tenantmanage.entity.Properties;
+
+import java.time.LocalDateTime;
+
+/**
+ * Property as returned by the API. The owner is referenced by ID only.
+ */
+public record PropertyResponse(
+        Long id,
+        Long ownerId,
+        String name,
+        String address,
+        String city,
+        String state,
+        String postalCode,
+        String country,
+        Integer totalFloors,
+        Boolean isActive,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static PropertyResponse from(Properties property) {
+        return new PropertyResponse(
+                property.getId(),
+                property.getOwner().getId(),
+                property.getName(),
+                property.getAddress(),
+                property.getCity(),
+                property.getState(),
+                property.getPostalCode(),
+                property.getCountry(),
+                property.getTotalFloors(),
+                property.getIsActive(),
+                property.getCreatedAt(),
+                property.getUpdatedAt());
+    }
+}
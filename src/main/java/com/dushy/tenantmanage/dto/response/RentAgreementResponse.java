@@ -0,0 +1,38 @@
+package com.dushy.tenantmanage.dto.response;
+
+import com.dushy.tenantmanage.entity.RentAgreement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Rent agreement as returned by the API. Tenant and creator are referenced
+ * by ID only.
+ */
+public record RentAgreementResponse(
+        Long id,
+        Long tenantId,
+        BigDecimal monthlyRentAmount,
+        BigDecimal securityDeposit,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean isActive,
+        Integer paymentDueDay,
+        Long createdById,
+        LocalDateTime createdAt) {
+
+    public static RentAgreementResponse from(RentAgreement agreement) {
+        return new RentAgreementResponse(
+                agreement.getId(),
+                agreement.getTenant().getId(),
+                agreement.getMonthlyRentAmount(),
+                agreement.getSecurityDeposit(),
+                agreement.getStartDate(),
+                agreement.getEndDate(),
+                agreement.getIsActive(),
+                agreement.getPaymentDueDay(),
+                agreement.getCreatedBy().getId(),
+                agreement.getCreatedAt());
+    }
+}
@@ -0,0 +1,43 @@
+package com.dushy.tenantmanage.dto.response;
+
+import com.dushy.tenantmanage.entity.RentPayment;
+import com.dushy.tenantmanage.enums.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Rent payment as returned by the API. Agreement, tenant and recording user
+ * are referenced by ID only.
+ */
+public record RentPaymentResponse(
+        Long id,
+        Long rentAgreementId,
+        Long tenantId,
+        Long propertyId,
+        BigDecimal amountPaid,
+        LocalDate paymentDate,
+        LocalDate paymentForMonth,
+        PaymentMethod paymentMode,
+        String transactionReference,
+        String notes,
+        Long recordedById,
+        LocalDateTime recordedAt) {
+
+    public static RentPaymentResponse from(RentPayment payment) {
+        return new RentPaymentResponse(
+                payment.getId(),
+                payment.getRentAgreement().getId(),
+                payment.getTenant().getId(),
+                payment.getPropertyId(),
+                payment.getAmountPaid(),
+                payment.getPaymentDate(),
+                payment.getPaymentForMonth(),
+                payment.getPaymentMode(),
+                payment.getTransactionReference(),
+                payment.getNotes(),
+                payment.getRecordedBy().getId(),
+                payment.getRecordedAt());
+    }
+}
@@ -0,0 +1,37 @@
+package com.dushy.tenantmanage.dto.response;
+
+import com.dushy.tenantmanage.entity.Room;
+import com.dushy.tenantmanage.enums.RoomType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Room as returned by the API. Floor and property are referenced by ID only.
+ */
+public record RoomResponse(
+        Long id,
+        Long floorId,
+        Long propertyId,
+        String roomNumber,
+        RoomType roomType,
+        BigDecimal sizeSqft,
+        Boolean isOccupied,
+        Boolean isActive,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static RoomResponse from(Room room) {
+        return new RoomResponse(
+                room.getId(),
+                room.getFloor().getId(),
+                room.getPropertyId(),
+                room.getRoomNumber(),
+                room.getRoomType(),
+                room.getSizeSqft(),
+                room.getIsOccupied(),
+                room.getIsActive(),
+                room.getCreatedAt(),
+                room.getUpdatedAt());
+    }
+}
@@ -0,0 +1,35 @@
+package com.dushy.tenantmanage.dto.response;
+
+import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.enums.AuthProvider;
+import com.dushy.tenantmanage.enums.UserType;
+
+import java.time.LocalDateTime;
+
+/**
+ * User profile as returned by the API. Never includes the password hash.
+ */
+public record UserResponse(
+        Long id,
+        String email,
+        String fullName,
+        String phone,
+        UserType userType,
+        AuthProvider authProvider,
+        boolean active,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static UserResponse from(User user) {
+        return new UserResponse(
+                user.getId(),
+                user.getEmail(),
+                user.getFullName(),
+                user.getPhone(),
+                user.getUserType(),
+                user.getAuthProvider(),
+                user.isActive(),
+                user.getCreatedAt(),
+                user.getUpdatedAt());
+    }
+}
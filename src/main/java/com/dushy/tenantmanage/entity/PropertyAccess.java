@@ -7,11 +7,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "property-access")
 @Data
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 @AllArgsConstructor
@@ -40,6 +44,7 @@ public class PropertyAccess {
 
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "property_access_permissions", joinColumns = @JoinColumn(name = "property_access_id"))
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "property-access-permissions")
     @Column(name = "permission")
     @Enumerated(EnumType.STRING)
     @Builder.Default
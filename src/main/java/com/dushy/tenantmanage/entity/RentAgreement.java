@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class RentAgreement {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rent_agreements_seq")
+    @SequenceGenerator(name = "rent_agreements_seq", sequenceName = "rent_agreements_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -34,6 +34,10 @@ public class RentPayment {
     @JoinColumn(name = "tenant_id", nullable = false)
     private Tenant tenant;
 
+    // Denormalized from tenant.room.floor.property so property-scoped reports skip the hierarchy joins
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+
     @Column(name = "amount_paid", nullable = false, precision = 10, scale = 2)
     private BigDecimal amountPaid;
 
@@ -23,13 +23,18 @@ import java.time.LocalDateTime;
 public class Tenant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tenants_seq")
+    @SequenceGenerator(name = "tenants_seq", sequenceName = "tenants_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", nullable = false)
     private Room room;
 
+    // Denormalized from room.floor.property so property-scoped queries skip the hierarchy joins
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+
     @Column(name = "full_name", nullable = false)
     private String fullName;
 
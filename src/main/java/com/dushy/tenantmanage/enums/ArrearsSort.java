@@ -0,0 +1,12 @@
+package com.dushy.tenantmanage.enums;
+
+/**
+ * Orderings of the arrears aging report. Amounts sort largest first, the
+ * oldest due date earliest first and tenant names alphabetically.
+ */
+public enum ArrearsSort {
+    TOTAL_DUE,
+    OVER_90,
+    OLDEST_DUE,
+    TENANT_NAME
+}
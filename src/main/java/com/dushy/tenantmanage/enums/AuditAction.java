@@ -0,0 +1,11 @@
+package com.dushy.tenantmanage.enums;
+
+public enum AuditAction {
+    CREATE,
+    UPDATE,
+    DELETE,
+    MOVE_IN,
+    MOVE_OUT,
+    GRANT,
+    REVOKE
+}
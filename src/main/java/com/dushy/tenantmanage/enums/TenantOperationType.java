@@ -0,0 +1,7 @@
+package com.dushy.tenantmanage.enums;
+
+public enum TenantOperationType {
+    MOVE_IN,
+    MOVE_OUT,
+    SWAP
+}
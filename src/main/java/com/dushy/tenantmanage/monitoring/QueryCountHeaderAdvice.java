@@ -0,0 +1,38 @@
+package com.dushy.tenantmanage.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds an X-Query-Count header with the statements issued so far by the
+ * request. Meant for development and test environments; enable with
+ * monitoring.query-count-header=true.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "monitoring.query-count-header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Query-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        RequestQueryContext context = RequestQueryContext.current();
+        if (context != null) {
+            response.getHeaders().set(HEADER, String.valueOf(context.getCount()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dushy.tenantmanage.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares against the current request.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryContext context = RequestQueryContext.current();
+        if (context != null) {
+            context.record(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,102 @@
+package com.dushy.tenantmanage.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records latency and SQL statement count per controller method.
+ * Runs ahead of the security filters so queries issued while authenticating
+ * count towards the request. Requests over the time or query threshold are
+ * logged with the statements they issued.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long slowRequestMs;
+    private final int slowRequestQueries;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+            @Value("${monitoring.slow-request-ms:1000}") long slowRequestMs,
+            @Value("${monitoring.slow-request-queries:50}") int slowRequestQueries) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestMs = slowRequestMs;
+        this.slowRequestQueries = slowRequestQueries;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryContext context = RequestQueryContext.start();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            RequestQueryContext.clear();
+            record(request, response, context, elapsedNanos);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestQueryContext context,
+            long elapsedNanos) {
+        // Set by the DispatcherServlet once a controller method was matched
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        String controller = "none";
+        String method = "none";
+        if (handler instanceof HandlerMethod handlerMethod) {
+            controller = handlerMethod.getBeanType().getSimpleName();
+            method = handlerMethod.getMethod().getName();
+        }
+
+        Timer.builder("http.controller.requests")
+                .description("Request latency per controller method")
+                .tag("controller", controller)
+                .tag("method", method)
+                .tag("status", String.valueOf(response.getStatus()))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("http.controller.queries")
+                .description("SQL statements issued per request")
+                .tag("controller", controller)
+                .tag("method", method)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(context.getCount());
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs >= slowRequestMs || context.getCount() >= slowRequestQueries) {
+            log.warn("Slow request {} {} ({}.{}): {} ms, {} queries\n  {}",
+                    request.getMethod(), request.getRequestURI(), controller, method,
+                    elapsedMs, context.getCount(), String.join("\n  ", context.getStatements()));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+}
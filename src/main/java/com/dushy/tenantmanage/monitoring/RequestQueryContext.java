@@ -0,0 +1,60 @@
+package com.dushy.tenantmanage.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL statements issued by the current request.
+ * Bound to the request thread by {@link RequestMetricsFilter}; statements run
+ * outside a request (background jobs, the audit writer) are not tracked.
+ */
+public final class RequestQueryContext {
+
+    // Enough to diagnose an N+1 without holding on to unbounded SQL text
+    static final int MAX_CAPTURED_STATEMENTS = 200;
+
+    private static final ThreadLocal<RequestQueryContext> CURRENT = new ThreadLocal<>();
+
+    private int count;
+    private final List<String> statements = new ArrayList<>();
+
+    private RequestQueryContext() {
+    }
+
+    /**
+     * Start counting on the current thread. Also used by the query-count
+     * regression tests to measure a single service call.
+     */
+    public static RequestQueryContext start() {
+        RequestQueryContext context = new RequestQueryContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the context for the current request, or null outside a request
+     */
+    public static RequestQueryContext current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql) {
+        count++;
+        if (statements.size() < MAX_CAPTURED_STATEMENTS) {
+            statements.add(sql);
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+}
@@ -1,43 +1,82 @@
 package com.dushy.tenantmanage.repository;
 
 import com.dushy.tenantmanage.entity.AuditLog;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for AuditLog entity.
  * Manages system-wide activity tracking.
+ * All reads are keyset-paginated newest first: pass the (timestamp, id) of the
+ * last row of the previous page to continue below it. audit_logs is
+ * partitioned by month on timestamp, so the bounds also prune partitions.
  */
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
 
     /**
-     * Find audit history for a specific entity record.
+     * Find a page of audit history for a specific entity record.
      *
-     * @param entityType the type of entity (e.g., "User", "Tenant")
-     * @param entityId   the ID of the entity
-     * @return list of audit log entries for the entity
+     * @param entityType      the type of entity (e.g., "User", "Tenant")
+     * @param entityId        the ID of the entity
+     * @param beforeTimestamp timestamp of the last row already returned
+     * @param beforeId        ID of the last row already returned
+     * @param limit           maximum number of rows
+     * @return audit log entries ordered by timestamp descending
      */
-    List<AuditLog> findByEntityTypeAndEntityId(String entityType, Long entityId);
+    @Query("SELECT a FROM AuditLog a WHERE a.entityType = :entityType AND a.entityId = :entityId " +
+            "AND (a.timestamp < :beforeTimestamp OR (a.timestamp = :beforeTimestamp AND a.id < :beforeId)) " +
+            "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> findEntityHistoryBefore(@Param("entityType") String entityType,
+            @Param("entityId") Long entityId,
+            @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+            @Param("beforeId") Long beforeId,
+            Limit limit);
 
     /**
-     * Find activity log for a specific user, ordered by most recent first.
+     * Find a page of activity for a specific user.
      *
-     * @param userId the ID of the user who made changes
-     * @return list of audit log entries ordered by timestamp descending
+     * @param userId          the ID of the user who made changes
+     * @param beforeTimestamp timestamp of the last row already returned
+     * @param beforeId        ID of the last row already returned
+     * @param limit           maximum number of rows
+     * @return audit log entries ordered by timestamp descending
      */
-    List<AuditLog> findByChangedBy_IdOrderByTimestampDesc(Long userId);
+    @Query("SELECT a FROM AuditLog a WHERE a.changedBy.id = :userId " +
+            "AND (a.timestamp < :beforeTimestamp OR (a.timestamp = :beforeTimestamp AND a.id < :beforeId)) " +
+            "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> findUserActivityBefore(@Param("userId") Long userId,
+            @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+            @Param("beforeId") Long beforeId,
+            Limit limit);
 
     /**
-     * Find all audit logs within a specific time range.
+     * Find a page of activity by a set of users within a time window.
      * Used for time-based audit reports.
      *
-     * @param start the start of the time range
-     * @param end   the end of the time range
-     * @return list of audit log entries within the time range
+     * @param userIds         the IDs of the users who made changes
+     * @param from            start of the window (inclusive)
+     * @param to              end of the window (exclusive)
+     * @param beforeTimestamp timestamp of the last row already returned
+     * @param beforeId        ID of the last row already returned
+     * @param limit           maximum number of rows
+     * @return audit log entries ordered by timestamp descending
      */
-    List<AuditLog> findAllByTimestampBetween(LocalDateTime start, LocalDateTime end);
+    @Query("SELECT a FROM AuditLog a WHERE a.changedBy.id IN :userIds " +
+            "AND a.timestamp >= :from AND a.timestamp < :to " +
+            "AND (a.timestamp < :beforeTimestamp OR (a.timestamp = :beforeTimestamp AND a.id < :beforeId)) " +
+            "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> findActivityBetweenBefore(@Param("userIds") Collection<Long> userIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+            @Param("beforeId") Long beforeId,
+            Limit limit);
 }
@@ -2,6 +2,8 @@ package com.dushy.tenantmanage.repository;
 
 import com.dushy.tenantmanage.entity.Floor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -31,4 +33,14 @@ public interface FloorRepository extends JpaRepository<Floor, Long> {
      * @return Optional containing the floor if found
      */
     Optional<Floor> findByPropertyIdAndFloorNumber(Long propertyId, Integer floorNumber);
+
+    /**
+     * Find the floor numbers already used in a property.
+     * Lets bulk creation skip existing floors without a lookup per floor.
+     *
+     * @param propertyId the ID of the property
+     * @return list of existing floor numbers
+     */
+    @Query("SELECT f.floorNumber FROM Floor f WHERE f.property.id = :propertyId")
+    List<Integer> findFloorNumbersByPropertyId(@Param("propertyId") Long propertyId);
 }
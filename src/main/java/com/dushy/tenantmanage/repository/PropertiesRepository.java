@@ -2,6 +2,8 @@ package com.dushy.tenantmanage.repository;
 
 import com.dushy.tenantmanage.entity.Properties;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -43,4 +45,13 @@ public interface PropertiesRepository extends JpaRepository<Properties, Long> {
      * @return list of properties
      */
     List<Properties> findByIdInOrderByNameAsc(java.util.Collection<Long> ids);
+
+    /**
+     * Find the owners of the given properties.
+     *
+     * @param ids the property IDs
+     * @return distinct owner user IDs
+     */
+    @Query("SELECT DISTINCT p.owner.id FROM Properties p WHERE p.id IN :ids")
+    List<Long> findOwnerIdsByIdIn(@Param("ids") java.util.Collection<Long> ids);
 }
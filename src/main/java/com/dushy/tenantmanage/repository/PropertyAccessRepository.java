@@ -1,7 +1,10 @@
 package com.dushy.tenantmanage.repository;
 
 import com.dushy.tenantmanage.entity.PropertyAccess;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,6 +23,7 @@ public interface PropertyAccessRepository extends JpaRepository<PropertyAccess,
      * @param userId the ID of the user
      * @return list of active property access records for the user
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<PropertyAccess> findByUserIdAndIsActiveTrue(Long userId);
 
     /**
@@ -37,5 +41,6 @@ public interface PropertyAccessRepository extends JpaRepository<PropertyAccess,
      * @param userId     the ID of the user
      * @return Optional containing the active property access record if found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<PropertyAccess> findByPropertyIdAndUserIdAndIsActiveTrue(Long propertyId, Long userId);
 }
@@ -2,9 +2,13 @@ package com.dushy.tenantmanage.repository;
 
 import com.dushy.tenantmanage.entity.RentAgreement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,4 +44,23 @@ public interface RentAgreementRepository extends JpaRepository<RentAgreement, Lo
      * @return list of agreements ending within the date range
      */
     List<RentAgreement> findByEndDateBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Find the active agreements for a set of tenants.
+     *
+     * @param tenantIds the IDs of the tenants
+     * @return list of active rent agreements
+     */
+    List<RentAgreement> findByTenantIdInAndIsActiveTrue(Collection<Long> tenantIds);
+
+    /**
+     * Sum the monthly rent of active agreements held by active tenants
+     * across a set of properties.
+     *
+     * @param propertyIds the IDs of the properties
+     * @return total expected monthly rent
+     */
+    @Query("SELECT COALESCE(SUM(ra.monthlyRentAmount), 0) FROM RentAgreement ra " +
+            "WHERE ra.isActive = true AND ra.tenant.isActive = true AND ra.tenant.propertyId IN :propertyIds")
+    BigDecimal sumActiveMonthlyRentByPropertyIdIn(@Param("propertyIds") Collection<Long> propertyIds);
 }
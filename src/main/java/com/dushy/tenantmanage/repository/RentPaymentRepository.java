@@ -1,6 +1,8 @@
 package com.dushy.tenantmanage.repository;
 
+import com.dushy.tenantmanage.dto.RentPaymentResponseDto;
 import com.dushy.tenantmanage.entity.RentPayment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -94,7 +97,7 @@ public interface RentPaymentRepository extends JpaRepository<RentPayment, Long>
          * @param month      the month to filter by
          * @return list of payments
          */
-        @Query("SELECT rp FROM RentPayment rp WHERE rp.tenant.room.floor.property.id = :propertyId AND rp.paymentForMonth = :month")
+        @Query("SELECT rp FROM RentPayment rp WHERE rp.propertyId = :propertyId AND rp.paymentForMonth = :month")
         List<RentPayment> findByPropertyIdAndPaymentForMonth(@Param("propertyId") Long propertyId,
                         @Param("month") LocalDate month);
 
@@ -105,51 +108,67 @@ public interface RentPaymentRepository extends JpaRepository<RentPayment, Long>
          * @param month      the month
          * @return total collected
          */
-        @Query("SELECT COALESCE(SUM(rp.amountPaid), 0) FROM RentPayment rp WHERE rp.tenant.room.floor.property.id = :propertyId AND rp.paymentForMonth = :month")
+        @Query("SELECT COALESCE(SUM(rp.amountPaid), 0) FROM RentPayment rp WHERE rp.propertyId = :propertyId AND rp.paymentForMonth = :month")
         BigDecimal sumAmountPaidByPropertyIdAndPaymentForMonth(@Param("propertyId") Long propertyId,
                         @Param("month") LocalDate month);
 
         /**
-         * Find payments within a date range filtered by property.
+         * Sum payments across a set of properties in a specific month.
          *
-         * @param startDate  start of date range
-         * @param endDate    end of date range
-         * @param propertyId the property ID to filter by
-         * @return list of payments within the range for the property
+         * @param propertyIds the property IDs
+         * @param month       the month
+         * @return total collected
          */
-        @Query("SELECT rp FROM RentPayment rp WHERE rp.paymentDate BETWEEN :startDate AND :endDate AND rp.tenant.room.floor.property.id = :propertyId ORDER BY rp.paymentDate DESC")
-        List<RentPayment> findByPaymentDateBetweenAndPropertyId(
-                        @Param("startDate") LocalDate startDate,
-                        @Param("endDate") LocalDate endDate,
-                        @Param("propertyId") Long propertyId);
+        @Query("SELECT COALESCE(SUM(rp.amountPaid), 0) FROM RentPayment rp WHERE rp.propertyId IN :propertyIds AND rp.paymentForMonth = :month")
+        BigDecimal sumAmountPaidByPropertyIdInAndPaymentForMonth(@Param("propertyIds") Collection<Long> propertyIds,
+                        @Param("month") LocalDate month);
 
         /**
-         * Find payments within a date range filtered by room.
+         * Sum payments across a set of properties per month within a range.
+         * Months without payments are absent from the result.
          *
-         * @param startDate start of date range
-         * @param endDate   end of date range
-         * @param roomId    the room ID to filter by
-         * @return list of payments within the range for the room
+         * @param propertyIds the property IDs
+         * @param startMonth  first month (inclusive)
+         * @param endMonth    last month (inclusive)
+         * @return list of [paymentForMonth (LocalDate), total (BigDecimal)]
          */
-        @Query("SELECT rp FROM RentPayment rp WHERE rp.paymentDate BETWEEN :startDate AND :endDate AND rp.tenant.room.id = :roomId ORDER BY rp.paymentDate DESC")
-        List<RentPayment> findByPaymentDateBetweenAndRoomId(
-                        @Param("startDate") LocalDate startDate,
-                        @Param("endDate") LocalDate endDate,
-                        @Param("roomId") Long roomId);
+        @Query("SELECT rp.paymentForMonth, SUM(rp.amountPaid) FROM RentPayment rp WHERE rp.propertyId IN :propertyIds " +
+                        "AND rp.paymentForMonth BETWEEN :startMonth AND :endMonth GROUP BY rp.paymentForMonth")
+        List<Object[]> sumAmountPaidByPropertyIdInGroupByMonth(@Param("propertyIds") Collection<Long> propertyIds,
+                        @Param("startMonth") LocalDate startMonth,
+                        @Param("endMonth") LocalDate endMonth);
 
         /**
-         * Find payments within a date range filtered by property and room.
+         * One page of payments within a date range for the given properties,
+         * optionally filtered by room, as flattened response DTOs. Pages are in (payment
+         * date, ID) descending order and continue after the given payment;
+         * for the first page pass the day after {@code endDate} and
+         * {@link Long#MAX_VALUE}. The DTOs are not managed, so nothing stays in
+         * the persistence context between pages.
          *
-         * @param startDate  start of date range
-         * @param endDate    end of date range
-         * @param propertyId the property ID to filter by
-         * @param roomId     the room ID to filter by
-         * @return list of payments within the range
+         * @param startDate   start of date range
+         * @param endDate     end of date range
+         * @param propertyIds the properties whose payments to include; must not be empty
+         * @param roomId      the room ID to filter by, or null
+         * @param afterDate   payment date of the last row of the previous page
+         * @param afterId     ID of the last row of the previous page
+         * @param page        the page size; the offset must be zero
+         * @return the page of payments, most recent first
          */
-        @Query("SELECT rp FROM RentPayment rp WHERE rp.paymentDate BETWEEN :startDate AND :endDate AND rp.tenant.room.floor.property.id = :propertyId AND rp.tenant.room.id = :roomId ORDER BY rp.paymentDate DESC")
-        List<RentPayment> findByPaymentDateBetweenAndPropertyIdAndRoomId(
+        @Query("SELECT new com.dushy.tenantmanage.dto.RentPaymentResponseDto(rp.id, rp.amountPaid, rp.paymentDate, " +
+                        "rp.paymentForMonth, rp.paymentMode, rp.transactionReference, rp.notes, " +
+                        "t.id, t.fullName, t.propertyId, p.name, r.id, r.roomNumber) " +
+                        "FROM RentPayment rp JOIN rp.tenant t JOIN t.room r JOIN r.floor f JOIN f.property p " +
+                        "WHERE rp.paymentDate BETWEEN :startDate AND :endDate " +
+                        "AND rp.propertyId IN :propertyIds AND (:roomId IS NULL OR r.id = :roomId) " +
+                        "AND (rp.paymentDate < :afterDate OR (rp.paymentDate = :afterDate AND rp.id < :afterId)) " +
+                        "ORDER BY rp.paymentDate DESC, rp.id DESC")
+        List<RentPaymentResponseDto> findResponseDtosByPaymentDateBetween(
                         @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate,
-                        @Param("propertyId") Long propertyId,
-                        @Param("roomId") Long roomId);
+                        @Param("propertyIds") Collection<Long> propertyIds,
+                        @Param("roomId") Long roomId,
+                        @Param("afterDate") LocalDate afterDate,
+                        @Param("afterId") Long afterId,
+                        Pageable page);
 }
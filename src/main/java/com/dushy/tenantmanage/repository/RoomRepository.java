@@ -2,8 +2,11 @@ package com.dushy.tenantmanage.repository;
 
 import com.dushy.tenantmanage.entity.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,7 +31,7 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      *
      * @return list of available rooms
      */
-    List<Room> findByIsOccupiedFalseAndIsActiveTrueOrderByFloorPropertyIdAscFloorFloorNumberAscRoomNumberAsc();
+    List<Room> findByIsOccupiedFalseAndIsActiveTrueOrderByPropertyIdAscFloorFloorNumberAscRoomNumberAsc();
 
     /**
      * Count total occupied and active rooms.
@@ -53,7 +56,7 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      * @param propertyId the ID of the property
      * @return list of all rooms in the property
      */
-    List<Room> findByFloorPropertyIdOrderByFloorFloorNumberAscRoomNumberAsc(Long propertyId);
+    List<Room> findByPropertyIdOrderByFloorFloorNumberAscRoomNumberAsc(Long propertyId);
 
     /**
      * Find vacant rooms in a property, ordered by floor number and room number.
@@ -61,7 +64,7 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      * @param propertyId the ID of the property
      * @return list of vacant rooms in the property
      */
-    List<Room> findByFloorPropertyIdAndIsOccupiedFalseAndIsActiveTrueOrderByFloorFloorNumberAscRoomNumberAsc(
+    List<Room> findByPropertyIdAndIsOccupiedFalseAndIsActiveTrueOrderByFloorFloorNumberAscRoomNumberAsc(
             Long propertyId);
 
     /**
@@ -70,7 +73,7 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      * @param propertyId the ID of the property
      * @return total count of rooms
      */
-    long countByFloorPropertyId(Long propertyId);
+    long countByPropertyId(Long propertyId);
 
     /**
      * Count occupied rooms in a property.
@@ -78,7 +81,23 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      * @param propertyId the ID of the property
      * @return count of occupied rooms
      */
-    long countByFloorPropertyIdAndIsOccupiedTrue(Long propertyId);
+    long countByPropertyIdAndIsOccupiedTrue(Long propertyId);
+
+    /**
+     * Count total rooms across a set of properties.
+     *
+     * @param propertyIds the IDs of the properties
+     * @return total count of rooms
+     */
+    long countByPropertyIdIn(Collection<Long> propertyIds);
+
+    /**
+     * Count occupied rooms across a set of properties.
+     *
+     * @param propertyIds the IDs of the properties
+     * @return count of occupied rooms
+     */
+    long countByPropertyIdInAndIsOccupiedTrue(Collection<Long> propertyIds);
 
     /**
      * Count all active rooms.
@@ -86,4 +105,23 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      * @return total count of active rooms
      */
     long countByIsActiveTrue();
+
+    /**
+     * Find rooms by IDs with floor and property fetched in the same query.
+     * Used by bulk operations to validate many rooms at once.
+     *
+     * @param ids the room IDs
+     * @return list of rooms found
+     */
+    @Query("SELECT r FROM Room r JOIN FETCH r.floor f JOIN FETCH f.property WHERE r.id IN :ids")
+    List<Room> findAllWithPropertyByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the properties the given rooms belong to.
+     *
+     * @param ids the room IDs
+     * @return distinct property IDs
+     */
+    @Query("SELECT DISTINCT r.propertyId FROM Room r WHERE r.id IN :ids")
+    List<Long> findPropertyIdsByIdIn(@Param("ids") Collection<Long> ids);
 }
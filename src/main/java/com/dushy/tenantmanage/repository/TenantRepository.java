@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,7 +56,15 @@ public interface TenantRepository extends JpaRepository<Tenant, Long> {
      * @param propertyId the ID of the property
      * @return list of active tenants in the property
      */
-    List<Tenant> findByIsActiveTrueAndRoomFloorPropertyId(Long propertyId);
+    List<Tenant> findByIsActiveTrueAndPropertyId(Long propertyId);
+
+    /**
+     * Count active tenants across a set of properties.
+     *
+     * @param propertyIds the IDs of the properties
+     * @return count of active tenants
+     */
+    long countByIsActiveTrueAndPropertyIdIn(Collection<Long> propertyIds);
 
     /**
      * Search tenants by name or phone (case-insensitive).
@@ -74,7 +83,7 @@ public interface TenantRepository extends JpaRepository<Tenant, Long> {
      * @param propertyId the ID of the property
      * @return list of matching active tenants in the property
      */
-    @Query("SELECT t FROM Tenant t WHERE t.isActive = true AND t.room.floor.property.id = :propertyId " +
+    @Query("SELECT t FROM Tenant t WHERE t.isActive = true AND t.propertyId = :propertyId " +
             "AND (LOWER(t.fullName) LIKE LOWER(CONCAT('%', :query, '%')) OR t.phone LIKE CONCAT('%', :query, '%'))")
     List<Tenant> searchByPropertyId(@Param("query") String query, @Param("propertyId") Long propertyId);
 
@@ -94,4 +103,36 @@ public interface TenantRepository extends JpaRepository<Tenant, Long> {
      * @return list of all tenants for the room
      */
     List<Tenant> findByRoomIdOrderByMoveInDateDesc(Long roomId);
+
+    /**
+     * Find tenants by IDs with room, floor and property fetched in the same
+     * query.
+     * Used by bulk operations to validate many tenants at once.
+     *
+     * @param ids the tenant IDs
+     * @return list of tenants found
+     */
+    @Query("SELECT t FROM Tenant t JOIN FETCH t.room r JOIN FETCH r.floor f JOIN FETCH f.property WHERE t.id IN :ids")
+    List<Tenant> findAllWithRoomByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find active tenants in a property together with their active agreement.
+     * Each row is {@code [Tenant, RentAgreement]}; the agreement is null when
+     * the tenant has none.
+     *
+     * @param propertyId the ID of the property
+     * @return list of tenant/agreement pairs
+     */
+    @Query("SELECT t, ra FROM Tenant t LEFT JOIN RentAgreement ra ON ra.tenant.id = t.id AND ra.isActive = true " +
+            "WHERE t.isActive = true AND t.propertyId = :propertyId")
+    List<Object[]> findActiveWithAgreementByPropertyId(@Param("propertyId") Long propertyId);
+
+    /**
+     * Find the properties the given tenants belong to.
+     *
+     * @param ids the tenant IDs
+     * @return distinct property IDs
+     */
+    @Query("SELECT DISTINCT t.propertyId FROM Tenant t WHERE t.id IN :ids")
+    List<Long> findPropertyIdsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,7 +2,10 @@ package com.dushy.tenantmanage.repository;
 
 import com.dushy.tenantmanage.entity.User;
 import com.dushy.tenantmanage.enums.UserType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,6 +25,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param email the user's email
      * @return Optional containing the user if found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     /**
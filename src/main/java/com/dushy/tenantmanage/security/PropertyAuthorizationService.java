@@ -3,6 +3,8 @@ package com.dushy.tenantmanage.security;
 import com.dushy.tenantmanage.entity.Floor;
 import com.dushy.tenantmanage.entity.Properties;
 import com.dushy.tenantmanage.entity.PropertyAccess;
+import com.dushy.tenantmanage.entity.RentAgreement;
+import com.dushy.tenantmanage.entity.RentPayment;
 import com.dushy.tenantmanage.entity.Room;
 import com.dushy.tenantmanage.entity.Tenant;
 import com.dushy.tenantmanage.enums.AccessLevel;
@@ -11,11 +13,14 @@ import com.dushy.tenantmanage.exception.ResourceNotFoundException;
 import com.dushy.tenantmanage.repository.FloorRepository;
 import com.dushy.tenantmanage.repository.PropertiesRepository;
 import com.dushy.tenantmanage.repository.PropertyAccessRepository;
+import com.dushy.tenantmanage.repository.RentAgreementRepository;
+import com.dushy.tenantmanage.repository.RentPaymentRepository;
 import com.dushy.tenantmanage.repository.RoomRepository;
 import com.dushy.tenantmanage.repository.TenantRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -36,17 +41,23 @@ public class PropertyAuthorizationService {
     private final FloorRepository floorRepository;
     private final RoomRepository roomRepository;
     private final TenantRepository tenantRepository;
+    private final RentAgreementRepository rentAgreementRepository;
+    private final RentPaymentRepository rentPaymentRepository;
 
     public PropertyAuthorizationService(PropertiesRepository propertiesRepository,
             PropertyAccessRepository propertyAccessRepository,
             FloorRepository floorRepository,
             RoomRepository roomRepository,
-            TenantRepository tenantRepository) {
+            TenantRepository tenantRepository,
+            RentAgreementRepository rentAgreementRepository,
+            RentPaymentRepository rentPaymentRepository) {
         this.propertiesRepository = propertiesRepository;
         this.propertyAccessRepository = propertyAccessRepository;
         this.floorRepository = floorRepository;
         this.roomRepository = roomRepository;
         this.tenantRepository = tenantRepository;
+        this.rentAgreementRepository = rentAgreementRepository;
+        this.rentPaymentRepository = rentPaymentRepository;
     }
 
     // ==================== PERMISSION CHECK METHODS ====================
@@ -203,7 +214,7 @@ public class PropertyAuthorizationService {
     public Long getPropertyIdFromRoom(Long roomId) {
         Room room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("Room", roomId));
-        return room.getFloor().getProperty().getId();
+        return room.getPropertyId();
     }
 
     /**
@@ -215,7 +226,7 @@ public class PropertyAuthorizationService {
     public Long getPropertyIdFromTenant(Long tenantId) {
         Tenant tenant = tenantRepository.findById(tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tenant", tenantId));
-        return tenant.getRoom().getFloor().getProperty().getId();
+        return tenant.getPropertyId();
     }
 
     /**
@@ -230,6 +241,60 @@ public class PropertyAuthorizationService {
         return access.getProperty().getId();
     }
 
+    /**
+     * Get property ID from a rent agreement.
+     *
+     * @param agreementId the rent agreement ID
+     * @return the property ID
+     */
+    public Long getPropertyIdFromAgreement(Long agreementId) {
+        RentAgreement agreement = rentAgreementRepository.findById(agreementId)
+                .orElseThrow(() -> new ResourceNotFoundException("RentAgreement", agreementId));
+        return agreement.getTenant().getPropertyId();
+    }
+
+    /**
+     * Get property ID from a rent payment.
+     *
+     * @param paymentId the rent payment ID
+     * @return the property ID
+     */
+    public Long getPropertyIdFromPayment(Long paymentId) {
+        RentPayment payment = rentPaymentRepository.findById(paymentId)
+                .orElseThrow(() -> new ResourceNotFoundException("RentPayment", paymentId));
+        return payment.getPropertyId();
+    }
+
+    /**
+     * Get the distinct property IDs for a set of rooms in a single query.
+     * Only the IDs are read, so the rooms themselves are left for the service
+     * to load. Unknown room IDs are ignored.
+     *
+     * @param roomIds the room IDs
+     * @return set of property IDs
+     */
+    public Set<Long> getPropertyIdsFromRooms(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(roomRepository.findPropertyIdsByIdIn(roomIds));
+    }
+
+    /**
+     * Get the distinct property IDs for a set of tenants in a single query.
+     * Only the IDs are read, so the tenants themselves are left for the
+     * service to load. Unknown tenant IDs are ignored.
+     *
+     * @param tenantIds the tenant IDs
+     * @return set of property IDs
+     */
+    public Set<Long> getPropertyIdsFromTenants(Collection<Long> tenantIds) {
+        if (tenantIds.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(tenantRepository.findPropertyIdsByIdIn(tenantIds));
+    }
+
     // ==================== THROWING CHECK METHODS ====================
 
     /**
@@ -0,0 +1,47 @@
+package com.dushy.tenantmanage.service;
+
+import com.dushy.tenantmanage.dto.AuditLogPageDto;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Service interface for reading the audit log.
+ * All results are keyset-paginated newest first using an opaque cursor.
+ */
+public interface AuditLogService {
+
+    /**
+     * Get the change history of one entity.
+     *
+     * @param entityType the entity type (e.g., "Tenant")
+     * @param entityId   the ID of the entity
+     * @param cursor     cursor from the previous page, or null for the first page
+     * @param limit      page size
+     * @return one page of audit log entries
+     */
+    AuditLogPageDto getEntityHistory(String entityType, Long entityId, String cursor, int limit);
+
+    /**
+     * Get the changes made by one user.
+     *
+     * @param userId the ID of the user
+     * @param cursor cursor from the previous page, or null for the first page
+     * @param limit  page size
+     * @return one page of audit log entries
+     */
+    AuditLogPageDto getUserActivity(Long userId, String cursor, int limit);
+
+    /**
+     * Get the changes made by a set of users within a time window.
+     *
+     * @param userIds the IDs of the users
+     * @param from    start of the window (inclusive)
+     * @param to      end of the window (exclusive)
+     * @param cursor  cursor from the previous page, or null for the first page
+     * @param limit   page size
+     * @return one page of audit log entries
+     */
+    AuditLogPageDto getActivityBetween(Collection<Long> userIds, LocalDateTime from, LocalDateTime to,
+            String cursor, int limit);
+}
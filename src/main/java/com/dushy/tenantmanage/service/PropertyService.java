@@ -4,17 +4,19 @@ import com.dushy.tenantmanage.dto.BulkFloorDto;
 import com.dushy.tenantmanage.dto.BulkRoomDto;
 import com.dushy.tenantmanage.dto.FloorDto;
 import com.dushy.tenantmanage.dto.PropertyDto;
+import com.dushy.tenantmanage.dto.PropertyTreeDto;
 import com.dushy.tenantmanage.dto.RoomDto;
 import com.dushy.tenantmanage.dto.RoomInfoDto;
-import com.dushy.tenantmanage.entity.Floor;
-import com.dushy.tenantmanage.entity.Properties;
-import com.dushy.tenantmanage.entity.Room;
+import com.dushy.tenantmanage.dto.response.FloorResponse;
+import com.dushy.tenantmanage.dto.response.PropertyResponse;
+import com.dushy.tenantmanage.dto.response.RoomResponse;
 
 import java.util.List;
 
 /**
  * Service interface for Property management.
  * Handles property hierarchy: Property -> Floor -> Room.
+ * Results are mapped to response records before the transaction ends.
  */
 public interface PropertyService {
 
@@ -25,7 +27,7 @@ public interface PropertyService {
      * @param ownerId     the ID of the owner
      * @return the created property
      */
-    Properties createProperty(PropertyDto propertyDto, Long ownerId);
+    PropertyResponse createProperty(PropertyDto propertyDto, Long ownerId);
 
     /**
      * Update a property.
@@ -34,7 +36,7 @@ public interface PropertyService {
      * @param propertyDto the updated data
      * @return the updated property
      */
-    Properties updateProperty(Long id, PropertyDto propertyDto);
+    PropertyResponse updateProperty(Long id, PropertyDto propertyDto);
 
     /**
      * Delete (soft) a property.
@@ -50,7 +52,7 @@ public interface PropertyService {
      * @param propertyId the ID of the property
      * @return the created floor
      */
-    Floor addFloor(FloorDto floorDto, Long propertyId);
+    FloorResponse addFloor(FloorDto floorDto, Long propertyId);
 
     /**
      * Get a floor by ID.
@@ -58,7 +60,7 @@ public interface PropertyService {
      * @param id the floor ID
      * @return the floor
      */
-    Floor getFloorById(Long id);
+    FloorResponse getFloorById(Long id);
 
     /**
      * Update a floor.
@@ -67,7 +69,7 @@ public interface PropertyService {
      * @param floorDto the updated data
      * @return the updated floor
      */
-    Floor updateFloor(Long id, FloorDto floorDto);
+    FloorResponse updateFloor(Long id, FloorDto floorDto);
 
     /**
      * Delete (soft) a floor.
@@ -83,7 +85,7 @@ public interface PropertyService {
      * @param floorId the ID of the floor
      * @return the created room
      */
-    Room addRoom(RoomDto roomDto, Long floorId);
+    RoomResponse addRoom(RoomDto roomDto, Long floorId);
 
     /**
      * Get a room by ID.
@@ -91,7 +93,7 @@ public interface PropertyService {
      * @param id the room ID
      * @return the room
      */
-    Room getRoomById(Long id);
+    RoomResponse getRoomById(Long id);
 
     /**
      * Update a room.
@@ -100,7 +102,7 @@ public interface PropertyService {
      * @param roomDto the updated data
      * @return the updated room
      */
-    Room updateRoom(Long id, RoomDto roomDto);
+    RoomResponse updateRoom(Long id, RoomDto roomDto);
 
     /**
      * Delete (soft) a room.
@@ -115,7 +117,18 @@ public interface PropertyService {
      * @param ownerId the owner's user ID
      * @return list of properties
      */
-    List<Properties> getPropertiesByOwner(Long ownerId);
+    List<PropertyResponse> getPropertiesByOwner(Long ownerId);
+
+    /**
+     * Get the properties a user can see, sorted by name.
+     *
+     * @param userId  the user's ID
+     * @param mode    {@code owner} for owned properties, {@code assistant} for
+     *                those shared with the user, anything else for both
+     * @param ownerId in assistant mode, optionally only this owner's properties
+     * @return list of properties
+     */
+    List<PropertyResponse> getAccessibleProperties(Long userId, String mode, Long ownerId);
 
     /**
      * Get a property by ID.
@@ -123,7 +136,7 @@ public interface PropertyService {
      * @param id the property ID
      * @return the property
      */
-    Properties getPropertyById(Long id);
+    PropertyResponse getPropertyById(Long id);
 
     /**
      * Get all floors for a property.
@@ -131,7 +144,7 @@ public interface PropertyService {
      * @param propertyId the property ID
      * @return list of floors ordered by floor number
      */
-    List<Floor> getFloorsByProperty(Long propertyId);
+    List<FloorResponse> getFloorsByProperty(Long propertyId);
 
     /**
      * Get all rooms on a floor.
@@ -139,7 +152,7 @@ public interface PropertyService {
      * @param floorId the floor ID
      * @return list of rooms
      */
-    List<Room> getRoomsByFloor(Long floorId);
+    List<RoomResponse> getRoomsByFloor(Long floorId);
 
     /**
      * Get available (unoccupied) rooms on a floor.
@@ -147,7 +160,7 @@ public interface PropertyService {
      * @param floorId the floor ID
      * @return list of available rooms
      */
-    List<Room> getAvailableRoomsByFloor(Long floorId);
+    List<RoomResponse> getAvailableRoomsByFloor(Long floorId);
 
     /**
      * Get all rooms in a property (flat list).
@@ -155,14 +168,14 @@ public interface PropertyService {
      * @param propertyId the property ID
      * @return list of all rooms in the property
      */
-    List<Room> getRoomsByProperty(Long propertyId);
+    List<RoomResponse> getRoomsByProperty(Long propertyId);
 
     /**
      * Get all vacant rooms.
      *
      * @return list of all vacant rooms
      */
-    List<Room> getVacantRooms();
+    List<RoomResponse> getVacantRooms();
 
     /**
      * Bulk create floors for a property.
@@ -170,7 +183,7 @@ public interface PropertyService {
      * @param bulkFloorDto the bulk floor data
      * @return list of created floors
      */
-    List<Floor> bulkCreateFloors(BulkFloorDto bulkFloorDto);
+    List<FloorResponse> bulkCreateFloors(BulkFloorDto bulkFloorDto);
 
     /**
      * Bulk create rooms for a floor.
@@ -178,7 +191,7 @@ public interface PropertyService {
      * @param bulkRoomDto the bulk room data
      * @return list of created rooms
      */
-    List<Room> bulkCreateRooms(BulkRoomDto bulkRoomDto);
+    List<RoomResponse> bulkCreateRooms(BulkRoomDto bulkRoomDto);
 
     /**
      * Get rooms with tenant and due info for a floor.
@@ -187,4 +200,15 @@ public interface PropertyService {
      * @return list of room info DTOs with tenant and due details
      */
     List<RoomInfoDto> getRoomsInfoByFloor(Long floorId);
+
+    /**
+     * Get the property with its floors, rooms and active tenants as one tree.
+     * Built from one set query per level instead of one request per floor.
+     *
+     * @param propertyId     the property ID
+     * @param includeRooms   whether to include rooms under each floor
+     * @param includeTenants whether to include the active tenant of each room
+     * @return the property tree
+     */
+    PropertyTreeDto getPropertyTree(Long propertyId, boolean includeRooms, boolean includeTenants);
 }
@@ -6,12 +6,18 @@ import com.dushy.tenantmanage.dto.RentAgreementDto;
 import com.dushy.tenantmanage.dto.RentPaymentDto;
 import com.dushy.tenantmanage.dto.RentPaymentResponseDto;
 import com.dushy.tenantmanage.dto.RentSummaryDto;
+import com.dushy.tenantmanage.dto.response.ArrearsAgingPageResponse;
+import com.dushy.tenantmanage.dto.response.RentAgreementResponse;
+import com.dushy.tenantmanage.dto.response.RentPaymentResponse;
 import com.dushy.tenantmanage.entity.RentAgreement;
 import com.dushy.tenantmanage.entity.RentPayment;
+import com.dushy.tenantmanage.enums.ArrearsSort;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Service interface for Rent management.
@@ -32,7 +38,7 @@ public interface RentService {
     /**
      * Record a rent payment.
      */
-    RentPayment recordPayment(RentPaymentDto paymentDto, Long tenantId, Long recordedById);
+    RentPaymentResponse recordPayment(RentPaymentDto paymentDto, Long tenantId, Long recordedById);
 
     /**
      * Calculate due rent for a tenant for a specific month.
@@ -47,17 +53,17 @@ public interface RentService {
     /**
      * Get the active rent agreement for a tenant.
      */
-    Optional<RentAgreement> getActiveAgreementByTenant(Long tenantId);
+    Optional<RentAgreementResponse> getActiveAgreementByTenant(Long tenantId);
 
     /**
      * Get all payments for a tenant.
      */
-    List<RentPayment> getPaymentsByTenant(Long tenantId);
+    List<RentPaymentResponse> getPaymentsByTenant(Long tenantId);
 
     /**
      * Get all payments for a specific month.
      */
-    List<RentPayment> getPaymentsByMonth(LocalDate month);
+    List<RentPaymentResponse> getPaymentsByMonth(LocalDate month);
 
     /**
      * Get monthly rent collection summary for a property.
@@ -77,17 +83,20 @@ public interface RentService {
     List<RentPayment> searchPayments(LocalDate startDate, LocalDate endDate);
 
     /**
-     * Search payments with optional property and room filters.
-     * Returns flattened DTOs suitable for frontend display.
+     * Search the payments of the given properties, optionally for one room,
+     * passing each payment to {@code action} instead of returning a list. Payments are read
+     * in pages, each in its own short read-only transaction, so no connection
+     * is held while {@code action} runs (e.g. while a slow client receives
+     * rows). Called inside a transaction, it reads through that one instead.
      *
-     * @param startDate  start date
-     * @param endDate    end date
-     * @param propertyId optional property filter
-     * @param roomId     optional room filter
-     * @return list of payment response DTOs
+     * @param startDate   start date
+     * @param endDate     end date
+     * @param propertyIds the properties to search; none means no payments
+     * @param roomId      optional room filter
+     * @param action      called for every payment, most recent first
      */
-    List<RentPaymentResponseDto> searchPaymentsWithFilters(LocalDate startDate, LocalDate endDate, Long propertyId,
-            Long roomId);
+    void streamPaymentsWithFilters(LocalDate startDate, LocalDate endDate, Collection<Long> propertyIds,
+            Long roomId, Consumer<RentPaymentResponseDto> action);
 
     /**
      * Record multiple payments in bulk.
@@ -96,5 +105,19 @@ public interface RentService {
      * @param recordedById   the user recording the payments
      * @return list of recorded payments
      */
-    List<RentPayment> bulkRecordPayments(BulkPaymentDto bulkPaymentDto, Long recordedById);
+    List<RentPaymentResponse> bulkRecordPayments(BulkPaymentDto bulkPaymentDto, Long recordedById);
+
+    /**
+     * Get one page of the arrears aging report: agreements on the given
+     * properties that owe rent, with the amounts split by age.
+     *
+     * @param propertyIds the properties to report on
+     * @param ownerId     optional owner filter
+     * @param sort        the order of the rows
+     * @param page        zero-based page number
+     * @param size        rows per page
+     * @return the page with totals over all matching agreements
+     */
+    ArrearsAgingPageResponse getArrearsAging(Collection<Long> propertyIds, Long ownerId, ArrearsSort sort,
+            int page, int size);
 }
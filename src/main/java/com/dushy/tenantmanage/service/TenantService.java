@@ -1,7 +1,11 @@
 package com.dushy.tenantmanage.service;
 
+import com.dushy.tenantmanage.dto.BulkTenantOperationResultDto;
 import com.dushy.tenantmanage.dto.RentAgreementDto;
 import com.dushy.tenantmanage.dto.TenantDto;
+import com.dushy.tenantmanage.dto.TenantResponseDto;
+import com.dushy.tenantmanage.dto.request.BulkTenantOperationRequest;
+import com.dushy.tenantmanage.dto.response.RentAgreementResponse;
 import com.dushy.tenantmanage.entity.Tenant;
 
 import java.util.List;
@@ -10,6 +14,7 @@ import java.util.Optional;
 /**
  * Service interface for Tenant lifecycle management.
  * Handles tenant addition, move-out, and swapping.
+ * Results are mapped to response DTOs before the transaction ends.
  */
 public interface TenantService {
 
@@ -23,7 +28,7 @@ public interface TenantService {
      * @param createdById  the ID of the user creating the record
      * @return the created tenant
      */
-    Tenant addTenant(TenantDto tenantDto, Long roomId, RentAgreementDto agreementDto, Long createdById);
+    TenantResponseDto addTenant(TenantDto tenantDto, Long roomId, RentAgreementDto agreementDto, Long createdById);
 
     /**
      * Move out a tenant.
@@ -32,7 +37,7 @@ public interface TenantService {
      * @param tenantId the ID of the tenant
      * @return the updated tenant
      */
-    Tenant moveOutTenant(Long tenantId);
+    TenantResponseDto moveOutTenant(Long tenantId);
 
     /**
      * Swap a tenant (atomic move-out and add-new operation).
@@ -44,7 +49,21 @@ public interface TenantService {
      * @param createdById  the ID of the user performing the swap
      * @return the new tenant
      */
-    Tenant swapTenant(Long oldTenantId, TenantDto newTenantDto, RentAgreementDto agreementDto, Long createdById);
+    TenantResponseDto swapTenant(Long oldTenantId, TenantDto newTenantDto, RentAgreementDto agreementDto,
+            Long createdById);
+
+    /**
+     * Apply many move-in, move-out and swap operations in one transaction.
+     * Referenced tenants, rooms and agreements are loaded with set-based
+     * queries and writes are flushed together. Operations run in order; an
+     * invalid operation is reported in its result and does not stop the rest.
+     *
+     * @param operations  the operations to apply
+     * @param createdById the ID of the user performing the operations
+     * @return one result per operation, in request order
+     */
+    List<BulkTenantOperationResultDto> bulkTenantOperations(
+            List<BulkTenantOperationRequest.TenantOperation> operations, Long createdById);
 
     /**
      * Get a tenant by ID.
@@ -52,14 +71,14 @@ public interface TenantService {
      * @param id the tenant ID
      * @return the tenant
      */
-    Tenant getTenantById(Long id);
+    TenantResponseDto getTenantById(Long id);
 
     /**
      * Get all active tenants.
      *
      * @return list of active tenants
      */
-    List<Tenant> getActiveTenants();
+    List<TenantResponseDto> getActiveTenants();
 
     /**
      * Get the active tenant for a room.
@@ -67,7 +86,7 @@ public interface TenantService {
      * @param roomId the room ID
      * @return optional containing the tenant if found
      */
-    Optional<Tenant> getActiveTenantByRoom(Long roomId);
+    Optional<TenantResponseDto> getActiveTenantByRoom(Long roomId);
 
     /**
      * Find a tenant by phone number.
@@ -83,7 +102,7 @@ public interface TenantService {
      * @param propertyId the property ID
      * @return list of active tenants
      */
-    List<Tenant> getTenantsByProperty(Long propertyId);
+    List<TenantResponseDto> getTenantsByProperty(Long propertyId);
 
     /**
      * Update tenant information.
@@ -92,7 +111,7 @@ public interface TenantService {
      * @param tenantDto the updated data
      * @return the updated tenant
      */
-    Tenant updateTenant(Long id, TenantDto tenantDto);
+    TenantResponseDto updateTenant(Long id, TenantDto tenantDto);
 
     /**
      * Update rent agreement for a tenant.
@@ -101,7 +120,7 @@ public interface TenantService {
      * @param agreementDto the updated agreement data
      * @return the updated agreement
      */
-    com.dushy.tenantmanage.entity.RentAgreement updateAgreement(Long tenantId, RentAgreementDto agreementDto);
+    RentAgreementResponse updateAgreement(Long tenantId, RentAgreementDto agreementDto);
 
     /**
      * Search tenants by name or phone.
@@ -110,7 +129,7 @@ public interface TenantService {
      * @param propertyId optional property filter
      * @return list of matching tenants
      */
-    List<Tenant> searchTenants(String query, Long propertyId);
+    List<TenantResponseDto> searchTenants(String query, Long propertyId);
 
     /**
      * Convert a Tenant entity to TenantResponseDto.
@@ -118,7 +137,7 @@ public interface TenantService {
      * @param tenant the tenant entity
      * @return the response DTO with flattened fields
      */
-    com.dushy.tenantmanage.dto.TenantResponseDto toResponseDto(Tenant tenant);
+    TenantResponseDto toResponseDto(Tenant tenant);
 
     /**
      * Convert a list of Tenant entities to TenantResponseDtos.
@@ -126,7 +145,7 @@ public interface TenantService {
      * @param tenants the tenant entities
      * @return list of response DTOs
      */
-    List<com.dushy.tenantmanage.dto.TenantResponseDto> toResponseDtos(List<Tenant> tenants);
+    List<TenantResponseDto> toResponseDtos(List<Tenant> tenants);
 
     /**
      * Get tenant history for a room (all tenants, including moved out).
@@ -134,5 +153,5 @@ public interface TenantService {
      * @param roomId the room ID
      * @return list of tenant DTOs for the room
      */
-    List<com.dushy.tenantmanage.dto.TenantResponseDto> getTenantHistoryByRoom(Long roomId);
+    List<TenantResponseDto> getTenantHistoryByRoom(Long roomId);
 }
@@ -1,9 +1,11 @@
 package com.dushy.tenantmanage.service;
 
+import com.dushy.tenantmanage.dto.AssistantDto;
 import com.dushy.tenantmanage.dto.OwnerDto;
 import com.dushy.tenantmanage.dto.UpdatePasswordDto;
 import com.dushy.tenantmanage.dto.UserDto;
-import com.dushy.tenantmanage.entity.PropertyAccess;
+import com.dushy.tenantmanage.dto.response.PropertyAccessResponse;
+import com.dushy.tenantmanage.dto.response.UserResponse;
 import com.dushy.tenantmanage.entity.User;
 import com.dushy.tenantmanage.enums.AccessLevel;
 
@@ -29,12 +31,12 @@ public interface UserService {
     /**
      * Assign property-specific access to a user.
      */
-    PropertyAccess assignPropertyAccess(Long propertyId, Long userId, AccessLevel accessLevel, Long grantedById);
+    PropertyAccessResponse assignPropertyAccess(Long propertyId, Long userId, AccessLevel accessLevel, Long grantedById);
 
     /**
      * Get a user by ID.
      */
-    User getUserById(Long id);
+    UserResponse getUserById(Long id);
 
     /**
      * Find a user by email.
@@ -53,7 +55,7 @@ public interface UserService {
      * @param userDto the updated profile data
      * @return the updated user
      */
-    User updateProfile(Long userId, UserDto userDto);
+    UserResponse updateProfile(Long userId, UserDto userDto);
 
     /**
      * Change user password.
@@ -69,7 +71,15 @@ public interface UserService {
      * @param ownerId the owner's user ID
      * @return list of assistant users
      */
-    List<User> getAssistants(Long ownerId);
+    List<UserResponse> getAssistants(Long ownerId);
+
+    /**
+     * Get the active assistants of a property with their permissions.
+     *
+     * @param propertyId the property ID
+     * @return assistant DTOs, built inside the read transaction
+     */
+    List<AssistantDto> getPropertyAssistants(Long propertyId);
 
     /**
      * Get property access entries for a user.
@@ -77,7 +87,7 @@ public interface UserService {
      * @param userId the user ID
      * @return list of property access records
      */
-    List<PropertyAccess> getPropertyAccessByUser(Long userId);
+    List<PropertyAccessResponse> getPropertyAccessByUser(Long userId);
 
     /**
      * Revoke property access.
@@ -0,0 +1,119 @@
+package com.dushy.tenantmanage.service.impl;
+
+import com.dushy.tenantmanage.dto.AuditLogDto;
+import com.dushy.tenantmanage.dto.AuditLogPageDto;
+import com.dushy.tenantmanage.entity.AuditLog;
+import com.dushy.tenantmanage.exception.InvalidOperationException;
+import com.dushy.tenantmanage.repository.AuditLogRepository;
+import com.dushy.tenantmanage.service.AuditLogService;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementation of AuditLogService.
+ * The cursor encodes the (timestamp, id) of the last row returned; one extra
+ * row is fetched to tell whether another page exists.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AuditLogServiceImpl implements AuditLogService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // Starting point for the first page: after any real timestamp and id
+    private static final LocalDateTime FIRST_PAGE_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final AuditLogRepository auditLogRepository;
+
+    public AuditLogServiceImpl(AuditLogRepository auditLogRepository) {
+        this.auditLogRepository = auditLogRepository;
+    }
+
+    @Override
+    public AuditLogPageDto getEntityHistory(String entityType, Long entityId, String cursor, int limit) {
+        Cursor position = decodeCursor(cursor);
+        int pageSize = pageSize(limit);
+        return toPage(auditLogRepository.findEntityHistoryBefore(entityType, entityId,
+                position.timestamp(), position.id(), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    @Override
+    public AuditLogPageDto getUserActivity(Long userId, String cursor, int limit) {
+        Cursor position = decodeCursor(cursor);
+        int pageSize = pageSize(limit);
+        return toPage(auditLogRepository.findUserActivityBefore(userId,
+                position.timestamp(), position.id(), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    @Override
+    public AuditLogPageDto getActivityBetween(Collection<Long> userIds, LocalDateTime from, LocalDateTime to,
+            String cursor, int limit) {
+        if (!from.isBefore(to)) {
+            throw new InvalidOperationException("'from' must be before 'to'");
+        }
+        Cursor position = decodeCursor(cursor);
+        int pageSize = pageSize(limit);
+        return toPage(auditLogRepository.findActivityBetweenBefore(userIds, from, to,
+                position.timestamp(), position.id(), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    private int pageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidOperationException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return limit;
+    }
+
+    private AuditLogPageDto toPage(List<AuditLog> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<AuditLog> page = hasMore ? rows.subList(0, pageSize) : rows;
+        AuditLog last = hasMore ? page.get(page.size() - 1) : null;
+        return AuditLogPageDto.builder()
+                .items(page.stream().map(this::toDto).toList())
+                .nextCursor(last != null ? encodeCursor(last) : null)
+                .build();
+    }
+
+    private AuditLogDto toDto(AuditLog log) {
+        return AuditLogDto.builder()
+                .id(log.getId())
+                .entityType(log.getEntityType())
+                .entityId(log.getEntityId())
+                .action(log.getAction())
+                .changedById(log.getChangedBy() != null ? log.getChangedBy().getId() : null)
+                .changes(log.getChanges())
+                .timestamp(log.getTimestamp())
+                .build();
+    }
+
+    private String encodeCursor(AuditLog log) {
+        String raw = log.getTimestamp() + "|" + log.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Cursor(FIRST_PAGE_TIMESTAMP, Long.MAX_VALUE);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidOperationException("Invalid cursor");
+        }
+    }
+
+    private record Cursor(LocalDateTime timestamp, Long id) {
+    }
+}
@@ -3,8 +3,6 @@ package com.dushy.tenantmanage.service.impl;
 import com.dushy.tenantmanage.dto.DashboardSummaryDto;
 import com.dushy.tenantmanage.dto.TrendDataDto;
 import com.dushy.tenantmanage.entity.Properties;
-import com.dushy.tenantmanage.entity.RentAgreement;
-import com.dushy.tenantmanage.entity.Tenant;
 import com.dushy.tenantmanage.repository.*;
 import com.dushy.tenantmanage.service.DashboardService;
 import org.springframework.stereotype.Service;
@@ -13,8 +11,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 /**
  * Implementation of DashboardService.
@@ -45,39 +44,20 @@ public class DashboardServiceImpl implements DashboardService {
     public DashboardSummaryDto getDashboardSummary(Long userId) {
         List<Properties> properties = propertiesRepository.findByOwnerIdOrderByNameAsc(userId);
         int totalProperties = properties.size();
+        if (properties.isEmpty()) {
+            return new DashboardSummaryDto(0, 0, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO, 0);
+        }
 
-        // Calculate room counts only for user's properties (security fix)
-        long totalRooms = 0;
-        long occupiedRooms = 0;
-        long totalTenants = 0;
-        BigDecimal totalRentExpected = BigDecimal.ZERO;
-        BigDecimal totalRentCollected = BigDecimal.ZERO;
+        // Calculate only over the user's properties (security fix), one aggregate query per figure
+        List<Long> propertyIds = properties.stream().map(Properties::getId).toList();
         LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
 
-        for (Properties property : properties) {
-            totalRooms += roomRepository.countByFloorPropertyId(property.getId());
-            occupiedRooms += roomRepository.countByFloorPropertyIdAndIsOccupiedTrue(property.getId());
-
-            // Get tenants for this property
-            List<Tenant> propertyTenants = tenantRepository.findByIsActiveTrueAndRoomFloorPropertyId(property.getId());
-            totalTenants += propertyTenants.size();
-
-            // Calculate expected rent for this property's tenants
-            for (Tenant tenant : propertyTenants) {
-                Optional<RentAgreement> agreement = rentAgreementRepository
-                        .findByTenantIdAndIsActiveTrue(tenant.getId());
-                if (agreement.isPresent()) {
-                    totalRentExpected = totalRentExpected.add(agreement.get().getMonthlyRentAmount());
-                }
-            }
-
-            // Get collected rent for this property
-            BigDecimal propertyCollected = rentPaymentRepository
-                    .sumAmountPaidByPropertyIdAndPaymentForMonth(property.getId(), currentMonth);
-            if (propertyCollected != null) {
-                totalRentCollected = totalRentCollected.add(propertyCollected);
-            }
-        }
+        long totalRooms = roomRepository.countByPropertyIdIn(propertyIds);
+        long occupiedRooms = roomRepository.countByPropertyIdInAndIsOccupiedTrue(propertyIds);
+        long totalTenants = tenantRepository.countByIsActiveTrueAndPropertyIdIn(propertyIds);
+        BigDecimal totalRentExpected = rentAgreementRepository.sumActiveMonthlyRentByPropertyIdIn(propertyIds);
+        BigDecimal totalRentCollected = rentPaymentRepository
+                .sumAmountPaidByPropertyIdInAndPaymentForMonth(propertyIds, currentMonth);
 
         long vacantRooms = totalRooms - occupiedRooms;
         double occupancyRate = totalRooms > 0 ? ((double) occupiedRooms / totalRooms) * 100 : 0;
@@ -95,28 +75,18 @@ public class DashboardServiceImpl implements DashboardService {
 
     @Override
     public DashboardSummaryDto getPropertySummary(Long propertyId) {
-        long totalRooms = roomRepository.countByFloorPropertyId(propertyId);
-        long occupiedRooms = roomRepository.countByFloorPropertyIdAndIsOccupiedTrue(propertyId);
+        List<Long> propertyIds = List.of(propertyId);
+        long totalRooms = roomRepository.countByPropertyId(propertyId);
+        long occupiedRooms = roomRepository.countByPropertyIdAndIsOccupiedTrue(propertyId);
         long vacantRooms = totalRooms - occupiedRooms;
 
-        List<Tenant> tenants = tenantRepository.findByIsActiveTrueAndRoomFloorPropertyId(propertyId);
-        int totalTenants = tenants.size();
+        int totalTenants = (int) tenantRepository.countByIsActiveTrueAndPropertyIdIn(propertyIds);
 
         LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
 
-        BigDecimal expected = BigDecimal.ZERO;
-        for (Tenant tenant : tenants) {
-            Optional<RentAgreement> agreement = rentAgreementRepository.findByTenantIdAndIsActiveTrue(tenant.getId());
-            if (agreement.isPresent()) {
-                expected = expected.add(agreement.get().getMonthlyRentAmount());
-            }
-        }
-
+        BigDecimal expected = rentAgreementRepository.sumActiveMonthlyRentByPropertyIdIn(propertyIds);
         BigDecimal collected = rentPaymentRepository.sumAmountPaidByPropertyIdAndPaymentForMonth(propertyId,
                 currentMonth);
-        if (collected == null) {
-            collected = BigDecimal.ZERO;
-        }
 
         double occupancyRate = totalRooms > 0 ? ((double) occupiedRooms / totalRooms) * 100 : 0;
 
@@ -135,24 +105,25 @@ public class DashboardServiceImpl implements DashboardService {
     public List<TrendDataDto> getRentTrendsForUser(Long userId, int months) {
         List<TrendDataDto> trends = new ArrayList<>();
         LocalDate startMonth = LocalDate.now().withDayOfMonth(1).minusMonths(months - 1);
+        LocalDate endMonth = LocalDate.now().withDayOfMonth(1);
 
         // Get user's accessible properties
-        List<Properties> userProperties = propertiesRepository.findByOwnerIdOrderByNameAsc(userId);
+        List<Long> propertyIds = propertiesRepository.findByOwnerIdOrderByNameAsc(userId).stream()
+                .map(Properties::getId)
+                .toList();
+
+        // Sum payments across user's properties, all months in one grouped query
+        Map<LocalDate, BigDecimal> collectedByMonth = new HashMap<>();
+        if (!propertyIds.isEmpty()) {
+            for (Object[] row : rentPaymentRepository.sumAmountPaidByPropertyIdInGroupByMonth(propertyIds,
+                    startMonth, endMonth)) {
+                collectedByMonth.put((LocalDate) row[0], (BigDecimal) row[1]);
+            }
+        }
 
         for (int i = 0; i < months; i++) {
             LocalDate month = startMonth.plusMonths(i);
-            BigDecimal collected = BigDecimal.ZERO;
-
-            // Sum payments across user's properties
-            for (Properties property : userProperties) {
-                BigDecimal propertyCollected = rentPaymentRepository
-                        .sumAmountPaidByPropertyIdAndPaymentForMonth(property.getId(), month);
-                if (propertyCollected != null) {
-                    collected = collected.add(propertyCollected);
-                }
-            }
-
-            trends.add(new TrendDataDto(month, collected));
+            trends.add(new TrendDataDto(month, collectedByMonth.getOrDefault(month, BigDecimal.ZERO)));
         }
 
         return trends;
@@ -164,14 +135,15 @@ public class DashboardServiceImpl implements DashboardService {
         LocalDate startMonth = LocalDate.now().withDayOfMonth(1).minusMonths(months - 1);
 
         // Get user's accessible properties
-        List<Properties> userProperties = propertiesRepository.findByOwnerIdOrderByNameAsc(userId);
+        List<Long> propertyIds = propertiesRepository.findByOwnerIdOrderByNameAsc(userId).stream()
+                .map(Properties::getId)
+                .toList();
 
         long totalRooms = 0;
         long occupiedRooms = 0;
-
-        for (Properties property : userProperties) {
-            totalRooms += roomRepository.countByFloorPropertyId(property.getId());
-            occupiedRooms += roomRepository.countByFloorPropertyIdAndIsOccupiedTrue(property.getId());
+        if (!propertyIds.isEmpty()) {
+            totalRooms = roomRepository.countByPropertyIdIn(propertyIds);
+            occupiedRooms = roomRepository.countByPropertyIdInAndIsOccupiedTrue(propertyIds);
         }
 
         BigDecimal occupancyRate = totalRooms > 0
@@ -1,34 +1,47 @@
 package com.dushy.tenantmanage.service.impl;
 
+import com.dushy.tenantmanage.audit.AuditEventPublisher;
+import com.dushy.tenantmanage.audit.EntityDiffers;
 import com.dushy.tenantmanage.dto.BulkFloorDto;
 import com.dushy.tenantmanage.dto.BulkRoomDto;
 import com.dushy.tenantmanage.dto.DueRentDto;
 import com.dushy.tenantmanage.dto.FloorDto;
 import com.dushy.tenantmanage.dto.PropertyDto;
+import com.dushy.tenantmanage.dto.PropertyTreeDto;
 import com.dushy.tenantmanage.dto.RoomDto;
 import com.dushy.tenantmanage.dto.RoomInfoDto;
+import com.dushy.tenantmanage.dto.response.FloorResponse;
+import com.dushy.tenantmanage.dto.response.PropertyResponse;
+import com.dushy.tenantmanage.dto.response.RoomResponse;
 import com.dushy.tenantmanage.entity.Floor;
 import com.dushy.tenantmanage.entity.Properties;
+import com.dushy.tenantmanage.entity.RentAgreement;
 import com.dushy.tenantmanage.entity.Room;
 import com.dushy.tenantmanage.entity.Tenant;
 import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.enums.AuditAction;
 import com.dushy.tenantmanage.exception.DuplicateResourceException;
 import com.dushy.tenantmanage.exception.ResourceNotFoundException;
 import com.dushy.tenantmanage.repository.FloorRepository;
 import com.dushy.tenantmanage.repository.PropertiesRepository;
 import com.dushy.tenantmanage.repository.RoomRepository;
+import com.dushy.tenantmanage.repository.TenantRepository;
 import com.dushy.tenantmanage.repository.UserRepository;
+import com.dushy.tenantmanage.security.PropertyAuthorizationService;
 import com.dushy.tenantmanage.service.PropertyService;
 import com.dushy.tenantmanage.service.RentService;
-import com.dushy.tenantmanage.service.TenantService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementation of PropertyService.
@@ -42,25 +55,31 @@ public class PropertyServiceImpl implements PropertyService {
     private final FloorRepository floorRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
-    private final TenantService tenantService;
+    private final TenantRepository tenantRepository;
     private final RentService rentService;
+    private final PropertyAuthorizationService authorizationService;
+    private final AuditEventPublisher auditEventPublisher;
 
     public PropertyServiceImpl(PropertiesRepository propertiesRepository,
             FloorRepository floorRepository,
             RoomRepository roomRepository,
             UserRepository userRepository,
-            TenantService tenantService,
-            RentService rentService) {
+            TenantRepository tenantRepository,
+            RentService rentService,
+            PropertyAuthorizationService authorizationService,
+            AuditEventPublisher auditEventPublisher) {
         this.propertiesRepository = propertiesRepository;
         this.floorRepository = floorRepository;
         this.roomRepository = roomRepository;
         this.userRepository = userRepository;
-        this.tenantService = tenantService;
+        this.tenantRepository = tenantRepository;
         this.rentService = rentService;
+        this.authorizationService = authorizationService;
+        this.auditEventPublisher = auditEventPublisher;
     }
 
     @Override
-    public Properties createProperty(PropertyDto propertyDto, Long ownerId) {
+    public PropertyResponse createProperty(PropertyDto propertyDto, Long ownerId) {
         User owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", ownerId));
 
@@ -76,12 +95,16 @@ public class PropertyServiceImpl implements PropertyService {
                 .isActive(true)
                 .build();
 
-        return propertiesRepository.save(property);
+        Properties saved = propertiesRepository.save(property);
+        auditEventPublisher.publish(Properties.class, saved.getId(), AuditAction.CREATE,
+                EntityDiffers.PROPERTY.created(saved));
+        return PropertyResponse.from(saved);
     }
 
     @Override
-    public Properties updateProperty(Long id, PropertyDto propertyDto) {
-        Properties property = getPropertyById(id);
+    public PropertyResponse updateProperty(Long id, PropertyDto propertyDto) {
+        Properties property = findProperty(id);
+        Object[] before = EntityDiffers.PROPERTY.snapshot(property);
         property.setName(propertyDto.getName());
         property.setAddress(propertyDto.getAddress());
         property.setCity(propertyDto.getCity());
@@ -89,18 +112,24 @@ public class PropertyServiceImpl implements PropertyService {
         property.setPostalCode(propertyDto.getPostalCode());
         property.setCountry(propertyDto.getCountry());
         property.setTotalFloors(propertyDto.getTotalFloors());
-        return propertiesRepository.save(property);
+        Properties saved = propertiesRepository.save(property);
+        auditEventPublisher.publish(Properties.class, saved.getId(), AuditAction.UPDATE,
+                EntityDiffers.PROPERTY.diff(before, saved));
+        return PropertyResponse.from(saved);
     }
 
     @Override
     public void deleteProperty(Long id) {
-        Properties property = getPropertyById(id);
+        Properties property = findProperty(id);
+        Object[] before = EntityDiffers.PROPERTY.snapshot(property);
         property.setIsActive(false);
         propertiesRepository.save(property);
+        auditEventPublisher.publish(Properties.class, id, AuditAction.DELETE,
+                EntityDiffers.PROPERTY.diff(before, property));
     }
 
     @Override
-    public Floor addFloor(FloorDto floorDto, Long propertyId) {
+    public FloorResponse addFloor(FloorDto floorDto, Long propertyId) {
         Properties property = propertiesRepository.findById(propertyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Property", propertyId));
 
@@ -115,38 +144,43 @@ public class PropertyServiceImpl implements PropertyService {
                 .isActive(true)
                 .build();
 
-        return floorRepository.save(floor);
+        Floor saved = floorRepository.save(floor);
+        auditEventPublisher.publish(Floor.class, saved.getId(), AuditAction.CREATE);
+        return FloorResponse.from(saved);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Floor getFloorById(Long id) {
-        return floorRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Floor", id));
+    public FloorResponse getFloorById(Long id) {
+        return FloorResponse.from(findFloor(id));
     }
 
     @Override
-    public Floor updateFloor(Long id, FloorDto floorDto) {
-        Floor floor = getFloorById(id);
+    public FloorResponse updateFloor(Long id, FloorDto floorDto) {
+        Floor floor = findFloor(id);
         floor.setFloorNumber(floorDto.getFloorNumber());
         floor.setFloorName(floorDto.getFloorName());
-        return floorRepository.save(floor);
+        Floor saved = floorRepository.save(floor);
+        auditEventPublisher.publish(Floor.class, saved.getId(), AuditAction.UPDATE);
+        return FloorResponse.from(saved);
     }
 
     @Override
     public void deleteFloor(Long id) {
-        Floor floor = getFloorById(id);
+        Floor floor = findFloor(id);
         floor.setIsActive(false);
         floorRepository.save(floor);
+        auditEventPublisher.publish(Floor.class, id, AuditAction.DELETE);
     }
 
     @Override
-    public Room addRoom(RoomDto roomDto, Long floorId) {
+    public RoomResponse addRoom(RoomDto roomDto, Long floorId) {
         Floor floor = floorRepository.findById(floorId)
                 .orElseThrow(() -> new ResourceNotFoundException("Floor", floorId));
 
         Room room = Room.builder()
                 .floor(floor)
+                .propertyId(floor.getProperty().getId())
                 .roomNumber(roomDto.getRoomNumber())
                 .roomType(roomDto.getRoomType())
                 .sizeSqft(roomDto.getSizeSqft())
@@ -154,121 +188,164 @@ public class PropertyServiceImpl implements PropertyService {
                 .isActive(true)
                 .build();
 
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        auditEventPublisher.publish(Room.class, saved.getId(), AuditAction.CREATE,
+                EntityDiffers.ROOM.created(saved));
+        return RoomResponse.from(saved);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Room getRoomById(Long id) {
-        return roomRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Room", id));
+    public RoomResponse getRoomById(Long id) {
+        return RoomResponse.from(findRoom(id));
     }
 
     @Override
-    public Room updateRoom(Long id, RoomDto roomDto) {
-        Room room = getRoomById(id);
+    public RoomResponse updateRoom(Long id, RoomDto roomDto) {
+        Room room = findRoom(id);
+        Object[] before = EntityDiffers.ROOM.snapshot(room);
         room.setRoomNumber(roomDto.getRoomNumber());
         room.setRoomType(roomDto.getRoomType());
         room.setSizeSqft(roomDto.getSizeSqft());
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        auditEventPublisher.publish(Room.class, saved.getId(), AuditAction.UPDATE,
+                EntityDiffers.ROOM.diff(before, saved));
+        return RoomResponse.from(saved);
     }
 
     @Override
     public void deleteRoom(Long id) {
-        Room room = getRoomById(id);
+        Room room = findRoom(id);
+        Object[] before = EntityDiffers.ROOM.snapshot(room);
         room.setIsActive(false);
         roomRepository.save(room);
+        auditEventPublisher.publish(Room.class, id, AuditAction.DELETE,
+                EntityDiffers.ROOM.diff(before, room));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Properties> getPropertiesByOwner(Long ownerId) {
-        return propertiesRepository.findByOwnerIdOrderByNameAsc(ownerId);
+    public List<PropertyResponse> getPropertiesByOwner(Long ownerId) {
+        return propertiesRepository.findByOwnerIdOrderByNameAsc(ownerId).stream()
+                .map(PropertyResponse::from)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Properties getPropertyById(Long id) {
-        return propertiesRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Property", id));
+    public List<PropertyResponse> getAccessibleProperties(Long userId, String mode, Long ownerId) {
+        List<Properties> properties;
+        if ("owner".equalsIgnoreCase(mode)) {
+            properties = authorizationService.getPropertiesAsOwner(userId);
+        } else if ("assistant".equalsIgnoreCase(mode)) {
+            properties = authorizationService.getPropertiesAsAssistant(userId, ownerId);
+        } else {
+            properties = authorizationService.getAccessibleProperties(userId);
+        }
+        return properties.stream().map(PropertyResponse::from).toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Floor> getFloorsByProperty(Long propertyId) {
-        return floorRepository.findByPropertyIdOrderByFloorNumberAsc(propertyId);
+    public PropertyResponse getPropertyById(Long id) {
+        return PropertyResponse.from(findProperty(id));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Room> getRoomsByFloor(Long floorId) {
-        return roomRepository.findByFloorIdOrderByRoomNumberAsc(floorId);
+    public List<FloorResponse> getFloorsByProperty(Long propertyId) {
+        return floorRepository.findByPropertyIdOrderByFloorNumberAsc(propertyId).stream()
+                .map(FloorResponse::from)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Room> getAvailableRoomsByFloor(Long floorId) {
-        return roomRepository.findByFloorIdAndIsOccupiedFalseOrderByRoomNumberAsc(floorId);
+    public List<RoomResponse> getRoomsByFloor(Long floorId) {
+        return roomRepository.findByFloorIdOrderByRoomNumberAsc(floorId).stream()
+                .map(RoomResponse::from)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Room> getRoomsByProperty(Long propertyId) {
-        return roomRepository.findByFloorPropertyIdOrderByFloorFloorNumberAscRoomNumberAsc(propertyId);
+    public List<RoomResponse> getAvailableRoomsByFloor(Long floorId) {
+        return roomRepository.findByFloorIdAndIsOccupiedFalseOrderByRoomNumberAsc(floorId).stream()
+                .map(RoomResponse::from)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Room> getVacantRooms() {
+    public List<RoomResponse> getRoomsByProperty(Long propertyId) {
+        return roomRepository.findByPropertyIdOrderByFloorFloorNumberAscRoomNumberAsc(propertyId).stream()
+                .map(RoomResponse::from)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoomResponse> getVacantRooms() {
         return roomRepository
-                .findByIsOccupiedFalseAndIsActiveTrueOrderByFloorPropertyIdAscFloorFloorNumberAscRoomNumberAsc();
+                .findByIsOccupiedFalseAndIsActiveTrueOrderByPropertyIdAscFloorFloorNumberAscRoomNumberAsc()
+                .stream()
+                .map(RoomResponse::from)
+                .toList();
     }
 
     @Override
-    public List<Floor> bulkCreateFloors(BulkFloorDto bulkFloorDto) {
+    public List<FloorResponse> bulkCreateFloors(BulkFloorDto bulkFloorDto) {
         Properties property = propertiesRepository.findById(bulkFloorDto.getPropertyId())
                 .orElseThrow(() -> new ResourceNotFoundException("Property", bulkFloorDto.getPropertyId()));
 
-        List<Floor> createdFloors = new ArrayList<>();
+        // Prefetch used floor numbers once; add() also skips duplicates within the request
+        Set<Integer> usedFloorNumbers = new HashSet<>(
+                floorRepository.findFloorNumbersByPropertyId(bulkFloorDto.getPropertyId()));
+
+        List<Floor> newFloors = new ArrayList<>();
         for (FloorDto floorDto : bulkFloorDto.getFloors()) {
-            if (floorRepository.findByPropertyIdAndFloorNumber(bulkFloorDto.getPropertyId(),
-                    floorDto.getFloorNumber()).isEmpty()) {
-                Floor floor = Floor.builder()
+            if (usedFloorNumbers.add(floorDto.getFloorNumber())) {
+                newFloors.add(Floor.builder()
                         .property(property)
                         .floorNumber(floorDto.getFloorNumber())
                         .floorName(floorDto.getFloorName())
                         .isActive(true)
-                        .build();
-                createdFloors.add(floorRepository.save(floor));
+                        .build());
             }
         }
-        return createdFloors;
+        // Sequence ids let Hibernate send these as JDBC batches
+        List<Floor> saved = floorRepository.saveAll(newFloors);
+        saved.forEach(floor -> auditEventPublisher.publish(Floor.class, floor.getId(), AuditAction.CREATE));
+        return saved.stream().map(FloorResponse::from).toList();
     }
 
     @Override
-    public List<Room> bulkCreateRooms(BulkRoomDto bulkRoomDto) {
+    public List<RoomResponse> bulkCreateRooms(BulkRoomDto bulkRoomDto) {
         Floor floor = floorRepository.findById(bulkRoomDto.getFloorId())
                 .orElseThrow(() -> new ResourceNotFoundException("Floor", bulkRoomDto.getFloorId()));
 
-        List<Room> createdRooms = new ArrayList<>();
+        List<Room> newRooms = new ArrayList<>(bulkRoomDto.getRooms().size());
         for (RoomDto roomDto : bulkRoomDto.getRooms()) {
-            Room room = Room.builder()
+            newRooms.add(Room.builder()
                     .floor(floor)
+                    .propertyId(floor.getProperty().getId())
                     .roomNumber(roomDto.getRoomNumber())
                     .roomType(roomDto.getRoomType())
                     .sizeSqft(roomDto.getSizeSqft())
                     .isOccupied(false)
                     .isActive(true)
-                    .build();
-            createdRooms.add(roomRepository.save(room));
+                    .build());
         }
-        return createdRooms;
+        List<Room> saved = roomRepository.saveAll(newRooms);
+        saved.forEach(room -> auditEventPublisher.publish(Room.class, room.getId(), AuditAction.CREATE,
+                EntityDiffers.ROOM.created(room)));
+        return saved.stream().map(RoomResponse::from).toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<RoomInfoDto> getRoomsInfoByFloor(Long floorId) {
-        List<Room> rooms = getRoomsByFloor(floorId);
+        List<Room> rooms = roomRepository.findByFloorIdOrderByRoomNumberAsc(floorId);
         List<RoomInfoDto> roomInfoList = new ArrayList<>();
         LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
 
@@ -282,7 +359,7 @@ public class PropertyServiceImpl implements PropertyService {
 
             if (Boolean.TRUE.equals(room.getIsOccupied())) {
                 // Get active tenant for this room
-                Optional<Tenant> tenantOpt = tenantService.getActiveTenantByRoom(room.getId());
+                Optional<Tenant> tenantOpt = tenantRepository.findByRoomIdAndIsActiveTrue(room.getId());
                 if (tenantOpt.isPresent()) {
                     Tenant tenant = tenantOpt.get();
                     builder.tenantId(tenant.getId())
@@ -312,4 +389,93 @@ public class PropertyServiceImpl implements PropertyService {
 
         return roomInfoList;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PropertyTreeDto getPropertyTree(Long propertyId, boolean includeRooms, boolean includeTenants) {
+        Properties property = findProperty(propertyId);
+        List<Floor> floors = floorRepository.findByPropertyIdOrderByFloorNumberAsc(propertyId);
+        List<Room> rooms = roomRepository.findByPropertyIdOrderByFloorFloorNumberAscRoomNumberAsc(propertyId);
+
+        // Active tenant and agreement per room, in one query
+        Map<Long, PropertyTreeDto.TenantNode> tenantsByRoom = new HashMap<>();
+        if (includeRooms && includeTenants) {
+            for (Object[] row : tenantRepository.findActiveWithAgreementByPropertyId(propertyId)) {
+                Tenant tenant = (Tenant) row[0];
+                RentAgreement agreement = (RentAgreement) row[1];
+                tenantsByRoom.put(tenant.getRoom().getId(), PropertyTreeDto.TenantNode.builder()
+                        .id(tenant.getId())
+                        .fullName(tenant.getFullName())
+                        .phone(tenant.getPhone())
+                        .moveInDate(tenant.getMoveInDate())
+                        .rentAmount(agreement != null ? agreement.getMonthlyRentAmount() : null)
+                        .paymentDueDay(agreement != null ? agreement.getPaymentDueDay() : null)
+                        .build());
+            }
+        }
+
+        // Rooms arrive ordered by floor and room number, so grouping keeps that order
+        Map<Long, List<PropertyTreeDto.RoomNode>> roomsByFloor = new HashMap<>();
+        for (Room room : rooms) {
+            roomsByFloor.computeIfAbsent(room.getFloor().getId(), id -> new ArrayList<>())
+                    .add(PropertyTreeDto.RoomNode.builder()
+                            .id(room.getId())
+                            .roomNumber(room.getRoomNumber())
+                            .roomType(room.getRoomType())
+                            .sizeSqft(room.getSizeSqft())
+                            .isOccupied(room.getIsOccupied())
+                            .isActive(room.getIsActive())
+                            .tenant(tenantsByRoom.get(room.getId()))
+                            .build());
+        }
+
+        int totalRooms = 0;
+        int occupiedRooms = 0;
+        List<PropertyTreeDto.FloorNode> floorNodes = new ArrayList<>(floors.size());
+        for (Floor floor : floors) {
+            List<PropertyTreeDto.RoomNode> floorRooms = roomsByFloor.getOrDefault(floor.getId(), List.of());
+            int floorOccupied = (int) floorRooms.stream()
+                    .filter(room -> Boolean.TRUE.equals(room.getIsOccupied()))
+                    .count();
+            totalRooms += floorRooms.size();
+            occupiedRooms += floorOccupied;
+
+            floorNodes.add(PropertyTreeDto.FloorNode.builder()
+                    .id(floor.getId())
+                    .floorNumber(floor.getFloorNumber())
+                    .floorName(floor.getFloorName())
+                    .isActive(floor.getIsActive())
+                    .totalRooms(floorRooms.size())
+                    .occupiedRooms(floorOccupied)
+                    .rooms(includeRooms ? floorRooms : null)
+                    .build());
+        }
+
+        return PropertyTreeDto.builder()
+                .id(property.getId())
+                .name(property.getName())
+                .address(property.getAddress())
+                .city(property.getCity())
+                .totalFloors(property.getTotalFloors())
+                .isActive(property.getIsActive())
+                .totalRooms(totalRooms)
+                .occupiedRooms(occupiedRooms)
+                .floors(floorNodes)
+                .build();
+    }
+
+    private Properties findProperty(Long id) {
+        return propertiesRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Property", id));
+    }
+
+    private Floor findFloor(Long id) {
+        return floorRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Floor", id));
+    }
+
+    private Room findRoom(Long id) {
+        return roomRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Room", id));
+    }
 }
@@ -1,15 +1,23 @@
 package com.dushy.tenantmanage.service.impl;
 
+import com.dushy.tenantmanage.audit.AuditEventPublisher;
+import com.dushy.tenantmanage.audit.EntityDiffers;
+import com.dushy.tenantmanage.billing.ArrearsAging;
 import com.dushy.tenantmanage.dto.BulkPaymentDto;
 import com.dushy.tenantmanage.dto.DueRentDto;
 import com.dushy.tenantmanage.dto.RentAgreementDto;
 import com.dushy.tenantmanage.dto.RentPaymentDto;
 import com.dushy.tenantmanage.dto.RentPaymentResponseDto;
 import com.dushy.tenantmanage.dto.RentSummaryDto;
+import com.dushy.tenantmanage.dto.response.ArrearsAgingPageResponse;
+import com.dushy.tenantmanage.dto.response.RentAgreementResponse;
+import com.dushy.tenantmanage.dto.response.RentPaymentResponse;
 import com.dushy.tenantmanage.entity.RentAgreement;
 import com.dushy.tenantmanage.entity.RentPayment;
 import com.dushy.tenantmanage.entity.Tenant;
 import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.enums.ArrearsSort;
+import com.dushy.tenantmanage.enums.AuditAction;
 import com.dushy.tenantmanage.exception.InvalidOperationException;
 import com.dushy.tenantmanage.exception.ResourceNotFoundException;
 import com.dushy.tenantmanage.repository.RentAgreementRepository;
@@ -17,14 +25,18 @@ import com.dushy.tenantmanage.repository.RentPaymentRepository;
 import com.dushy.tenantmanage.repository.TenantRepository;
 import com.dushy.tenantmanage.repository.UserRepository;
 import com.dushy.tenantmanage.service.RentService;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementation of RentService.
@@ -34,19 +46,28 @@ import java.util.Optional;
 @Transactional
 public class RentServiceImpl implements RentService {
 
+    public static final int MAX_ARREARS_PAGE_SIZE = 200;
+    private static final int PAYMENT_SEARCH_PAGE_SIZE = 500;
+
     private final RentAgreementRepository rentAgreementRepository;
     private final RentPaymentRepository rentPaymentRepository;
     private final TenantRepository tenantRepository;
     private final UserRepository userRepository;
+    private final AuditEventPublisher auditEventPublisher;
+    private final ArrearsAging arrearsAging;
 
     public RentServiceImpl(RentAgreementRepository rentAgreementRepository,
             RentPaymentRepository rentPaymentRepository,
             TenantRepository tenantRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            AuditEventPublisher auditEventPublisher,
+            ArrearsAging arrearsAging) {
         this.rentAgreementRepository = rentAgreementRepository;
         this.rentPaymentRepository = rentPaymentRepository;
         this.tenantRepository = tenantRepository;
         this.userRepository = userRepository;
+        this.auditEventPublisher = auditEventPublisher;
+        this.arrearsAging = arrearsAging;
     }
 
     @Override
@@ -71,7 +92,10 @@ public class RentServiceImpl implements RentService {
                 .createdBy(createdBy)
                 .build();
 
-        return rentAgreementRepository.save(agreement);
+        RentAgreement saved = rentAgreementRepository.save(agreement);
+        auditEventPublisher.publish(RentAgreement.class, saved.getId(), AuditAction.CREATE,
+                EntityDiffers.RENT_AGREEMENT.created(saved));
+        return saved;
     }
 
     @Override
@@ -83,14 +107,18 @@ public class RentServiceImpl implements RentService {
             throw new InvalidOperationException("Rent agreement is already closed");
         }
 
+        Object[] before = EntityDiffers.RENT_AGREEMENT.snapshot(agreement);
         agreement.setIsActive(false);
         agreement.setEndDate(LocalDate.now());
 
-        return rentAgreementRepository.save(agreement);
+        RentAgreement saved = rentAgreementRepository.save(agreement);
+        auditEventPublisher.publish(RentAgreement.class, saved.getId(), AuditAction.UPDATE,
+                EntityDiffers.RENT_AGREEMENT.diff(before, saved));
+        return saved;
     }
 
     @Override
-    public RentPayment recordPayment(RentPaymentDto paymentDto, Long tenantId, Long recordedById) {
+    public RentPaymentResponse recordPayment(RentPaymentDto paymentDto, Long tenantId, Long recordedById) {
         Tenant tenant = tenantRepository.findById(tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tenant", tenantId));
 
@@ -103,6 +131,7 @@ public class RentServiceImpl implements RentService {
         RentPayment payment = RentPayment.builder()
                 .rentAgreement(agreement)
                 .tenant(tenant)
+                .propertyId(tenant.getPropertyId())
                 .amountPaid(paymentDto.getAmountPaid())
                 .paymentDate(paymentDto.getPaymentDate() != null ? paymentDto.getPaymentDate() : LocalDate.now())
                 .paymentForMonth(paymentDto.getPaymentForMonth())
@@ -112,7 +141,12 @@ public class RentServiceImpl implements RentService {
                 .recordedBy(recordedBy)
                 .build();
 
-        return rentPaymentRepository.save(payment);
+        RentPayment saved = rentPaymentRepository.save(payment);
+        auditEventPublisher.publish(RentPayment.class, saved.getId(), AuditAction.CREATE,
+                EntityDiffers.RENT_PAYMENT.created(saved));
+        // Identity ID, so the payment row is already inserted for the aging query to see
+        arrearsAging.paymentRecorded(agreement.getId());
+        return RentPaymentResponse.from(saved);
     }
 
     @Override
@@ -156,7 +190,7 @@ public class RentServiceImpl implements RentService {
                 .tenantId(tenantId)
                 .tenantName(tenant.getFullName())
                 .roomNumber(tenant.getRoom().getRoomNumber())
-                .propertyId(tenant.getRoom().getFloor().getProperty().getId())
+                .propertyId(tenant.getPropertyId())
                 .propertyName(tenant.getRoom().getFloor().getProperty().getName())
                 .expectedAmount(expectedAmount)
                 .paidAmount(paidAmount)
@@ -199,7 +233,7 @@ public class RentServiceImpl implements RentService {
                         .tenantId(tenant.getId())
                         .tenantName(tenant.getFullName())
                         .roomNumber(tenant.getRoom().getRoomNumber())
-                        .propertyId(tenant.getRoom().getFloor().getProperty().getId())
+                        .propertyId(tenant.getPropertyId())
                         .propertyName(tenant.getRoom().getFloor().getProperty().getName())
                         .expectedAmount(expectedAmount)
                         .paidAmount(paidAmount)
@@ -214,20 +248,24 @@ public class RentServiceImpl implements RentService {
 
     @Override
     @Transactional(readOnly = true)
-    public Optional<RentAgreement> getActiveAgreementByTenant(Long tenantId) {
-        return rentAgreementRepository.findByTenantIdAndIsActiveTrue(tenantId);
+    public Optional<RentAgreementResponse> getActiveAgreementByTenant(Long tenantId) {
+        return rentAgreementRepository.findByTenantIdAndIsActiveTrue(tenantId).map(RentAgreementResponse::from);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<RentPayment> getPaymentsByTenant(Long tenantId) {
-        return rentPaymentRepository.findByTenantIdOrderByPaymentDateDesc(tenantId);
+    public List<RentPaymentResponse> getPaymentsByTenant(Long tenantId) {
+        return rentPaymentRepository.findByTenantIdOrderByPaymentDateDesc(tenantId).stream()
+                .map(RentPaymentResponse::from)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<RentPayment> getPaymentsByMonth(LocalDate month) {
-        return rentPaymentRepository.findByPaymentForMonth(month);
+    public List<RentPaymentResponse> getPaymentsByMonth(LocalDate month) {
+        return rentPaymentRepository.findByPaymentForMonth(month).stream()
+                .map(RentPaymentResponse::from)
+                .toList();
     }
 
     @Override
@@ -236,7 +274,7 @@ public class RentServiceImpl implements RentService {
         LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
 
         // Get all active tenants in property
-        List<Tenant> tenants = tenantRepository.findByIsActiveTrueAndRoomFloorPropertyId(propertyId);
+        List<Tenant> tenants = tenantRepository.findByIsActiveTrueAndPropertyId(propertyId);
 
         BigDecimal expected = BigDecimal.ZERO;
         for (Tenant tenant : tenants) {
@@ -262,58 +300,49 @@ public class RentServiceImpl implements RentService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<RentPaymentResponseDto> searchPaymentsWithFilters(LocalDate startDate, LocalDate endDate,
-            Long propertyId, Long roomId) {
-        List<RentPayment> payments;
-
-        // Apply appropriate filter based on provided parameters
-        if (propertyId != null && roomId != null) {
-            payments = rentPaymentRepository.findByPaymentDateBetweenAndPropertyIdAndRoomId(startDate, endDate,
-                    propertyId, roomId);
-        } else if (propertyId != null) {
-            payments = rentPaymentRepository.findByPaymentDateBetweenAndPropertyId(startDate, endDate, propertyId);
-        } else if (roomId != null) {
-            payments = rentPaymentRepository.findByPaymentDateBetweenAndRoomId(startDate, endDate, roomId);
-        } else {
-            payments = rentPaymentRepository.findByPaymentDateBetween(startDate, endDate);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void streamPaymentsWithFilters(LocalDate startDate, LocalDate endDate, Collection<Long> propertyIds,
+            Long roomId, Consumer<RentPaymentResponseDto> action) {
+        if (propertyIds.isEmpty()) {
+            return;
         }
-
-        // Map to response DTO with flattened fields
-        return payments.stream()
-                .map(this::mapToResponseDto)
-                .toList();
-    }
-
-    /**
-     * Maps a RentPayment entity to RentPaymentResponseDto with flattened fields.
-     */
-    private RentPaymentResponseDto mapToResponseDto(RentPayment payment) {
-        Tenant tenant = payment.getTenant();
-        return RentPaymentResponseDto.builder()
-                .id(payment.getId())
-                .amountPaid(payment.getAmountPaid())
-                .paymentDate(payment.getPaymentDate())
-                .paymentForMonth(payment.getPaymentForMonth())
-                .paymentMode(payment.getPaymentMode())
-                .transactionReference(payment.getTransactionReference())
-                .notes(payment.getNotes())
-                .tenantId(tenant.getId())
-                .tenantName(tenant.getFullName())
-                .propertyId(tenant.getRoom().getFloor().getProperty().getId())
-                .propertyName(tenant.getRoom().getFloor().getProperty().getName())
-                .roomId(tenant.getRoom().getId())
-                .roomNumber(tenant.getRoom().getRoomNumber())
-                .build();
+        LocalDate afterDate = endDate.plusDays(1);
+        long afterId = Long.MAX_VALUE;
+        List<RentPaymentResponseDto> page;
+        do {
+            // Outside a transaction each page is its own repository transaction, so the
+            // connection goes back to the pool before the rows are handed on
+            page = rentPaymentRepository.findResponseDtosByPaymentDateBetween(startDate, endDate, propertyIds,
+                    roomId, afterDate, afterId, PageRequest.ofSize(PAYMENT_SEARCH_PAGE_SIZE));
+            page.forEach(action);
+            if (!page.isEmpty()) {
+                RentPaymentResponseDto last = page.get(page.size() - 1);
+                afterDate = last.getPaymentDate();
+                afterId = last.getId();
+            }
+        } while (page.size() == PAYMENT_SEARCH_PAGE_SIZE);
     }
 
     @Override
-    public List<RentPayment> bulkRecordPayments(BulkPaymentDto bulkPaymentDto, Long recordedById) {
-        List<RentPayment> payments = new ArrayList<>();
+    public List<RentPaymentResponse> bulkRecordPayments(BulkPaymentDto bulkPaymentDto, Long recordedById) {
+        List<RentPaymentResponse> payments = new ArrayList<>();
         for (BulkPaymentDto.PaymentEntry entry : bulkPaymentDto.getPayments()) {
-            RentPayment payment = recordPayment(entry.getPayment(), entry.getTenantId(), recordedById);
+            RentPaymentResponse payment = recordPayment(entry.getPayment(), entry.getTenantId(), recordedById);
             payments.add(payment);
         }
         return payments;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ArrearsAgingPageResponse getArrearsAging(Collection<Long> propertyIds, Long ownerId, ArrearsSort sort,
+            int page, int size) {
+        if (page < 0) {
+            throw new InvalidOperationException("page must not be negative");
+        }
+        if (size < 1 || size > MAX_ARREARS_PAGE_SIZE) {
+            throw new InvalidOperationException("size must be between 1 and " + MAX_ARREARS_PAGE_SIZE);
+        }
+        return arrearsAging.findPage(propertyIds, ownerId, sort, page, size);
+    }
 }
@@ -1,12 +1,19 @@
 package com.dushy.tenantmanage.service.impl;
 
+import com.dushy.tenantmanage.audit.AuditEventPublisher;
+import com.dushy.tenantmanage.audit.EntityDiffers;
+import com.dushy.tenantmanage.dto.BulkTenantOperationResultDto;
 import com.dushy.tenantmanage.dto.RentAgreementDto;
 import com.dushy.tenantmanage.dto.TenantDto;
 import com.dushy.tenantmanage.dto.TenantResponseDto;
+import com.dushy.tenantmanage.dto.request.BulkTenantOperationRequest.TenantOperation;
+import com.dushy.tenantmanage.dto.response.RentAgreementResponse;
 import com.dushy.tenantmanage.entity.RentAgreement;
 import com.dushy.tenantmanage.entity.Room;
 import com.dushy.tenantmanage.entity.Tenant;
 import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.enums.AuditAction;
+import com.dushy.tenantmanage.enums.TenantOperationType;
 import com.dushy.tenantmanage.exception.InvalidOperationException;
 import com.dushy.tenantmanage.exception.ResourceNotFoundException;
 import com.dushy.tenantmanage.repository.RentAgreementRepository;
@@ -18,8 +25,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementation of TenantService.
@@ -33,19 +47,23 @@ public class TenantServiceImpl implements TenantService {
     private final RoomRepository roomRepository;
     private final RentAgreementRepository rentAgreementRepository;
     private final UserRepository userRepository;
+    private final AuditEventPublisher auditEventPublisher;
 
     public TenantServiceImpl(TenantRepository tenantRepository,
             RoomRepository roomRepository,
             RentAgreementRepository rentAgreementRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            AuditEventPublisher auditEventPublisher) {
         this.tenantRepository = tenantRepository;
         this.roomRepository = roomRepository;
         this.rentAgreementRepository = rentAgreementRepository;
         this.userRepository = userRepository;
+        this.auditEventPublisher = auditEventPublisher;
     }
 
     @Override
-    public Tenant addTenant(TenantDto tenantDto, Long roomId, RentAgreementDto agreementDto, Long createdById) {
+    public TenantResponseDto addTenant(TenantDto tenantDto, Long roomId, RentAgreementDto agreementDto,
+            Long createdById) {
         // Validate room exists
         Room room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("Room", roomId));
@@ -60,8 +78,27 @@ public class TenantServiceImpl implements TenantService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", createdById));
 
         // Create tenant
-        Tenant tenant = Tenant.builder()
+        Tenant tenant = tenantRepository.save(buildTenant(tenantDto, room));
+
+        // Mark room as occupied
+        room.setIsOccupied(true);
+        roomRepository.save(room);
+
+        // Create rent agreement
+        RentAgreement agreement = rentAgreementRepository.save(buildAgreement(agreementDto, tenant, createdBy));
+
+        auditEventPublisher.publish(Tenant.class, tenant.getId(), AuditAction.MOVE_IN,
+                EntityDiffers.TENANT.created(tenant));
+        auditEventPublisher.publish(RentAgreement.class, agreement.getId(), AuditAction.CREATE,
+                EntityDiffers.RENT_AGREEMENT.created(agreement));
+
+        return toResponseDto(tenant, room, agreement);
+    }
+
+    private Tenant buildTenant(TenantDto tenantDto, Room room) {
+        return Tenant.builder()
                 .room(room)
+                .propertyId(room.getPropertyId())
                 .fullName(tenantDto.getFullName())
                 .email(tenantDto.getEmail())
                 .phone(tenantDto.getPhone())
@@ -72,15 +109,10 @@ public class TenantServiceImpl implements TenantService {
                 .moveInDate(tenantDto.getMoveInDate() != null ? tenantDto.getMoveInDate() : LocalDate.now())
                 .isActive(true)
                 .build();
+    }
 
-        tenant = tenantRepository.save(tenant);
-
-        // Mark room as occupied
-        room.setIsOccupied(true);
-        roomRepository.save(room);
-
-        // Create rent agreement
-        RentAgreement agreement = RentAgreement.builder()
+    private RentAgreement buildAgreement(RentAgreementDto agreementDto, Tenant tenant, User createdBy) {
+        return RentAgreement.builder()
                 .tenant(tenant)
                 .monthlyRentAmount(agreementDto.getMonthlyRentAmount())
                 .securityDeposit(agreementDto.getSecurityDeposit())
@@ -89,14 +121,14 @@ public class TenantServiceImpl implements TenantService {
                 .isActive(true)
                 .createdBy(createdBy)
                 .build();
-
-        rentAgreementRepository.save(agreement);
-
-        return tenant;
     }
 
     @Override
-    public Tenant moveOutTenant(Long tenantId) {
+    public TenantResponseDto moveOutTenant(Long tenantId) {
+        return toResponseDto(moveOut(tenantId));
+    }
+
+    private Tenant moveOut(Long tenantId) {
         // Get tenant
         Tenant tenant = tenantRepository.findById(tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tenant", tenantId));
@@ -107,6 +139,7 @@ public class TenantServiceImpl implements TenantService {
         }
 
         // Mark tenant as inactive
+        Object[] before = EntityDiffers.TENANT.snapshot(tenant);
         tenant.setIsActive(false);
         tenant.setMoveOutDate(LocalDate.now());
         tenantRepository.save(tenant);
@@ -119,16 +152,22 @@ public class TenantServiceImpl implements TenantService {
         // Close active rent agreement
         rentAgreementRepository.findByTenantIdAndIsActiveTrue(tenantId)
                 .ifPresent(agreement -> {
+                    Object[] agreementBefore = EntityDiffers.RENT_AGREEMENT.snapshot(agreement);
                     agreement.setIsActive(false);
                     agreement.setEndDate(LocalDate.now());
                     rentAgreementRepository.save(agreement);
+                    auditEventPublisher.publish(RentAgreement.class, agreement.getId(), AuditAction.UPDATE,
+                            EntityDiffers.RENT_AGREEMENT.diff(agreementBefore, agreement));
                 });
 
+        auditEventPublisher.publish(Tenant.class, tenantId, AuditAction.MOVE_OUT,
+                EntityDiffers.TENANT.diff(before, tenant));
+
         return tenant;
     }
 
     @Override
-    public Tenant swapTenant(Long oldTenantId, TenantDto newTenantDto, RentAgreementDto agreementDto,
+    public TenantResponseDto swapTenant(Long oldTenantId, TenantDto newTenantDto, RentAgreementDto agreementDto,
             Long createdById) {
         // Get old tenant
         Tenant oldTenant = tenantRepository.findById(oldTenantId)
@@ -138,29 +177,205 @@ public class TenantServiceImpl implements TenantService {
         Room room = oldTenant.getRoom();
 
         // Move out old tenant (this frees the room)
-        moveOutTenant(oldTenantId);
+        moveOut(oldTenantId);
 
         // Add new tenant to the same room
         return addTenant(newTenantDto, room.getId(), agreementDto, createdById);
     }
 
+    @Override
+    public List<BulkTenantOperationResultDto> bulkTenantOperations(List<TenantOperation> operations,
+            Long createdById) {
+        User createdBy = userRepository.findById(createdById)
+                .orElseThrow(() -> new ResourceNotFoundException("User", createdById));
+
+        // Load every referenced tenant, room and active agreement up front
+        Set<Long> tenantIds = new HashSet<>();
+        Set<Long> roomIds = new HashSet<>();
+        for (TenantOperation operation : operations) {
+            if (operation.getTenantId() != null) {
+                tenantIds.add(operation.getTenantId());
+            }
+            if (operation.getRoomId() != null) {
+                roomIds.add(operation.getRoomId());
+            }
+        }
+
+        Map<Long, Tenant> tenants = new HashMap<>();
+        Map<Long, RentAgreement> activeAgreements = new HashMap<>();
+        if (!tenantIds.isEmpty()) {
+            tenantRepository.findAllWithRoomByIdIn(tenantIds)
+                    .forEach(tenant -> tenants.put(tenant.getId(), tenant));
+            rentAgreementRepository.findByTenantIdInAndIsActiveTrue(tenantIds)
+                    .forEach(agreement -> activeAgreements.put(agreement.getTenant().getId(), agreement));
+        }
+
+        Map<Long, Room> rooms = new HashMap<>();
+        if (!roomIds.isEmpty()) {
+            roomRepository.findAllWithPropertyByIdIn(roomIds)
+                    .forEach(room -> rooms.put(room.getId(), room));
+        }
+
+        // Stage changes in memory; room occupancy is tracked on the managed
+        // entities, so earlier operations in the batch are seen by later ones
+        BulkWriteBatch batch = new BulkWriteBatch();
+        List<BulkResult> results = new ArrayList<>(operations.size());
+
+        for (int i = 0; i < operations.size(); i++) {
+            TenantOperation operation = operations.get(i);
+            try {
+                results.add(switch (operation.getType()) {
+                    case MOVE_IN -> {
+                        requireNewTenantData(operation);
+                        if (operation.getRoomId() == null) {
+                            throw new InvalidOperationException("Room ID is required for MOVE_IN");
+                        }
+                        Room room = rooms.get(operation.getRoomId());
+                        if (room == null) {
+                            throw new ResourceNotFoundException("Room", operation.getRoomId());
+                        }
+                        yield stageMoveIn(i, operation, room, createdBy, batch);
+                    }
+                    case MOVE_OUT -> {
+                        Tenant tenant = requireActiveTenant(operation, tenants);
+                        stageMoveOut(tenant, activeAgreements.remove(tenant.getId()), batch);
+                        yield new BulkResult(i, operation.getType(), tenant, null, null);
+                    }
+                    case SWAP -> {
+                        requireNewTenantData(operation);
+                        Tenant oldTenant = requireActiveTenant(operation, tenants);
+                        stageMoveOut(oldTenant, activeAgreements.remove(oldTenant.getId()), batch);
+                        yield stageMoveIn(i, operation, oldTenant.getRoom(), createdBy, batch);
+                    }
+                });
+            } catch (InvalidOperationException | ResourceNotFoundException e) {
+                results.add(new BulkResult(i, operation.getType(), null, null, e.getMessage()));
+            }
+        }
+
+        // Tenants first so new agreements reference persisted tenants
+        tenantRepository.saveAll(batch.tenants);
+        roomRepository.saveAll(batch.rooms.values());
+        rentAgreementRepository.saveAll(batch.agreements);
+
+        // Staged tenants are either moving in (active) or out; agreements are either new or closed
+        for (Tenant tenant : batch.tenants) {
+            auditEventPublisher.publish(Tenant.class, tenant.getId(),
+                    Boolean.TRUE.equals(tenant.getIsActive()) ? AuditAction.MOVE_IN : AuditAction.MOVE_OUT,
+                    batch.changes.get(tenant));
+        }
+        for (RentAgreement agreement : batch.agreements) {
+            auditEventPublisher.publish(RentAgreement.class, agreement.getId(),
+                    Boolean.TRUE.equals(agreement.getIsActive()) ? AuditAction.CREATE : AuditAction.UPDATE,
+                    batch.changes.get(agreement));
+        }
+
+        return results.stream()
+                .map(result -> BulkTenantOperationResultDto.builder()
+                        .index(result.index())
+                        .type(result.type())
+                        .success(result.error() == null)
+                        .message(result.error())
+                        .tenant(result.tenant() != null
+                                ? toResponseDto(result.tenant(), result.tenant().getRoom(), result.agreement())
+                                : null)
+                        .build())
+                .toList();
+    }
+
+    private void requireNewTenantData(TenantOperation operation) {
+        if (operation.getTenant() == null || operation.getAgreement() == null) {
+            throw new InvalidOperationException(
+                    "Tenant and agreement data are required for " + operation.getType());
+        }
+    }
+
+    private Tenant requireActiveTenant(TenantOperation operation, Map<Long, Tenant> tenants) {
+        if (operation.getTenantId() == null) {
+            throw new InvalidOperationException("Tenant ID is required for " + operation.getType());
+        }
+        Tenant tenant = tenants.get(operation.getTenantId());
+        if (tenant == null) {
+            throw new ResourceNotFoundException("Tenant", operation.getTenantId());
+        }
+        if (Boolean.FALSE.equals(tenant.getIsActive())) {
+            throw new InvalidOperationException("Tenant is already inactive");
+        }
+        return tenant;
+    }
+
+    private BulkResult stageMoveIn(int index, TenantOperation operation, Room room, User createdBy,
+            BulkWriteBatch batch) {
+        if (Boolean.TRUE.equals(room.getIsOccupied())) {
+            throw new InvalidOperationException("Room is already occupied");
+        }
+
+        Tenant tenant = buildTenant(operation.getTenant(), room);
+        RentAgreement agreement = buildAgreement(operation.getAgreement(), tenant, createdBy);
+
+        room.setIsOccupied(true);
+        batch.tenants.add(tenant);
+        batch.agreements.add(agreement);
+        batch.rooms.put(room.getId(), room);
+        batch.changes.put(tenant, EntityDiffers.TENANT.created(tenant));
+        batch.changes.put(agreement, EntityDiffers.RENT_AGREEMENT.created(agreement));
+
+        return new BulkResult(index, operation.getType(), tenant, agreement, null);
+    }
+
+    private void stageMoveOut(Tenant tenant, RentAgreement activeAgreement, BulkWriteBatch batch) {
+        Object[] before = EntityDiffers.TENANT.snapshot(tenant);
+        tenant.setIsActive(false);
+        tenant.setMoveOutDate(LocalDate.now());
+        batch.tenants.add(tenant);
+        batch.changes.put(tenant, EntityDiffers.TENANT.diff(before, tenant));
+
+        Room room = tenant.getRoom();
+        room.setIsOccupied(false);
+        batch.rooms.put(room.getId(), room);
+
+        if (activeAgreement != null) {
+            Object[] agreementBefore = EntityDiffers.RENT_AGREEMENT.snapshot(activeAgreement);
+            activeAgreement.setIsActive(false);
+            activeAgreement.setEndDate(LocalDate.now());
+            batch.agreements.add(activeAgreement);
+            batch.changes.put(activeAgreement, EntityDiffers.RENT_AGREEMENT.diff(agreementBefore, activeAgreement));
+        }
+    }
+
+    /**
+     * Pending writes collected while staging a bulk operation.
+     * Rooms are keyed by ID because the same room can be freed and re-occupied
+     * within one batch. Audit diffs are keyed by identity since new entities
+     * have no ID until saved.
+     */
+    private static final class BulkWriteBatch {
+        private final List<Tenant> tenants = new ArrayList<>();
+        private final List<RentAgreement> agreements = new ArrayList<>();
+        private final Map<Long, Room> rooms = new LinkedHashMap<>();
+        private final Map<Object, String> changes = new IdentityHashMap<>();
+    }
+
+    private record BulkResult(int index, TenantOperationType type, Tenant tenant, RentAgreement agreement,
+            String error) {
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public Tenant getTenantById(Long id) {
-        return tenantRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Tenant", id));
+    public TenantResponseDto getTenantById(Long id) {
+        return toResponseDto(findTenant(id));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Tenant> getActiveTenants() {
-        return tenantRepository.findByIsActiveTrue();
+    public List<TenantResponseDto> getActiveTenants() {
+        return toResponseDtos(tenantRepository.findByIsActiveTrue());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Optional<Tenant> getActiveTenantByRoom(Long roomId) {
-        return tenantRepository.findByRoomIdAndIsActiveTrue(roomId);
+    public Optional<TenantResponseDto> getActiveTenantByRoom(Long roomId) {
+        return tenantRepository.findByRoomIdAndIsActiveTrue(roomId).map(this::toResponseDto);
     }
 
     @Override
@@ -171,13 +386,14 @@ public class TenantServiceImpl implements TenantService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Tenant> getTenantsByProperty(Long propertyId) {
-        return tenantRepository.findByIsActiveTrueAndRoomFloorPropertyId(propertyId);
+    public List<TenantResponseDto> getTenantsByProperty(Long propertyId) {
+        return toResponseDtos(tenantRepository.findByIsActiveTrueAndPropertyId(propertyId));
     }
 
     @Override
-    public Tenant updateTenant(Long id, TenantDto tenantDto) {
-        Tenant tenant = getTenantById(id);
+    public TenantResponseDto updateTenant(Long id, TenantDto tenantDto) {
+        Tenant tenant = findTenant(id);
+        Object[] before = EntityDiffers.TENANT.snapshot(tenant);
         tenant.setFullName(tenantDto.getFullName());
         tenant.setEmail(tenantDto.getEmail());
         tenant.setPhone(tenantDto.getPhone());
@@ -185,29 +401,36 @@ public class TenantServiceImpl implements TenantService {
         tenant.setIdProofNumber(tenantDto.getIdProofNumber());
         tenant.setEmergencyContactName(tenantDto.getEmergencyContactName());
         tenant.setEmergencyContactPhone(tenantDto.getEmergencyContactPhone());
-        return tenantRepository.save(tenant);
+        Tenant saved = tenantRepository.save(tenant);
+        auditEventPublisher.publish(Tenant.class, saved.getId(), AuditAction.UPDATE,
+                EntityDiffers.TENANT.diff(before, saved));
+        return toResponseDto(saved);
     }
 
     @Override
-    public RentAgreement updateAgreement(Long tenantId, RentAgreementDto agreementDto) {
+    public RentAgreementResponse updateAgreement(Long tenantId, RentAgreementDto agreementDto) {
         RentAgreement agreement = rentAgreementRepository.findByTenantIdAndIsActiveTrue(tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Active RentAgreement for tenant", tenantId));
 
+        Object[] before = EntityDiffers.RENT_AGREEMENT.snapshot(agreement);
         agreement.setMonthlyRentAmount(agreementDto.getMonthlyRentAmount());
         agreement.setSecurityDeposit(agreementDto.getSecurityDeposit());
         if (agreementDto.getPaymentDueDay() != null) {
             agreement.setPaymentDueDay(agreementDto.getPaymentDueDay());
         }
-        return rentAgreementRepository.save(agreement);
+        RentAgreement saved = rentAgreementRepository.save(agreement);
+        auditEventPublisher.publish(RentAgreement.class, saved.getId(), AuditAction.UPDATE,
+                EntityDiffers.RENT_AGREEMENT.diff(before, saved));
+        return RentAgreementResponse.from(saved);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Tenant> searchTenants(String query, Long propertyId) {
+    public List<TenantResponseDto> searchTenants(String query, Long propertyId) {
         if (propertyId != null) {
-            return tenantRepository.searchByPropertyId(query, propertyId);
+            return toResponseDtos(tenantRepository.searchByPropertyId(query, propertyId));
         }
-        return tenantRepository.findByFullNameContainingIgnoreCaseOrPhoneContaining(query, query);
+        return toResponseDtos(tenantRepository.findByFullNameContainingIgnoreCaseOrPhoneContaining(query, query));
     }
 
     @Override
@@ -216,8 +439,14 @@ public class TenantServiceImpl implements TenantService {
         if (tenant == null) {
             return null;
         }
+        return toResponseDtos(List.of(tenant)).get(0);
+    }
 
-        Room room = tenant.getRoom();
+    /**
+     * @param room the tenant's room, loaded with floor and property in the
+     *             current transaction
+     */
+    private TenantResponseDto toResponseDto(Tenant tenant, Room room, RentAgreement agreement) {
         Long propertyId = null;
         String propertyName = null;
         String roomNumber = null;
@@ -232,15 +461,11 @@ public class TenantServiceImpl implements TenantService {
             }
         }
 
-        // Get active rent agreement info
         java.math.BigDecimal rentAmount = null;
         java.math.BigDecimal securityDeposit = null;
         Integer paymentDueDay = null;
 
-        java.util.Optional<RentAgreement> activeAgreement = rentAgreementRepository
-                .findByTenantIdAndIsActiveTrue(tenant.getId());
-        if (activeAgreement.isPresent()) {
-            RentAgreement agreement = activeAgreement.get();
+        if (agreement != null) {
             rentAmount = agreement.getMonthlyRentAmount();
             securityDeposit = agreement.getSecurityDeposit();
             paymentDueDay = agreement.getPaymentDueDay();
@@ -277,8 +502,30 @@ public class TenantServiceImpl implements TenantService {
         if (tenants == null || tenants.isEmpty()) {
             return java.util.Collections.emptyList();
         }
+        // Two set-based queries instead of one agreement and room lookup per tenant
+        List<Long> tenantIds = tenants.stream().map(Tenant::getId).toList();
+        Map<Long, RentAgreement> agreementsByTenant = new HashMap<>();
+        for (RentAgreement agreement : rentAgreementRepository.findByTenantIdInAndIsActiveTrue(tenantIds)) {
+            agreementsByTenant.put(agreement.getTenant().getId(), agreement);
+        }
+        // Rooms with floor and property in one query. The tenants may come from
+        // an earlier, closed session, so their room proxies are only used for the ID
+        Set<Long> roomIds = new HashSet<>();
+        for (Tenant tenant : tenants) {
+            if (tenant.getRoom() != null) {
+                roomIds.add(tenant.getRoom().getId());
+            }
+        }
+        Map<Long, Room> roomsById = new HashMap<>();
+        if (!roomIds.isEmpty()) {
+            roomRepository.findAllWithPropertyByIdIn(roomIds)
+                    .forEach(room -> roomsById.put(room.getId(), room));
+        }
+
         return tenants.stream()
-                .map(this::toResponseDto)
+                .map(tenant -> toResponseDto(tenant,
+                        tenant.getRoom() != null ? roomsById.get(tenant.getRoom().getId()) : null,
+                        agreementsByTenant.get(tenant.getId())))
                 .toList();
     }
 
@@ -288,4 +535,9 @@ public class TenantServiceImpl implements TenantService {
         List<Tenant> allTenants = tenantRepository.findByRoomIdOrderByMoveInDateDesc(roomId);
         return toResponseDtos(allTenants);
     }
+
+    private Tenant findTenant(Long id) {
+        return tenantRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tenant", id));
+    }
 }
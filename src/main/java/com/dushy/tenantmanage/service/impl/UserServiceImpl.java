@@ -1,12 +1,18 @@
 package com.dushy.tenantmanage.service.impl;
 
+import com.dushy.tenantmanage.audit.AuditEventPublisher;
+import com.dushy.tenantmanage.audit.EntityDiffers;
+import com.dushy.tenantmanage.dto.AssistantDto;
 import com.dushy.tenantmanage.dto.OwnerDto;
 import com.dushy.tenantmanage.dto.UpdatePasswordDto;
 import com.dushy.tenantmanage.dto.UserDto;
+import com.dushy.tenantmanage.dto.response.PropertyAccessResponse;
+import com.dushy.tenantmanage.dto.response.UserResponse;
 import com.dushy.tenantmanage.entity.Properties;
 import com.dushy.tenantmanage.entity.PropertyAccess;
 import com.dushy.tenantmanage.entity.User;
 import com.dushy.tenantmanage.enums.AccessLevel;
+import com.dushy.tenantmanage.enums.AuditAction;
 
 import com.dushy.tenantmanage.exception.DuplicateResourceException;
 import com.dushy.tenantmanage.exception.InvalidOperationException;
@@ -38,17 +44,20 @@ public class UserServiceImpl implements UserService {
     private final PropertiesRepository propertiesRepository;
     private final UserAssistantRepository userAssistantRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuditEventPublisher auditEventPublisher;
 
     public UserServiceImpl(UserRepository userRepository,
             PropertyAccessRepository propertyAccessRepository,
             PropertiesRepository propertiesRepository,
             UserAssistantRepository userAssistantRepository,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            AuditEventPublisher auditEventPublisher) {
         this.userRepository = userRepository;
         this.propertyAccessRepository = propertyAccessRepository;
         this.propertiesRepository = propertiesRepository;
         this.userAssistantRepository = userAssistantRepository;
         this.passwordEncoder = passwordEncoder;
+        this.auditEventPublisher = auditEventPublisher;
     }
 
     @Override
@@ -66,7 +75,9 @@ public class UserServiceImpl implements UserService {
                 .isActive(true)
                 .build();
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        auditEventPublisher.publish(User.class, saved.getId(), AuditAction.CREATE);
+        return saved;
     }
 
     @Override
@@ -87,7 +98,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public PropertyAccess assignPropertyAccess(Long propertyId, Long userId, AccessLevel accessLevel,
+    public PropertyAccessResponse assignPropertyAccess(Long propertyId, Long userId, AccessLevel accessLevel,
             Long grantedById) {
         Properties property = propertiesRepository.findById(propertyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Property", propertyId));
@@ -103,8 +114,12 @@ public class UserServiceImpl implements UserService {
 
         if (existingAccess.isPresent()) {
             PropertyAccess access = existingAccess.get();
+            Object[] before = EntityDiffers.PROPERTY_ACCESS.snapshot(access);
             access.setAccessLevel(accessLevel);
-            return propertyAccessRepository.save(access);
+            PropertyAccess saved = propertyAccessRepository.save(access);
+            auditEventPublisher.publish(PropertyAccess.class, saved.getId(), AuditAction.UPDATE,
+                    EntityDiffers.PROPERTY_ACCESS.diff(before, saved));
+            return PropertyAccessResponse.from(saved);
         }
 
         PropertyAccess propertyAccess = PropertyAccess.builder()
@@ -115,14 +130,16 @@ public class UserServiceImpl implements UserService {
                 .isActive(true)
                 .build();
 
-        return propertyAccessRepository.save(propertyAccess);
+        PropertyAccess saved = propertyAccessRepository.save(propertyAccess);
+        auditEventPublisher.publish(PropertyAccess.class, saved.getId(), AuditAction.GRANT,
+                EntityDiffers.PROPERTY_ACCESS.created(saved));
+        return PropertyAccessResponse.from(saved);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public User getUserById(Long id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User", id));
+    public UserResponse getUserById(Long id) {
+        return UserResponse.from(findUser(id));
     }
 
     @Override
@@ -138,16 +155,18 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public User updateProfile(Long userId, UserDto userDto) {
-        User user = getUserById(userId);
+    public UserResponse updateProfile(Long userId, UserDto userDto) {
+        User user = findUser(userId);
         user.setFullName(userDto.getFullName());
         user.setPhone(userDto.getPhone());
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        auditEventPublisher.publish(User.class, saved.getId(), AuditAction.UPDATE);
+        return UserResponse.from(saved);
     }
 
     @Override
     public void changePassword(Long userId, UpdatePasswordDto passwordDto) {
-        User user = getUserById(userId);
+        User user = findUser(userId);
 
         if (user.getPasswordHash() != null &&
                 !passwordEncoder.matches(passwordDto.getCurrentPassword(), user.getPasswordHash())) {
@@ -156,18 +175,20 @@ public class UserServiceImpl implements UserService {
 
         user.setPasswordHash(passwordEncoder.encode(passwordDto.getNewPassword()));
         userRepository.save(user);
+        auditEventPublisher.publish(User.class, userId, AuditAction.UPDATE);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<User> getAssistants(Long ownerId) {
+    public List<UserResponse> getAssistants(Long ownerId) {
         return userAssistantRepository.findByOwnerIdAndIsActiveTrue(ownerId).stream()
                 .map(UserAssistant::getAssistant)
+                .map(UserResponse::from)
                 .toList();
     }
 
     public void addAssistant(Long ownerId, String assistantEmail) {
-        User owner = getUserById(ownerId);
+        User owner = findUser(ownerId);
         User assistant = userRepository.findByEmail(assistantEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email: " + assistantEmail));
 
@@ -181,26 +202,41 @@ public class UserServiceImpl implements UserService {
                 .isActive(true)
                 .build();
         userAssistantRepository.save(userAssistant);
+        auditEventPublisher.publish(UserAssistant.class, userAssistant.getId(), AuditAction.GRANT);
     }
 
     public void removeAssistant(Long ownerId, Long assistantId) {
         UserAssistant userAssistant = userAssistantRepository.findByOwnerIdAndAssistantId(ownerId, assistantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Assistant not found for this owner"));
         userAssistantRepository.delete(userAssistant);
+        auditEventPublisher.publish(UserAssistant.class, userAssistant.getId(), AuditAction.REVOKE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssistantDto> getPropertyAssistants(Long propertyId) {
+        return propertyAccessRepository.findByPropertyIdAndIsActiveTrue(propertyId).stream()
+                .map(AssistantDto::from)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PropertyAccess> getPropertyAccessByUser(Long userId) {
-        return propertyAccessRepository.findByUserIdAndIsActiveTrue(userId);
+    public List<PropertyAccessResponse> getPropertyAccessByUser(Long userId) {
+        return propertyAccessRepository.findByUserIdAndIsActiveTrue(userId).stream()
+                .map(PropertyAccessResponse::from)
+                .toList();
     }
 
     @Override
     public void revokeAccess(Long accessId) {
         PropertyAccess access = propertyAccessRepository.findById(accessId)
                 .orElseThrow(() -> new ResourceNotFoundException("PropertyAccess", accessId));
+        Object[] before = EntityDiffers.PROPERTY_ACCESS.snapshot(access);
         access.setIsActive(false);
         propertyAccessRepository.save(access);
+        auditEventPublisher.publish(PropertyAccess.class, accessId, AuditAction.REVOKE,
+                EntityDiffers.PROPERTY_ACCESS.diff(before, access));
     }
 
     @Override
@@ -217,4 +253,9 @@ public class UserServiceImpl implements UserService {
                         .build())
                 .collect(Collectors.toList());
     }
+
+    private User findUser(Long id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", id));
+    }
 }
@@ -0,0 +1,258 @@
+package com.dushy.tenantmanage.web;
+
+import com.dushy.tenantmanage.cache.DashboardCache;
+import com.dushy.tenantmanage.cache.DashboardSummaryRefreshed;
+import com.dushy.tenantmanage.datasource.Workload;
+import com.dushy.tenantmanage.dto.DashboardSummaryDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Live dashboard summaries over server-sent events.
+ *
+ * <p>A connection first receives the full summary ({@code summary} event),
+ * then only the figures that changed ({@code delta} events). Updates come from
+ * {@link DashboardSummaryRefreshed}, so a change is computed once per owner
+ * however many tabs they have open. Each connection buffers a single state,
+ * the latest one: a burst of changes within {@code coalesce-ms} becomes one
+ * delta, and a slow client gets fewer, larger deltas instead of a growing
+ * queue. Writes run on virtual threads, one at a time per connection, so a
+ * stalled client only blocks itself.
+ *
+ * <p>Every {@code heartbeat-ms} each connection gets a comment line, which
+ * keeps proxies from closing idle streams, and each owner's summary is read
+ * from {@link DashboardCache}. That read keeps the cache entry alive and
+ * catches any update that reached the cache without an event.
+ */
+@Component
+public class DashboardEventStream implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardEventStream.class);
+
+    private final DashboardCache dashboardCache;
+    private final long timeoutMs;
+    private final long coalesceMs;
+    private final long reconnectMs;
+    private final int maxConnectionsPerUser;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+
+    public DashboardEventStream(DashboardCache dashboardCache,
+            @Value("${dashboard.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${dashboard.stream.coalesce-ms:1000}") long coalesceMs,
+            @Value("${dashboard.stream.heartbeat-ms:15000}") long heartbeatMs,
+            @Value("${dashboard.stream.reconnect-ms:3000}") long reconnectMs,
+            @Value("${dashboard.stream.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        this.dashboardCache = dashboardCache;
+        this.timeoutMs = timeoutMs;
+        this.coalesceMs = coalesceMs;
+        this.reconnectMs = reconnectMs;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("dashboard-stream").daemon(true).factory());
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open a stream of the given owner's dashboard summary. When the owner
+     * already has {@code max-connections-per-user} streams, the oldest one
+     * is closed.
+     *
+     * @param userId the owner
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe(Long userId) {
+        DashboardSummaryDto summary = dashboardCache.getDashboardSummary(userId);
+        Connection connection = new Connection(userId, new SseEmitter(timeoutMs));
+        connection.emitter.onCompletion(() -> remove(connection));
+        connection.emitter.onTimeout(() -> remove(connection));
+        connection.emitter.onError(e -> remove(connection));
+
+        List<Connection> userConnections = connections.compute(userId, (id, existing) -> {
+            List<Connection> list = existing != null ? existing : new CopyOnWriteArrayList<>();
+            list.add(connection);
+            return list;
+        });
+        while (userConnections.size() > maxConnectionsPerUser) {
+            Connection oldest = userConnections.remove(0);
+            oldest.emitter.complete();
+        }
+
+        // The first state goes out straight away, not after the coalescing delay
+        connection.pending.set(summary);
+        connection.startSending();
+        return connection.emitter;
+    }
+
+    @EventListener
+    public void summaryRefreshed(DashboardSummaryRefreshed event) {
+        for (Connection connection : connections.getOrDefault(event.userId(), List.of())) {
+            connection.offer(event.summary());
+        }
+    }
+
+    private void heartbeat() {
+        for (Map.Entry<Long, List<Connection>> entry : connections.entrySet()) {
+            // A cache miss loads from the database; keep that off the scheduler thread
+            senders.execute(() -> {
+                DashboardSummaryDto summary = null;
+                Workload.set(Workload.REPORT);
+                try {
+                    summary = dashboardCache.getDashboardSummary(entry.getKey());
+                } catch (RuntimeException e) {
+                    log.warn("Failed to read dashboard summary for user {}", entry.getKey(), e);
+                } finally {
+                    Workload.clear();
+                }
+                for (Connection connection : entry.getValue()) {
+                    if (summary != null) {
+                        connection.offer(summary);
+                    }
+                    connection.ping.set(true);
+                    connection.startSending();
+                }
+            });
+        }
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    /**
+     * Figures that differ between two summaries, by JSON property name.
+     */
+    static Map<String, Object> delta(DashboardSummaryDto before, DashboardSummaryDto after) {
+        Map<String, Object> changed = new LinkedHashMap<>();
+        putIfChanged(changed, "totalProperties", before.getTotalProperties(), after.getTotalProperties());
+        putIfChanged(changed, "totalRooms", before.getTotalRooms(), after.getTotalRooms());
+        putIfChanged(changed, "occupiedRooms", before.getOccupiedRooms(), after.getOccupiedRooms());
+        putIfChanged(changed, "vacantRooms", before.getVacantRooms(), after.getVacantRooms());
+        putIfChanged(changed, "totalTenants", before.getTotalTenants(), after.getTotalTenants());
+        putIfChanged(changed, "totalRentExpected", before.getTotalRentExpected(), after.getTotalRentExpected());
+        putIfChanged(changed, "totalRentCollected", before.getTotalRentCollected(), after.getTotalRentCollected());
+        putIfChanged(changed, "occupancyRate", before.getOccupancyRate(), after.getOccupancyRate());
+        return changed;
+    }
+
+    private static void putIfChanged(Map<String, Object> changed, String name, Object before, Object after) {
+        boolean same = before instanceof BigDecimal b && after instanceof BigDecimal a
+                ? b.compareTo(a) == 0
+                : Objects.equals(before, after);
+        if (!same) {
+            changed.put(name, after);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("dashboard.stream.connections", connections,
+                        map -> map.values().stream().mapToInt(List::size).sum())
+                .description("Open live dashboard streams")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        connections.values().forEach(userConnections -> userConnections.forEach(c -> c.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    private final class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        /** Latest state not yet sent; the connection's whole buffer. */
+        private final AtomicReference<DashboardSummaryDto> pending = new AtomicReference<>();
+        private final AtomicBoolean ping = new AtomicBoolean();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        /** What the client has; only touched by the sending thread. */
+        private DashboardSummaryDto sent;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(DashboardSummaryDto summary) {
+            pending.set(summary);
+            if (flushScheduled.compareAndSet(false, true)) {
+                scheduler.schedule(() -> {
+                    flushScheduled.set(false);
+                    startSending();
+                }, coalesceMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        void startSending() {
+            // A send still running picks up whatever is pending when it finishes
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::send);
+            }
+        }
+
+        private void send() {
+            try {
+                DashboardSummaryDto next;
+                while ((next = pending.getAndSet(null)) != null) {
+                    write(next);
+                }
+                if (ping.getAndSet(false)) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                remove(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                sending.set(false);
+            }
+            if (pending.get() != null || ping.get()) {
+                startSending();
+            }
+        }
+
+        private void write(DashboardSummaryDto summary) throws IOException {
+            if (sent == null) {
+                emitter.send(SseEmitter.event().name("summary").reconnectTime(reconnectMs).data(summary));
+            } else {
+                Map<String, Object> changed = delta(sent, summary);
+                if (changed.isEmpty()) {
+                    return;
+                }
+                emitter.send(SseEmitter.event().name("delta").data(changed));
+            }
+            sent = summary;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.dushy.tenantmanage.web;
+
+import com.dushy.tenantmanage.datasource.Workload;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Writes JSON arrays row by row straight to the response output stream.
+ *
+ * <p>For endpoints whose rows are read from the database in pages: each row
+ * is serialized as soon as its page is read, so neither the full result nor
+ * the document is ever held in memory and the client starts receiving data
+ * after the first page. Rows are written with a writer resolved once per element type, and
+ * the output is flushed every {@value #FLUSH_EVERY_ROWS} rows.
+ */
+@Component
+public class StreamingJson {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public StreamingJson(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 200 with a JSON array of the rows {@code producer} emits. The producer
+     * runs after the controller has returned, on an MVC async thread, so it
+     * must not depend on request-scoped state; the request's {@link Workload}
+     * is the one exception and is carried over. An exception it throws once
+     * rows have been sent aborts the response.
+     *
+     * @param type     element type
+     * @param producer passes every row to the given consumer, in order
+     * @return the streaming response
+     */
+    public <T> ResponseEntity<StreamingResponseBody> array(Class<T> type, Consumer<Consumer<T>> producer) {
+        // The workload interceptor clears the lane once async handling starts,
+        // so a report endpoint's rows would otherwise be read on the OLTP lane
+        Workload workload = Workload.current();
+        StreamingResponseBody body = out -> {
+            Workload.set(workload);
+            try {
+                writeArray(out, type, producer);
+            } finally {
+                Workload.clear();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private <T> void writeArray(OutputStream out, Class<T> type, Consumer<Consumer<T>> producer) throws IOException {
+        ObjectWriter writer = writers.computeIfAbsent(type, this::writerFor);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // The container owns the response stream, and an aborted array must
+            // stay visibly truncated rather than be closed off as valid JSON
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartArray();
+            int[] rows = {0};
+            try {
+                producer.accept(row -> {
+                    try {
+                        writer.writeValue(generator, row);
+                        if (++rows[0] % FLUSH_EVERY_ROWS == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private ObjectWriter writerFor(Class<?> type) {
+        // Flushing is batched above rather than done after every row
+        return objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+}
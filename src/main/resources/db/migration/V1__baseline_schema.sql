@@ -0,0 +1,133 @@
+-- Baseline schema matching the JPA mappings at the time migrations were introduced.
+-- Every statement is idempotent so databases previously created by ddl-auto are left untouched.
+
+CREATE TABLE IF NOT EXISTS users (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email           VARCHAR(255) NOT NULL UNIQUE,
+    password_hash   VARCHAR(255),
+    auth_provider   VARCHAR(20),
+    full_name       VARCHAR(255) NOT NULL,
+    phone           VARCHAR(255),
+    user_type       VARCHAR(20)  NOT NULL,
+    is_active       BOOLEAN      NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS properties (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    owner_id        BIGINT       NOT NULL REFERENCES users (id),
+    name            VARCHAR(255) NOT NULL,
+    address         VARCHAR(255) NOT NULL,
+    city            VARCHAR(255) NOT NULL,
+    state           VARCHAR(255) NOT NULL,
+    postal_code     VARCHAR(255) NOT NULL,
+    country         VARCHAR(255) NOT NULL,
+    total_floors    INTEGER      NOT NULL,
+    is_active       BOOLEAN      NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS floors (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    property_id     BIGINT       NOT NULL REFERENCES properties (id),
+    floor_number    INTEGER      NOT NULL,
+    floor_name      VARCHAR(100),
+    is_active       BOOLEAN,
+    created_at      TIMESTAMP(6),
+    UNIQUE (property_id, floor_number)
+);
+
+CREATE TABLE IF NOT EXISTS rooms (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    floor_id        BIGINT       NOT NULL REFERENCES floors (id),
+    room_number     VARCHAR(50)  NOT NULL,
+    room_type       VARCHAR(50),
+    size_sqft       NUMERIC(10, 2),
+    is_occupied     BOOLEAN,
+    is_active       BOOLEAN,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    UNIQUE (floor_id, room_number)
+);
+
+CREATE TABLE IF NOT EXISTS tenants (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    room_id                 BIGINT       NOT NULL REFERENCES rooms (id),
+    full_name               VARCHAR(255) NOT NULL,
+    email                   VARCHAR(255),
+    phone                   VARCHAR(20)  NOT NULL,
+    id_proof_type           VARCHAR(50),
+    id_proof_number         VARCHAR(100),
+    emergency_contact_name  VARCHAR(255),
+    emergency_contact_phone VARCHAR(20),
+    move_in_date            DATE         NOT NULL,
+    move_out_date           DATE,
+    is_active               BOOLEAN,
+    created_at              TIMESTAMP(6),
+    updated_at              TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS rent_agreements (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    tenant_id           BIGINT         NOT NULL REFERENCES tenants (id),
+    monthly_rent_amount NUMERIC(10, 2) NOT NULL,
+    security_deposit    NUMERIC(10, 2),
+    start_date          DATE           NOT NULL,
+    end_date            DATE,
+    is_active           BOOLEAN,
+    payment_due_day     INTEGER,
+    created_at          TIMESTAMP(6),
+    created_by          BIGINT         NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS rent_payments (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    rent_agreement_id     BIGINT         NOT NULL REFERENCES rent_agreements (id),
+    tenant_id             BIGINT         NOT NULL REFERENCES tenants (id),
+    amount_paid           NUMERIC(10, 2) NOT NULL,
+    payment_date          DATE           NOT NULL,
+    payment_for_month     DATE           NOT NULL,
+    payment_mode          VARCHAR(50),
+    transaction_reference VARCHAR(255),
+    notes                 TEXT,
+    recorded_by           BIGINT         NOT NULL REFERENCES users (id),
+    recorded_at           TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS property_access (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    property_id     BIGINT      NOT NULL REFERENCES properties (id),
+    user_id         BIGINT      NOT NULL REFERENCES users (id),
+    access_level    VARCHAR(20) NOT NULL,
+    granted_by      BIGINT      NOT NULL REFERENCES users (id),
+    granted_at      TIMESTAMP(6),
+    is_active       BOOLEAN,
+    revoked_at      TIMESTAMP(6),
+    UNIQUE (property_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS property_access_permissions (
+    property_access_id BIGINT NOT NULL REFERENCES property_access (id),
+    permission         VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS user_assistants (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    owner_id        BIGINT  NOT NULL REFERENCES users (id),
+    assistant_id    BIGINT  NOT NULL REFERENCES users (id),
+    is_active       BOOLEAN NOT NULL,
+    created_at      TIMESTAMP(6),
+    UNIQUE (owner_id, assistant_id)
+);
+
+CREATE TABLE IF NOT EXISTS audit_logs (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type     VARCHAR(50) NOT NULL,
+    entity_id       BIGINT,
+    action          VARCHAR(50) NOT NULL,
+    changed_by      BIGINT REFERENCES users (id),
+    changes         JSONB,
+    timestamp       TIMESTAMP(6)
+);
@@ -0,0 +1,20 @@
+-- Switch floors, rooms, tenants and rent_agreements from IDENTITY to pooled
+-- sequences so Hibernate can batch their inserts. The increment must match
+-- allocationSize on the entity mappings.
+
+CREATE SEQUENCE IF NOT EXISTS floors_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS rooms_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tenants_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS rent_agreements_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE floors ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE rooms ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tenants ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE rent_agreements ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- The pooled optimizer hands out (value - 49 .. value), so the next value must
+-- be at least MAX(id) + 50 to avoid reusing existing keys.
+SELECT setval('floors_seq', COALESCE(MAX(id), 0) + 50, false) FROM floors;
+SELECT setval('rooms_seq', COALESCE(MAX(id), 0) + 50, false) FROM rooms;
+SELECT setval('tenants_seq', COALESCE(MAX(id), 0) + 50, false) FROM tenants;
+SELECT setval('rent_agreements_seq', COALESCE(MAX(id), 0) + 50, false) FROM rent_agreements;
@@ -0,0 +1,35 @@
+-- Denormalized property_id on rooms, tenants and rent_payments.
+-- Property-scoped queries filter on it directly instead of joining
+-- rent_payments -> tenants -> rooms -> floors. The application sets it on insert;
+-- rooms never change floor, so it does not need to be maintained on update.
+
+ALTER TABLE rooms ADD COLUMN IF NOT EXISTS property_id BIGINT;
+UPDATE rooms r
+SET property_id = f.property_id
+FROM floors f
+WHERE r.floor_id = f.id
+  AND r.property_id IS NULL;
+ALTER TABLE rooms ALTER COLUMN property_id SET NOT NULL;
+ALTER TABLE rooms ADD CONSTRAINT fk_rooms_property FOREIGN KEY (property_id) REFERENCES properties (id);
+CREATE INDEX IF NOT EXISTS idx_rooms_property_id ON rooms (property_id);
+
+ALTER TABLE tenants ADD COLUMN IF NOT EXISTS property_id BIGINT;
+UPDATE tenants t
+SET property_id = r.property_id
+FROM rooms r
+WHERE t.room_id = r.id
+  AND t.property_id IS NULL;
+ALTER TABLE tenants ALTER COLUMN property_id SET NOT NULL;
+ALTER TABLE tenants ADD CONSTRAINT fk_tenants_property FOREIGN KEY (property_id) REFERENCES properties (id);
+CREATE INDEX IF NOT EXISTS idx_tenants_property_active ON tenants (property_id, is_active);
+
+ALTER TABLE rent_payments ADD COLUMN IF NOT EXISTS property_id BIGINT;
+UPDATE rent_payments rp
+SET property_id = t.property_id
+FROM tenants t
+WHERE rp.tenant_id = t.id
+  AND rp.property_id IS NULL;
+ALTER TABLE rent_payments ALTER COLUMN property_id SET NOT NULL;
+ALTER TABLE rent_payments ADD CONSTRAINT fk_rent_payments_property FOREIGN KEY (property_id) REFERENCES properties (id);
+CREATE INDEX IF NOT EXISTS idx_rent_payments_property_month ON rent_payments (property_id, payment_for_month);
+CREATE INDEX IF NOT EXISTS idx_rent_payments_property_date ON rent_payments (property_id, payment_date);
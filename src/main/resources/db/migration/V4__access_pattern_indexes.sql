@@ -0,0 +1,47 @@
+-- Indexes for the access patterns the repositories actually use.
+-- Partial indexes on is_active cover the "current row" lookups, which only ever
+-- touch active rows.
+
+-- RentPaymentRepository.sumAmountPaidByTenantIdAndPaymentForMonth / ...BetweenMonths
+-- RentPaymentRepository.findByTenantIdOrderByPaymentDateDesc (leading tenant_id)
+CREATE INDEX IF NOT EXISTS idx_rent_payments_tenant_month ON rent_payments (tenant_id, payment_for_month);
+
+-- RentPaymentRepository.findByPaymentDateBetween and the dated payment searches
+CREATE INDEX IF NOT EXISTS idx_rent_payments_payment_date ON rent_payments (payment_date);
+
+-- RentPaymentRepository.findByPaymentForMonth / sumAmountPaidByPaymentForMonth
+CREATE INDEX IF NOT EXISTS idx_rent_payments_payment_for_month ON rent_payments (payment_for_month);
+
+-- RentPaymentRepository.findByRentAgreementId
+CREATE INDEX IF NOT EXISTS idx_rent_payments_agreement ON rent_payments (rent_agreement_id);
+
+-- TenantRepository.findByRoomIdAndIsActiveTrue
+CREATE INDEX IF NOT EXISTS idx_tenants_room_active ON tenants (room_id) WHERE is_active;
+
+-- TenantRepository.findByRoomIdOrderByMoveInDateDesc
+CREATE INDEX IF NOT EXISTS idx_tenants_room_move_in ON tenants (room_id, move_in_date DESC);
+
+-- TenantRepository.findByPhone
+CREATE INDEX IF NOT EXISTS idx_tenants_phone ON tenants (phone);
+
+-- PropertyAccessRepository.findByUserIdAndIsActiveTrue
+CREATE INDEX IF NOT EXISTS idx_property_access_user_active ON property_access (user_id) WHERE is_active;
+
+-- PropertyAccessRepository.findByPropertyIdAndIsActiveTrue
+CREATE INDEX IF NOT EXISTS idx_property_access_property_active ON property_access (property_id) WHERE is_active;
+
+-- RentAgreementRepository.findByTenantIdAndIsActiveTrue / findByTenantIdInAndIsActiveTrue
+CREATE INDEX IF NOT EXISTS idx_rent_agreements_tenant_active ON rent_agreements (tenant_id) WHERE is_active;
+
+-- RentAgreementRepository.findByEndDateBetween
+CREATE INDEX IF NOT EXISTS idx_rent_agreements_end_date ON rent_agreements (end_date);
+
+-- PropertiesRepository.findByOwnerIdOrderByNameAsc
+CREATE INDEX IF NOT EXISTS idx_properties_owner_name ON properties (owner_id, name);
+
+-- UserAssistantRepository.findByOwnerIdAndIsActiveTrue is served by the
+-- (owner_id, assistant_id) unique constraint; RoomRepository floor lookups by
+-- the (floor_id, room_number) unique constraint.
+
+-- Foreign keys without a covering index
+CREATE INDEX IF NOT EXISTS idx_property_access_permissions_access ON property_access_permissions (property_access_id);
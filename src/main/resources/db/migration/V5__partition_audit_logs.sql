@@ -0,0 +1,77 @@
+-- Partition audit_logs by month. Time-range queries prune to the months they
+-- touch, and retention drops whole partitions instead of deleting rows.
+-- Postgres requires the partition key in the primary key, hence (id, timestamp),
+-- and does not allow identity columns on partitioned tables, so ids come from
+-- a plain sequence default.
+
+ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+ALTER TABLE audit_logs_unpartitioned ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE audit_logs_id_seq;
+
+CREATE TABLE audit_logs (
+    id              BIGINT NOT NULL DEFAULT nextval('audit_logs_id_seq'),
+    entity_type     VARCHAR(50) NOT NULL,
+    entity_id       BIGINT,
+    action          VARCHAR(50) NOT NULL,
+    changed_by      BIGINT REFERENCES users (id),
+    changes         JSONB,
+    timestamp       TIMESTAMP(6) NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+ALTER SEQUENCE audit_logs_id_seq OWNED BY audit_logs.id;
+
+-- Catches rows outside every monthly partition so inserts never fail
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- AuditLogRepository keyset queries: per entity and per user, newest first
+CREATE INDEX idx_audit_logs_entity ON audit_logs (entity_type, entity_id, timestamp DESC, id DESC);
+CREATE INDEX idx_audit_logs_changed_by ON audit_logs (changed_by, timestamp DESC, id DESC);
+
+-- Creates the partition for the month containing p_month (audit_logs_pYYYYMM).
+-- Rows already sitting in the default partition for that month are moved in,
+-- otherwise attaching the new partition would fail.
+CREATE OR REPLACE FUNCTION ensure_audit_log_partition(p_month DATE) RETURNS VOID AS $$
+DECLARE
+    range_start    TIMESTAMP := date_trunc('month', p_month);
+    range_end      TIMESTAMP := date_trunc('month', p_month) + INTERVAL '1 month';
+    partition_name TEXT := 'audit_logs_p' || to_char(range_start, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE audit_logs INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM audit_logs_default WHERE timestamp >= %L AND timestamp < %L RETURNING *) '
+                   'INSERT INTO %I SELECT * FROM moved', range_start, range_end, partition_name);
+    EXECUTE format('ALTER TABLE audit_logs ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_start, range_end);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for existing data plus the next few months
+DO $$
+DECLARE
+    first_month DATE;
+    month_start DATE;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(timestamp)), date_trunc('month', now()))::DATE
+    INTO first_month
+    FROM audit_logs_unpartitioned;
+
+    FOR month_start IN
+        SELECT generate_series(first_month, (date_trunc('month', now()) + INTERVAL '3 months')::DATE, INTERVAL '1 month')::DATE
+    LOOP
+        PERFORM ensure_audit_log_partition(month_start);
+    END LOOP;
+END;
+$$;
+
+INSERT INTO audit_logs (id, entity_type, entity_id, action, changed_by, changes, timestamp)
+SELECT id, entity_type, entity_id, action, changed_by, changes, COALESCE(timestamp, now())
+FROM audit_logs_unpartitioned;
+
+SELECT setval('audit_logs_id_seq', COALESCE((SELECT MAX(id) FROM audit_logs), 0) + 1, false);
+
+DROP TABLE audit_logs_unpartitioned;
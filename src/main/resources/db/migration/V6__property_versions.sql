@@ -0,0 +1,16 @@
+-- Version counter per property, covering everything shown under it: the
+-- property and its owner, floors, rooms, tenants, agreements, payments and
+-- access grants. Bumped in the same transaction as any change to them by
+-- PropertyChangeTracker and used as the validator for conditional GETs, so a
+-- poll only needs this row to decide on 304 Not Modified.
+
+CREATE TABLE IF NOT EXISTS property_versions (
+    property_id     BIGINT      PRIMARY KEY REFERENCES properties (id) ON DELETE CASCADE,
+    version         BIGINT      NOT NULL,
+    updated_at      TIMESTAMPTZ NOT NULL
+);
+
+INSERT INTO property_versions (property_id, version, updated_at)
+SELECT id, 1, now()
+FROM properties
+ON CONFLICT (property_id) DO NOTHING;
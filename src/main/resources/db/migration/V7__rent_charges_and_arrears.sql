@@ -0,0 +1,49 @@
+-- Posted monthly rent charges and the arrears aging derived from them.
+-- RentPostingJob posts one charge per active agreement and month once its due
+-- day has passed, then recomputes arrears_aging for the same properties.
+-- Payments are applied to an agreement's oldest charges first, so what is
+-- still owed sits on the newest ones; each outstanding amount falls into the
+-- bucket for its age in days past the due date.
+
+CREATE TABLE IF NOT EXISTS rent_charges (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    rent_agreement_id BIGINT         NOT NULL REFERENCES rent_agreements (id),
+    tenant_id         BIGINT         NOT NULL REFERENCES tenants (id),
+    property_id       BIGINT         NOT NULL REFERENCES properties (id),
+    charge_month      DATE           NOT NULL,  -- first day of the month charged for
+    due_date          DATE           NOT NULL,
+    amount            NUMERIC(10, 2) NOT NULL,
+    posted_at         TIMESTAMPTZ    NOT NULL,
+    -- Re-running the job never posts a month twice
+    CONSTRAINT uq_rent_charges_agreement_month UNIQUE (rent_agreement_id, charge_month)
+);
+
+CREATE INDEX IF NOT EXISTS idx_rent_charges_property_due ON rent_charges (property_id, due_date);
+
+-- One row per agreement that owes anything, as of the last refresh
+CREATE TABLE IF NOT EXISTS arrears_aging (
+    rent_agreement_id BIGINT         PRIMARY KEY REFERENCES rent_agreements (id),
+    tenant_id         BIGINT         NOT NULL REFERENCES tenants (id),
+    property_id       BIGINT         NOT NULL REFERENCES properties (id),
+    due_0_30          NUMERIC(12, 2) NOT NULL,
+    due_31_60         NUMERIC(12, 2) NOT NULL,
+    due_61_90         NUMERIC(12, 2) NOT NULL,
+    due_over_90       NUMERIC(12, 2) NOT NULL,
+    total_due         NUMERIC(12, 2) NOT NULL,
+    oldest_due_date   DATE           NOT NULL,
+    as_of             DATE           NOT NULL,
+    refreshed_at      TIMESTAMPTZ    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_arrears_aging_property ON arrears_aging (property_id);
+
+-- Chunks of a scheduled job already completed for a run date. A node takes a
+-- chunk's advisory lock, then claims it here in the same transaction, so each
+-- chunk runs once per day however many nodes are scheduled.
+CREATE TABLE IF NOT EXISTS scheduled_job_runs (
+    job_name     VARCHAR(100) NOT NULL,
+    run_date     DATE         NOT NULL,
+    chunk        INTEGER      NOT NULL,
+    completed_at TIMESTAMPTZ  NOT NULL,
+    PRIMARY KEY (job_name, run_date, chunk)
+);
@@ -0,0 +1,36 @@
+package com.dushy.tenantmanage;
+
+import com.dushy.tenantmanage.querycount.PortfolioFixtures;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base class for tests that run the whole application against a throwaway
+ * Postgres (migrated by Flyway). Every subclass gets the same configuration,
+ * so they share one cached application context.
+ * The container is deliberately not a {@code @Container}: the JUnit extension
+ * would stop it after each class and start a new one on another port, under a
+ * cached context still pointing at the old one. Spring starts it with the
+ * first context instead and it lives until the JVM exits.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(PortfolioFixtures.class)
+@TestPropertySource(properties = {
+        "jwt.secret=c2Vjb25kLWxldmVsLWNhY2hlLXRlc3RzLWp3dC1zZWNyZXQta2V5LTMy",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-secret=test"
+})
+public abstract class PostgresTestSupport {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    protected PortfolioFixtures fixtures;
+}
@@ -0,0 +1,158 @@
+package com.dushy.tenantmanage.audit;
+
+import com.dushy.tenantmanage.enums.AuditAction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * The writer's queueing, overflow and shutdown behaviour against a stubbed
+ * JdbcTemplate that records which events reach the database.
+ */
+class AuditLogWriterTest {
+
+    private static final long NEVER = 3_600_000;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> written = new ArrayList<>();
+
+    @BeforeEach
+    void recordWrites() {
+        doAnswer(invocation -> {
+            Collection<AuditEvent> batch = invocation.getArgument(1);
+            if (batch.size() > 1 && batch.stream().anyMatch(event -> event.getEntityType().equals("Bad"))) {
+                throw new DataIntegrityViolationException("batch failed",
+                        new BatchUpdateException("batch failed", new int[0]));
+            }
+            batch.forEach(event -> written.add(event.getEntityType()));
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        doAnswer(invocation -> {
+            String entityType = entityType(invocation.getArgument(1));
+            if (entityType.equals("Bad")) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            written.add(entityType);
+            return 1;
+        }).when(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void dropNewestKeepsWhatIsAlreadyQueued() {
+        AuditLogWriter writer = writer(2, AuditLogWriter.OverflowPolicy.DROP_NEWEST);
+
+        assertThat(writer.offer(event("First"))).isTrue();
+        assertThat(writer.offer(event("Second"))).isTrue();
+        assertThat(writer.offer(event("Third"))).isFalse();
+        writer.drain();
+
+        assertThat(written).containsExactly("First", "Second");
+        assertThat(count("audit.events.dropped")).isEqualTo(1);
+    }
+
+    @Test
+    void dropOldestMakesRoomForTheNewEvent() {
+        AuditLogWriter writer = writer(2, AuditLogWriter.OverflowPolicy.DROP_OLDEST);
+
+        writer.offer(event("First"));
+        writer.offer(event("Second"));
+        assertThat(writer.offer(event("Third"))).isTrue();
+        writer.drain();
+
+        assertThat(written).containsExactly("Second", "Third");
+        assertThat(count("audit.events.dropped")).isEqualTo(1);
+        assertThat(meterRegistry.get("audit.queue.size").gauge().value()).isZero();
+    }
+
+    @Test
+    void queuesEventsPublishedBeforeStartAndFlushesThemOnStop() {
+        AuditLogWriter writer = writer(10, AuditLogWriter.OverflowPolicy.DROP_NEWEST);
+
+        writer.onAuditEvent(event("BeforeStart"));
+        assertThat(written).isEmpty();
+
+        writer.start();
+        writer.onAuditEvent(event("WhileRunning"));
+        assertThat(written).isEmpty();
+        writer.stop();
+
+        assertThat(written).containsExactly("BeforeStart", "WhileRunning");
+    }
+
+    @Test
+    void dropsEventsPublishedAfterStop() {
+        AuditLogWriter writer = writer(10, AuditLogWriter.OverflowPolicy.DROP_NEWEST);
+        writer.start();
+        writer.stop();
+
+        writer.onAuditEvent(event("AfterStop"));
+        writer.drain();
+
+        assertThat(written).isEmpty();
+        assertThat(count("audit.events.dropped")).isEqualTo(1);
+    }
+
+    @Test
+    void failedBatchIsRetriedRowByRow() {
+        AuditLogWriter writer = writer(10, AuditLogWriter.OverflowPolicy.DROP_NEWEST);
+
+        writer.offer(event("First"));
+        writer.offer(event("Bad"));
+        writer.offer(event("Third"));
+        writer.drain();
+
+        assertThat(written).containsExactly("First", "Third");
+        assertThat(count("audit.events.written")).isEqualTo(2);
+        assertThat(count("audit.events.failed")).isEqualTo(1);
+    }
+
+    private AuditLogWriter writer(int capacity, AuditLogWriter.OverflowPolicy overflowPolicy) {
+        return new AuditLogWriter(jdbcTemplate, meterRegistry, capacity, 200, NEVER, overflowPolicy);
+    }
+
+    private double count(String counter) {
+        return meterRegistry.get(counter).counter().count();
+    }
+
+    private static AuditEvent event(String entityType) {
+        return AuditEvent.builder()
+                .entityType(entityType)
+                .entityId(1L)
+                .action(AuditAction.CREATE)
+                .changedByEmail("owner@example.com")
+                .timestamp(LocalDateTime.of(2025, 6, 1, 10, 0))
+                .build();
+    }
+
+    private static String entityType(PreparedStatementSetter setter) throws SQLException {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.setValues(ps);
+        ArgumentCaptor<String> entityType = ArgumentCaptor.forClass(String.class);
+        verify(ps).setString(eq(1), entityType.capture());
+        return entityType.getValue();
+    }
+}
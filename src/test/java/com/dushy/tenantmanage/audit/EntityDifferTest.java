@@ -0,0 +1,122 @@
+package com.dushy.tenantmanage.audit;
+
+import com.dushy.tenantmanage.enums.PropertyPermission;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The JSON a diff produces goes straight into a jsonb column, so every case
+ * here parses it back and checks the values survive.
+ */
+class EntityDifferTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    record Sample(String text, BigDecimal amount, Double ratio, Integer count, Boolean flag, LocalDate date,
+            List<PropertyPermission> permissions) {
+    }
+
+    private static final EntityDiffer<Sample> DIFFER = EntityDiffer.<Sample>builder()
+            .field("text", Sample::text)
+            .field("amount", Sample::amount)
+            .field("ratio", Sample::ratio)
+            .field("count", Sample::count)
+            .field("flag", Sample::flag)
+            .field("date", Sample::date)
+            .field("permissions", Sample::permissions)
+            .build();
+
+    private static final Sample EMPTY = new Sample(null, null, null, null, null, null, null);
+
+    @Test
+    void escapesQuotesBackslashesAndControlCharacters() throws Exception {
+        String text = "say \"hi\" \\ path\\to\nnext\tline\r\u0001\u001f é ☃ 😀";
+
+        JsonNode diff = parse(DIFFER.created(withText(text)));
+
+        assertThat(diff.path("text").path("old").isNull()).isTrue();
+        assertThat(diff.path("text").path("new").asText()).isEqualTo(text);
+    }
+
+    @Test
+    void replacesNulCharactersWhichJsonbRejects() throws Exception {
+        String json = DIFFER.created(withText("a\0b"));
+
+        assertThat(json).doesNotContain("\\u0000");
+        assertThat(parse(json).path("text").path("new").asText()).isEqualTo("a\uFFFDb");
+    }
+
+    @Test
+    void writesAmountsAsPlainNumbersAndIgnoresScaleOnlyChanges() throws Exception {
+        Sample before = new Sample(null, new BigDecimal("5000"), null, null, null, null, null);
+        Sample sameAmount = new Sample(null, new BigDecimal("5000.00"), null, null, null, null, null);
+        Sample raised = new Sample(null, new BigDecimal("6E+3"), null, null, null, null, null);
+
+        assertThat(DIFFER.diff(DIFFER.snapshot(before), sameAmount)).isNull();
+
+        String json = DIFFER.diff(DIFFER.snapshot(before), raised);
+        assertThat(json).isEqualTo("{\"amount\":{\"old\":5000,\"new\":6000}}");
+        assertThat(parse(json).path("amount").path("new").decimalValue()).isEqualByComparingTo("6000");
+    }
+
+    @Test
+    void writesNumbersBooleansDatesAndCollections() throws Exception {
+        Sample sample = new Sample(null, null, 0.25, 42, true, LocalDate.of(2025, 6, 30),
+                List.of(PropertyPermission.VIEW_PROPERTY, PropertyPermission.MANAGE_PAYMENTS));
+
+        JsonNode diff = parse(DIFFER.created(sample));
+
+        assertThat(diff.path("ratio").path("new").doubleValue()).isEqualTo(0.25);
+        assertThat(diff.path("count").path("new").intValue()).isEqualTo(42);
+        assertThat(diff.path("flag").path("new").booleanValue()).isTrue();
+        assertThat(diff.path("date").path("new").asText()).isEqualTo("2025-06-30");
+        assertThat(diff.path("permissions").path("new")).extracting(JsonNode::asText)
+                .containsExactly("VIEW_PROPERTY", "MANAGE_PAYMENTS");
+    }
+
+    @Test
+    void keepsNonFiniteNumbersValid() throws Exception {
+        JsonNode diff = parse(DIFFER.created(new Sample(null, null, Double.NaN, null, null, null, null)));
+
+        assertThat(diff.path("ratio").path("new").asText()).isEqualTo("NaN");
+    }
+
+    @Test
+    void reportsOnlyChangedFieldsAndNullWhenNothingChanged() throws Exception {
+        Sample before = new Sample("same", null, null, 1, false, null, List.of());
+        Sample after = new Sample("same", null, null, 2, null, null, List.of());
+
+        assertThat(DIFFER.diff(DIFFER.snapshot(before), before)).isNull();
+        assertThat(DIFFER.created(EMPTY)).isNull();
+
+        JsonNode diff = parse(DIFFER.diff(DIFFER.snapshot(before), after));
+        assertThat(diff.properties()).extracting(entry -> entry.getKey()).containsExactly("count", "flag");
+        assertThat(diff.path("flag").path("new").isNull()).isTrue();
+    }
+
+    @Test
+    void reusedOutputHoldsOnlyTheLatestDiff() throws Exception {
+        String large = "x".repeat(40_000);
+
+        assertThat(parse(DIFFER.created(withText(large))).path("text").path("new").asText()).isEqualTo(large);
+        assertThat(DIFFER.created(withText("short"))).isEqualTo("{\"text\":{\"old\":null,\"new\":\"short\"}}");
+        assertThat(DIFFER.created(EMPTY)).isNull();
+        assertThat(DIFFER.created(withText("again"))).isEqualTo("{\"text\":{\"old\":null,\"new\":\"again\"}}");
+    }
+
+    private static Sample withText(String text) {
+        return new Sample(text, null, null, null, null, null, null);
+    }
+
+    private static JsonNode parse(String json) throws Exception {
+        assertThat(json).isNotNull();
+        return MAPPER.readTree(json);
+    }
+}
@@ -0,0 +1,96 @@
+package com.dushy.tenantmanage.benchmark;
+
+import com.dushy.tenantmanage.entity.Floor;
+import com.dushy.tenantmanage.entity.Properties;
+import com.dushy.tenantmanage.entity.RentAgreement;
+import com.dushy.tenantmanage.entity.Room;
+import com.dushy.tenantmanage.entity.Tenant;
+import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.enums.IdProofType;
+import com.dushy.tenantmanage.enums.RoomType;
+import com.dushy.tenantmanage.enums.UserType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entity graphs shared by the benchmarks. Nothing here touches a
+ * database; the graphs are fully initialized so mapping code never hits a proxy.
+ */
+final class BenchmarkFixtures {
+
+    static final User OWNER = User.builder()
+            .id(1L)
+            .email("owner@example.com")
+            .fullName("Meera Iyer")
+            .userType(UserType.OWNER)
+            .build();
+
+    static final Properties PROPERTY = Properties.builder()
+            .id(1L)
+            .owner(OWNER)
+            .name("Lakeview Residency")
+            .address("12 MG Road")
+            .city("Pune")
+            .state("MH")
+            .postalCode("411001")
+            .country("India")
+            .totalFloors(3)
+            .isActive(true)
+            .build();
+
+    private BenchmarkFixtures() {
+    }
+
+    static Tenant tenant(long id) {
+        Floor floor = Floor.builder().id(id / 10 + 1).property(PROPERTY).floorNumber((int) (id / 10)).build();
+        Room room = Room.builder()
+                .id(id)
+                .floor(floor)
+                .propertyId(PROPERTY.getId())
+                .roomNumber(String.valueOf(100 + id))
+                .roomType(RoomType.SINGLE)
+                .isOccupied(true)
+                .build();
+        return Tenant.builder()
+                .id(id)
+                .room(room)
+                .propertyId(PROPERTY.getId())
+                .fullName("Tenant " + id)
+                .email("tenant" + id + "@example.com")
+                .phone("+91-98765" + String.format("%05d", id))
+                .idProofType(IdProofType.AADHAR)
+                .idProofNumber("1234-5678-" + String.format("%04d", id))
+                .emergencyContactName("Contact " + id)
+                .emergencyContactPhone("+91-91234" + String.format("%05d", id))
+                .moveInDate(LocalDate.of(2023, 4, 1))
+                .isActive(true)
+                .createdAt(LocalDateTime.of(2023, 3, 28, 10, 15))
+                .updatedAt(LocalDateTime.of(2024, 1, 2, 9, 0))
+                .build();
+    }
+
+    static RentAgreement agreement(Tenant tenant, LocalDate startDate) {
+        return RentAgreement.builder()
+                .id(tenant.getId())
+                .tenant(tenant)
+                .monthlyRentAmount(new BigDecimal("12000.00"))
+                .securityDeposit(new BigDecimal("24000.00"))
+                .startDate(startDate)
+                .paymentDueDay(5)
+                .isActive(true)
+                .createdBy(OWNER)
+                .build();
+    }
+
+    static List<Tenant> tenants(int count) {
+        List<Tenant> tenants = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            tenants.add(tenant(i));
+        }
+        return tenants;
+    }
+}
@@ -0,0 +1,140 @@
+package com.dushy.tenantmanage.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Entry point of the benchmark profile. Runs the selected benchmarks and
+ * compares each score with the stored baseline, so a change in cost shows up
+ * next to the commit that caused it.
+ *
+ * <p>System properties:
+ * <ul>
+ *   <li>{@code jmh.include} - benchmark regex (default all)</li>
+ *   <li>{@code jmh.baseline} - baseline file (default benchmarks/baseline.json)</li>
+ *   <li>{@code jmh.result} - raw JMH JSON output (default target/jmh-result.json)</li>
+ *   <li>{@code jmh.threshold} - tolerated slowdown in percent (default 10)</li>
+ *   <li>{@code jmh.updateBaseline} - write this run's scores as the new baseline</li>
+ *   <li>{@code jmh.failOnRegression} - exit non-zero when a benchmark regressed or has no baseline entry</li>
+ * </ul>
+ * All benchmarks report time per operation, so a higher score is a slowdown.
+ * A missing baseline file is an error rather than an implicit first baseline;
+ * record one explicitly with {@code jmh.updateBaseline}.
+ */
+public final class BenchmarkRunner {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    record Score(double score, double error, String unit) {
+    }
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path baselineFile = Path.of(System.getProperty("jmh.baseline", "benchmarks/baseline.json"));
+        double threshold = Double.parseDouble(System.getProperty("jmh.threshold", "10"));
+        boolean updateBaseline = Boolean.getBoolean("jmh.updateBaseline");
+        if (!updateBaseline && !Files.exists(baselineFile)) {
+            // Otherwise a first run in CI would record itself as the baseline and pass
+            System.err.printf("No baseline at %s; run with -Djmh.updateBaseline=true and commit it.%n", baselineFile);
+            System.exit(1);
+        }
+
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", ".*"))
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("jmh.result", "target/jmh-result.json"))
+                .build();
+        Map<String, Score> current = scores(new Runner(options).run());
+
+        if (updateBaseline) {
+            // Merge so that a filtered run only replaces the benchmarks it ran
+            Map<String, Score> baseline = Files.exists(baselineFile) ? readBaseline(baselineFile) : new TreeMap<>();
+            baseline.putAll(current);
+            Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            MAPPER.writeValue(baselineFile.toFile(), baseline);
+            System.out.printf("%nBaseline written to %s (%d benchmarks); commit it with the change.%n",
+                    baselineFile, baseline.size());
+            return;
+        }
+
+        Map<String, Score> baseline = readBaseline(baselineFile);
+        int regressions = compare(baseline, current, threshold);
+        int unmeasured = (int) current.keySet().stream().filter(key -> !baseline.containsKey(key)).count();
+        if (Boolean.getBoolean("jmh.failOnRegression") && (regressions > 0 || unmeasured > 0)) {
+            if (unmeasured > 0) {
+                System.err.printf("%d benchmark(s) have no baseline entry; record them with %s.%n",
+                        unmeasured, "-Djmh.updateBaseline=true");
+            }
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> scores(Collection<RunResult> results) {
+        Map<String, Score> scores = new TreeMap<>();
+        for (RunResult run : results) {
+            Result<?> primary = run.getPrimaryResult();
+            scores.put(key(run), new Score(primary.getScore(), primary.getScoreError(), primary.getScoreUnit()));
+        }
+        return scores;
+    }
+
+    private static String key(RunResult run) {
+        String benchmark = run.getParams().getBenchmark();
+        String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+        if (run.getParams().getParamsKeys().isEmpty()) {
+            return name;
+        }
+        return name + run.getParams().getParamsKeys().stream()
+                .sorted()
+                .map(param -> param + "=" + run.getParams().getParam(param))
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static Map<String, Score> readBaseline(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(),
+                MAPPER.getTypeFactory().constructMapType(TreeMap.class, String.class, Score.class));
+    }
+
+    private static int compare(Map<String, Score> baseline, Map<String, Score> current, double threshold) {
+        int regressions = 0;
+        System.out.printf("%n%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null || !before.unit().equals(now.unit())) {
+                System.out.printf("%-70s %14s %14.3f %9s%n", entry.getKey(), "-", now.score(), "new");
+                continue;
+            }
+            double change = (now.score() - before.score()) / before.score() * 100;
+            // Only a slowdown outside both runs' error bars counts as a regression
+            boolean regressed = change > threshold
+                    && now.score() - now.error() > before.score() + before.error();
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.score(), now.score(),
+                    change, regressed ? "  REGRESSION" : "");
+        }
+        System.out.printf("%n%d regression(s) above %.0f%% against %d baseline entries (unit per benchmark: %s)%n",
+                regressions, threshold, baseline.size(),
+                current.values().stream().map(Score::unit).distinct().collect(Collectors.joining(", ")));
+        return regressions;
+    }
+}
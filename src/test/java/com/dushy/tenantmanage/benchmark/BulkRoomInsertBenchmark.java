@@ -0,0 +1,133 @@
+package com.dushy.tenantmanage.benchmark;
+
+import com.dushy.tenantmanage.TenantmanageApplication;
+import com.dushy.tenantmanage.dto.BulkRoomDto;
+import com.dushy.tenantmanage.dto.RoomDto;
+import com.dushy.tenantmanage.dto.response.RoomResponse;
+import com.dushy.tenantmanage.entity.Floor;
+import com.dushy.tenantmanage.entity.Properties;
+import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.enums.RoomType;
+import com.dushy.tenantmanage.enums.UserType;
+import com.dushy.tenantmanage.repository.FloorRepository;
+import com.dushy.tenantmanage.repository.PropertiesRepository;
+import com.dushy.tenantmanage.repository.UserRepository;
+import com.dushy.tenantmanage.service.PropertyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bulkCreateRooms for 10,000 rooms on a new floor, against Postgres in a
+ * Testcontainers container (needs Docker). batchSize 1 turns JDBC batching
+ * off and shows what the pooled sequences and batched inserts save; each
+ * invocation is timed once, as the rooms it inserts stay in the table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BulkRoomInsertBenchmark {
+
+    private static final int ROOMS = 10_000;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private PropertyService propertyService;
+    private FloorRepository floorRepository;
+    private Properties property;
+    private int floorNumber;
+    private BulkRoomDto request;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        context = new SpringApplicationBuilder(TenantmanageApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "rent.posting.enabled=false",
+                        "cache.invalidation.enabled=false",
+                        "jwt.secret=c2Vjb25kLWxldmVsLWNhY2hlLXRlc3RzLWp3dC1zZWNyZXQta2V5LTMy",
+                        "spring.security.oauth2.client.registration.google.client-id=test",
+                        "spring.security.oauth2.client.registration.google.client-secret=test")
+                .run();
+        propertyService = context.getBean(PropertyService.class);
+        floorRepository = context.getBean(FloorRepository.class);
+
+        User owner = context.getBean(UserRepository.class).save(User.builder()
+                .email("owner-" + UUID.randomUUID() + "@example.com")
+                .fullName("Benchmark Owner")
+                .userType(UserType.OWNER)
+                .isActive(true)
+                .build());
+        property = context.getBean(PropertiesRepository.class).save(Properties.builder()
+                .owner(owner)
+                .name("Benchmark Towers")
+                .address("1 Batch Street")
+                .city("Pune")
+                .state("MH")
+                .postalCode("411001")
+                .country("India")
+                .totalFloors(1)
+                .isActive(true)
+                .build());
+    }
+
+    @Setup(Level.Invocation)
+    public void newFloor() {
+        Floor floor = floorRepository.save(Floor.builder()
+                .property(property)
+                .floorNumber(floorNumber++)
+                .isActive(true)
+                .build());
+        List<RoomDto> rooms = new ArrayList<>(ROOMS);
+        for (int i = 0; i < ROOMS; i++) {
+            rooms.add(new RoomDto(String.valueOf(i), RoomType.SINGLE, new BigDecimal("120.00")));
+        }
+        request = new BulkRoomDto(floor.getId(), rooms);
+    }
+
+    @Benchmark
+    public List<RoomResponse> bulkCreateRooms() {
+        return propertyService.bulkCreateRooms(request);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        if (context != null) {
+            context.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+}
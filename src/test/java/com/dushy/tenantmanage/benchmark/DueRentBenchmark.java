@@ -0,0 +1,78 @@
+package com.dushy.tenantmanage.benchmark;
+
+import com.dushy.tenantmanage.audit.AuditEventPublisher;
+import com.dushy.tenantmanage.billing.ArrearsAging;
+import com.dushy.tenantmanage.dto.DueRentDto;
+import com.dushy.tenantmanage.entity.Tenant;
+import com.dushy.tenantmanage.repository.RentAgreementRepository;
+import com.dushy.tenantmanage.repository.RentPaymentRepository;
+import com.dushy.tenantmanage.repository.TenantRepository;
+import com.dushy.tenantmanage.repository.UserRepository;
+import com.dushy.tenantmanage.service.impl.RentServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * calculateDueRent month arithmetic for agreements of increasing age, with
+ * the payment sum stubbed. Scores that rise with agreementMonths point at
+ * per-month work in the calculation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DueRentBenchmark {
+
+    private static final LocalDate MONTH = LocalDate.of(2025, 6, 15);
+
+    @Param({"1", "12", "120"})
+    private int agreementMonths;
+
+    private RentServiceImpl rentService;
+    private Long tenantId;
+
+    @Setup
+    public void setUp() {
+        Tenant tenant = BenchmarkFixtures.tenant(1L);
+        tenantId = tenant.getId();
+        LocalDate startDate = MONTH.withDayOfMonth(1).minusMonths(agreementMonths - 1L);
+
+        TenantRepository tenantRepository = mock(TenantRepository.class);
+        RentAgreementRepository rentAgreementRepository = mock(RentAgreementRepository.class);
+        RentPaymentRepository rentPaymentRepository = mock(RentPaymentRepository.class);
+        when(tenantRepository.findById(tenantId)).thenReturn(Optional.of(tenant));
+        when(rentAgreementRepository.findByTenantIdAndIsActiveTrue(tenantId))
+                .thenReturn(Optional.of(BenchmarkFixtures.agreement(tenant, startDate)));
+        when(rentPaymentRepository.sumAmountPaidByTenantIdBetweenMonths(eq(tenantId), any(), any()))
+                .thenReturn(new BigDecimal("12000.00").multiply(BigDecimal.valueOf(agreementMonths - 1L)));
+
+        rentService = new RentServiceImpl(rentAgreementRepository, rentPaymentRepository, tenantRepository,
+                mock(UserRepository.class), mock(AuditEventPublisher.class), mock(ArrearsAging.class));
+    }
+
+    @Benchmark
+    public DueRentDto calculateDueRent() {
+        return rentService.calculateDueRent(tenantId, MONTH);
+    }
+}
@@ -0,0 +1,110 @@
+package com.dushy.tenantmanage.benchmark;
+
+import com.dushy.tenantmanage.audit.EntityDiffers;
+import com.dushy.tenantmanage.entity.RentAgreement;
+import com.dushy.tenantmanage.entity.Room;
+import com.dushy.tenantmanage.entity.Tenant;
+import com.dushy.tenantmanage.enums.IdProofType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of producing audit diffs. Target: a few microseconds per entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityDifferBenchmark {
+
+    private Tenant tenant;
+    private Tenant updatedTenant;
+    private Object[] tenantSnapshot;
+    private RentAgreement agreement;
+    private Object[] agreementSnapshot;
+
+    @Setup
+    public void setUp() {
+        Room room = Room.builder().id(7L).propertyId(1L).roomNumber("101").build();
+        tenant = Tenant.builder()
+                .id(42L)
+                .room(room)
+                .propertyId(1L)
+                .fullName("Asha Verma")
+                .email("asha@example.com")
+                .phone("+91-9876543210")
+                .idProofType(IdProofType.AADHAR)
+                .idProofNumber("1234-5678-9012")
+                .emergencyContactName("Ravi Verma")
+                .emergencyContactPhone("+91-9123456780")
+                .moveInDate(LocalDate.of(2024, 1, 1))
+                .isActive(true)
+                .build();
+        tenantSnapshot = EntityDiffers.TENANT.snapshot(tenant);
+        updatedTenant = Tenant.builder()
+                .id(42L)
+                .room(room)
+                .propertyId(1L)
+                .fullName("Asha Verma")
+                .email("asha.verma@example.com")
+                .phone("+91-9876543210")
+                .idProofType(IdProofType.AADHAR)
+                .idProofNumber("1234-5678-9012")
+                .emergencyContactName("Ravi Verma")
+                .emergencyContactPhone("+91-9123456780")
+                .moveInDate(LocalDate.of(2024, 1, 1))
+                .moveOutDate(LocalDate.of(2025, 6, 30))
+                .isActive(false)
+                .build();
+
+        agreement = RentAgreement.builder()
+                .id(9L)
+                .tenant(tenant)
+                .monthlyRentAmount(new BigDecimal("12000.00"))
+                .securityDeposit(new BigDecimal("24000.00"))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .paymentDueDay(5)
+                .isActive(true)
+                .build();
+        agreementSnapshot = EntityDiffers.RENT_AGREEMENT.snapshot(agreement);
+    }
+
+    @Benchmark
+    public Object[] snapshotTenant() {
+        return EntityDiffers.TENANT.snapshot(tenant);
+    }
+
+    @Benchmark
+    public String diffTenantUpdate() {
+        return EntityDiffers.TENANT.diff(tenantSnapshot, updatedTenant);
+    }
+
+    @Benchmark
+    public String diffTenantUnchanged() {
+        return EntityDiffers.TENANT.diff(tenantSnapshot, tenant);
+    }
+
+    @Benchmark
+    public String createdTenant() {
+        return EntityDiffers.TENANT.created(tenant);
+    }
+
+    @Benchmark
+    public String diffAgreementUnchanged() {
+        return EntityDiffers.RENT_AGREEMENT.diff(agreementSnapshot, agreement);
+    }
+}
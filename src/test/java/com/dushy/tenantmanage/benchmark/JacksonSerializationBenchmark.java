@@ -0,0 +1,168 @@
+package com.dushy.tenantmanage.benchmark;
+
+import com.dushy.tenantmanage.dto.DashboardSummaryDto;
+import com.dushy.tenantmanage.dto.DueRentDto;
+import com.dushy.tenantmanage.dto.RentPaymentResponseDto;
+import com.dushy.tenantmanage.dto.RoomInfoDto;
+import com.dushy.tenantmanage.dto.TenantResponseDto;
+import com.dushy.tenantmanage.enums.IdProofType;
+import com.dushy.tenantmanage.enums.PaymentMethod;
+import com.dushy.tenantmanage.enums.RoomType;
+import com.dushy.tenantmanage.web.StreamingJson;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the response DTOs behind the list and dashboard
+ * endpoints, using an ObjectMapper configured like the one Spring Boot builds,
+ * with and without the Blackbird module (JacksonConfig). Per-row cost is the
+ * score divided by listSize; {@code paymentsStreamed} is the row-by-row path
+ * of the payment search endpoint.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int listSize;
+
+    @Param({"reflection", "blackbird"})
+    private String accessors;
+
+    private ObjectMapper objectMapper;
+    private StreamingJson streamingJson;
+    private List<TenantResponseDto> tenants;
+    private List<RentPaymentResponseDto> payments;
+    private List<DueRentDto> dueRents;
+    private List<RoomInfoDto> roomInfos;
+    private DashboardSummaryDto dashboardSummary;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("blackbird".equals(accessors)) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+        streamingJson = new StreamingJson(objectMapper);
+        tenants = new ArrayList<>(listSize);
+        payments = new ArrayList<>(listSize);
+        dueRents = new ArrayList<>(listSize);
+        roomInfos = new ArrayList<>(listSize);
+        BigDecimal rent = new BigDecimal("12000.00");
+        for (long i = 1; i <= listSize; i++) {
+            tenants.add(TenantResponseDto.builder()
+                    .id(i)
+                    .fullName("Tenant " + i)
+                    .email("tenant" + i + "@example.com")
+                    .phone("+91-98765" + String.format("%05d", i))
+                    .idProofType(IdProofType.AADHAR)
+                    .idProofNumber("1234-5678-9012")
+                    .moveInDate(LocalDate.of(2023, 4, 1))
+                    .isActive(true)
+                    .status("ACTIVE")
+                    .createdAt(LocalDateTime.of(2023, 3, 28, 10, 15))
+                    .roomId(i)
+                    .roomNumber(String.valueOf(100 + i))
+                    .propertyId(1L)
+                    .propertyName("Lakeview Residency")
+                    .build());
+            payments.add(RentPaymentResponseDto.builder()
+                    .id(i)
+                    .amountPaid(rent)
+                    .paymentDate(LocalDate.of(2025, 6, 3))
+                    .paymentForMonth(LocalDate.of(2025, 6, 1))
+                    .paymentMode(PaymentMethod.UPI)
+                    .transactionReference("UPI-" + i)
+                    .tenantId(i)
+                    .tenantName("Tenant " + i)
+                    .propertyId(1L)
+                    .propertyName("Lakeview Residency")
+                    .roomId(i)
+                    .roomNumber(String.valueOf(100 + i))
+                    .build());
+            dueRents.add(DueRentDto.builder()
+                    .tenantId(i)
+                    .tenantName("Tenant " + i)
+                    .roomNumber(String.valueOf(100 + i))
+                    .propertyId(1L)
+                    .propertyName("Lakeview Residency")
+                    .expectedAmount(rent.multiply(BigDecimal.valueOf(3)))
+                    .paidAmount(rent.multiply(BigDecimal.valueOf(2)))
+                    .dueAmount(rent)
+                    .month(LocalDate.of(2025, 6, 1))
+                    .build());
+            roomInfos.add(RoomInfoDto.builder()
+                    .id(i)
+                    .roomNumber(String.valueOf(100 + i))
+                    .roomType(RoomType.SINGLE)
+                    .sizeSqft(new BigDecimal("180.00"))
+                    .isOccupied(true)
+                    .tenantId(i)
+                    .tenantName("Tenant " + i)
+                    .dueAmount(rent)
+                    .paymentStatus("due")
+                    .build());
+        }
+        dashboardSummary = new DashboardSummaryDto(4, 48, 41, 7, 41,
+                rent.multiply(BigDecimal.valueOf(41)), rent.multiply(BigDecimal.valueOf(38)), 85.4);
+    }
+
+    @Benchmark
+    public String tenants() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(tenants);
+    }
+
+    @Benchmark
+    public String payments() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(payments);
+    }
+
+    @Benchmark
+    public String dueRents() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(dueRents);
+    }
+
+    @Benchmark
+    public String roomInfos() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(roomInfos);
+    }
+
+    @Benchmark
+    public void paymentsStreamed() throws IOException {
+        streamingJson.array(RentPaymentResponseDto.class, payments::forEach)
+                .getBody()
+                .writeTo(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public String dashboardSummary() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(dashboardSummary);
+    }
+}
@@ -0,0 +1,96 @@
+package com.dushy.tenantmanage.benchmark;
+
+import com.dushy.tenantmanage.entity.PropertyAccess;
+import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.enums.AccessLevel;
+import com.dushy.tenantmanage.enums.PropertyPermission;
+import com.dushy.tenantmanage.enums.UserType;
+import com.dushy.tenantmanage.repository.FloorRepository;
+import com.dushy.tenantmanage.repository.PropertiesRepository;
+import com.dushy.tenantmanage.repository.PropertyAccessRepository;
+import com.dushy.tenantmanage.repository.RentAgreementRepository;
+import com.dushy.tenantmanage.repository.RentPaymentRepository;
+import com.dushy.tenantmanage.repository.RoomRepository;
+import com.dushy.tenantmanage.repository.TenantRepository;
+import com.dushy.tenantmanage.security.PropertyAuthorizationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Decision logic of hasPropertyPermission for the owner, an assistant with an
+ * explicit grant and a READ-only assistant that is refused. Repositories are
+ * Mockito stubs, so the scores include stub dispatch but no database time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyAuthorizationBenchmark {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long ASSISTANT_ID = 2L;
+    private static final Long READER_ID = 3L;
+    private static final Long PROPERTY_ID = 1L;
+
+    private PropertyAuthorizationService authorizationService;
+
+    @Setup
+    public void setUp() {
+        PropertiesRepository propertiesRepository = mock(PropertiesRepository.class);
+        PropertyAccessRepository propertyAccessRepository = mock(PropertyAccessRepository.class);
+        when(propertiesRepository.findById(PROPERTY_ID)).thenReturn(Optional.of(BenchmarkFixtures.PROPERTY));
+        when(propertyAccessRepository.findByPropertyIdAndUserIdAndIsActiveTrue(PROPERTY_ID, ASSISTANT_ID))
+                .thenReturn(Optional.of(access(ASSISTANT_ID, AccessLevel.READ,
+                        EnumSet.of(PropertyPermission.VIEW_PROPERTY, PropertyPermission.MANAGE_PAYMENTS))));
+        when(propertyAccessRepository.findByPropertyIdAndUserIdAndIsActiveTrue(PROPERTY_ID, READER_ID))
+                .thenReturn(Optional.of(access(READER_ID, AccessLevel.READ, EnumSet.noneOf(PropertyPermission.class))));
+
+        authorizationService = new PropertyAuthorizationService(propertiesRepository, propertyAccessRepository,
+                mock(FloorRepository.class), mock(RoomRepository.class), mock(TenantRepository.class),
+                mock(RentAgreementRepository.class), mock(RentPaymentRepository.class));
+    }
+
+    private static PropertyAccess access(Long userId, AccessLevel level, EnumSet<PropertyPermission> permissions) {
+        return PropertyAccess.builder()
+                .property(BenchmarkFixtures.PROPERTY)
+                .user(User.builder().id(userId).userType(UserType.ASSISTANT).build())
+                .accessLevel(level)
+                .permissions(permissions)
+                .build();
+    }
+
+    @Benchmark
+    public boolean ownerAllowed() {
+        return authorizationService.hasPropertyPermission(OWNER_ID, PROPERTY_ID,
+                PropertyPermission.VIEW_FINANCIALS);
+    }
+
+    @Benchmark
+    public boolean assistantExplicitGrant() {
+        return authorizationService.hasPropertyPermission(ASSISTANT_ID, PROPERTY_ID,
+                PropertyPermission.MANAGE_PAYMENTS);
+    }
+
+    @Benchmark
+    public boolean readerRefused() {
+        return authorizationService.hasPropertyPermission(READER_ID, PROPERTY_ID,
+                PropertyPermission.VIEW_FINANCIALS);
+    }
+}
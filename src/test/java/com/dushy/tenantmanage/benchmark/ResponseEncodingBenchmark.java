@@ -0,0 +1,105 @@
+package com.dushy.tenantmanage.benchmark;
+
+import com.dushy.tenantmanage.dto.RentPaymentResponseDto;
+import com.dushy.tenantmanage.enums.PaymentMethod;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CPU per response for a payment search body in each wire format (JSON,
+ * Smile) and content encoding (none, gzip at Tomcat's default level). The
+ * bytes each combination puts on the wire are printed after the run, one
+ * line per parameter set.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEncodingBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    @Param({"json", "smile"})
+    private String format;
+
+    @Param({"identity", "gzip"})
+    private String encoding;
+
+    private ObjectWriter writer;
+    private List<RentPaymentResponseDto> payments;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 16);
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new BlackbirdModule());
+        if ("smile".equals(format)) {
+            builder.factory(new SmileFactory());
+        }
+        writer = builder.build().writerFor(new TypeReference<List<RentPaymentResponseDto>>() {
+        });
+
+        payments = new ArrayList<>(rows);
+        PaymentMethod[] modes = PaymentMethod.values();
+        for (long i = 1; i <= rows; i++) {
+            payments.add(RentPaymentResponseDto.builder()
+                    .id(i)
+                    .amountPaid(new BigDecimal(9000 + (i % 40) * 250).setScale(2))
+                    .paymentDate(LocalDate.of(2025, 6, 1).plusDays(i % 28))
+                    .paymentForMonth(LocalDate.of(2025, 6, 1))
+                    .paymentMode(modes[(int) (i % modes.length)])
+                    .transactionReference("TXN" + (4_000_000 + i * 7919))
+                    .tenantId(i)
+                    .tenantName("Tenant " + i)
+                    .propertyId(1 + i % 4)
+                    .propertyName("Property " + (1 + i % 4))
+                    .roomId(i)
+                    .roomNumber(String.valueOf(100 + i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public int payments() throws IOException {
+        buffer.reset();
+        OutputStream out = "gzip".equals(encoding) ? new GZIPOutputStream(buffer, 8192) : buffer;
+        // Closes the stream, which finishes the gzip trailer
+        writer.writeValue(out, payments);
+        return buffer.size();
+    }
+
+    @TearDown
+    public void printWireSize() throws IOException {
+        int bytes = payments();
+        System.out.printf("%n[ResponseEncodingBenchmark] rows=%d format=%s encoding=%s: %d bytes (%.1f per row)%n",
+                rows, format, encoding, bytes, (double) bytes / rows);
+    }
+}
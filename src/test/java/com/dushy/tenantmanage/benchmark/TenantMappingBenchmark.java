@@ -0,0 +1,80 @@
+package com.dushy.tenantmanage.benchmark;
+
+import com.dushy.tenantmanage.audit.AuditEventPublisher;
+import com.dushy.tenantmanage.dto.TenantResponseDto;
+import com.dushy.tenantmanage.entity.RentAgreement;
+import com.dushy.tenantmanage.entity.Room;
+import com.dushy.tenantmanage.entity.Tenant;
+import com.dushy.tenantmanage.repository.RentAgreementRepository;
+import com.dushy.tenantmanage.repository.RoomRepository;
+import com.dushy.tenantmanage.repository.TenantRepository;
+import com.dushy.tenantmanage.repository.UserRepository;
+import com.dushy.tenantmanage.service.impl.TenantServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Entity-to-DTO mapping for the tenant list endpoints, single and batched.
+ * Repository lookups are stubbed so only the mapping is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantMappingBenchmark {
+
+    @Param({"10", "200"})
+    private int tenantCount;
+
+    private TenantServiceImpl tenantService;
+    private Tenant tenant;
+    private List<Tenant> tenants;
+
+    @Setup
+    public void setUp() {
+        tenants = BenchmarkFixtures.tenants(tenantCount);
+        tenant = tenants.get(0);
+        List<RentAgreement> agreements = tenants.stream()
+                .map(t -> BenchmarkFixtures.agreement(t, LocalDate.of(2023, 4, 1)))
+                .toList();
+
+        RentAgreementRepository rentAgreementRepository = mock(RentAgreementRepository.class);
+        when(rentAgreementRepository.findByTenantIdInAndIsActiveTrue(anyCollection())).thenReturn(agreements);
+
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        List<Room> rooms = tenants.stream().map(Tenant::getRoom).toList();
+        when(roomRepository.findAllWithPropertyByIdIn(anyCollection())).thenReturn(rooms);
+
+        tenantService = new TenantServiceImpl(mock(TenantRepository.class), roomRepository,
+                rentAgreementRepository, mock(UserRepository.class), mock(AuditEventPublisher.class));
+    }
+
+    @Benchmark
+    public TenantResponseDto toResponseDto() {
+        return tenantService.toResponseDto(tenant);
+    }
+
+    @Benchmark
+    public List<TenantResponseDto> toResponseDtos() {
+        return tenantService.toResponseDtos(tenants);
+    }
+}
@@ -0,0 +1,134 @@
+package com.dushy.tenantmanage.billing;
+
+import com.dushy.tenantmanage.PostgresTestSupport;
+import com.dushy.tenantmanage.dto.response.ArrearsAgingPageResponse;
+import com.dushy.tenantmanage.dto.response.ArrearsAgingResponse;
+import com.dushy.tenantmanage.entity.Tenant;
+import com.dushy.tenantmanage.enums.ArrearsSort;
+import com.dushy.tenantmanage.querycount.PortfolioFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Report pages read straight from arrears_aging rows written by the test,
+ * so each sort puts the four fixture agreements in a different order.
+ */
+@Transactional
+class ArrearsAgingTest extends PostgresTestSupport {
+
+    @Autowired
+    private ArrearsAging arrearsAging;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+    private PortfolioFixtures.Portfolio portfolio;
+    private Long propertyId;
+    private Long dev;
+    private Long asha;
+    private Long chitra;
+    private Long bala;
+
+    @BeforeEach
+    void setUp() {
+        portfolio = fixtures.portfolio(1);
+        propertyId = portfolio.properties().get(0).getId();
+        List<Tenant> tenants = portfolio.tenants();
+        // Agreements are created in tenant order, so the ID tie-break favours Asha over Chitra
+        dev = owes(tenants.get(0), "Dev", "100.00", "0.00", 10);
+        asha = owes(tenants.get(1), "Asha", "100.00", "200.00", 120);
+        chitra = owes(tenants.get(2), "Chitra", "300.00", "0.00", 20);
+        bala = owes(tenants.get(3), "Bala", "0.00", "50.00", 100);
+    }
+
+    @Test
+    void sortsByTheRequestedColumnWithTheAgreementBreakingTies() {
+        assertThat(agreements(page(ArrearsSort.TOTAL_DUE, 0, 10))).containsExactly(asha, chitra, dev, bala);
+        assertThat(agreements(page(ArrearsSort.OVER_90, 0, 10))).containsExactly(asha, bala, chitra, dev);
+        assertThat(agreements(page(ArrearsSort.OLDEST_DUE, 0, 10))).containsExactly(asha, bala, chitra, dev);
+        assertThat(agreements(page(ArrearsSort.TENANT_NAME, 0, 10))).containsExactly(asha, bala, chitra, dev);
+
+        ArrearsAgingResponse row = page(ArrearsSort.TOTAL_DUE, 0, 1).items().get(0);
+        assertThat(row.tenantName()).isEqualTo("Asha");
+        assertThat(row.propertyId()).isEqualTo(propertyId);
+        assertThat(row.dueOver90()).isEqualByComparingTo("200.00");
+        assertThat(row.totalDue()).isEqualByComparingTo("300.00");
+        assertThat(row.oldestDueDate()).isEqualTo(today.minusDays(120));
+        assertThat(row.asOf()).isEqualTo(today);
+    }
+
+    @Test
+    void pagesCarryTheTotalsOfEveryMatchingRow() {
+        ArrearsAgingPageResponse last = page(ArrearsSort.TOTAL_DUE, 1, 3);
+        assertThat(agreements(last)).containsExactly(bala);
+        assertThat(last.totalItems()).isEqualTo(4);
+
+        ArrearsAgingPageResponse pastTheEnd = page(ArrearsSort.TOTAL_DUE, 5, 3);
+        assertThat(pastTheEnd.items()).isEmpty();
+        assertThat(pastTheEnd.page()).isEqualTo(5);
+        assertThat(pastTheEnd.size()).isEqualTo(3);
+        assertThat(pastTheEnd.totalItems()).isEqualTo(4);
+        assertThat(pastTheEnd.due0To30()).isEqualByComparingTo("500.00");
+        assertThat(pastTheEnd.due31To60()).isEqualByComparingTo("0.00");
+        assertThat(pastTheEnd.due61To90()).isEqualByComparingTo("0.00");
+        assertThat(pastTheEnd.dueOver90()).isEqualByComparingTo("250.00");
+        assertThat(pastTheEnd.totalDue()).isEqualByComparingTo("750.00");
+    }
+
+    @Test
+    void ownerFilterDropsOtherOwnersProperties() {
+        PortfolioFixtures.Portfolio other = fixtures.portfolio(1);
+        Long otherPropertyId = other.properties().get(0).getId();
+        Long otherAgreement = owes(other.tenants().get(0), "Esha", "40.00", "0.00", 5);
+        List<Long> both = List.of(propertyId, otherPropertyId);
+
+        ArrearsAgingPageResponse mine = arrearsAging.findPage(both, portfolio.owner().getId(),
+                ArrearsSort.TOTAL_DUE, 0, 10);
+        assertThat(agreements(mine)).containsExactly(asha, chitra, dev, bala);
+        assertThat(mine.totalDue()).isEqualByComparingTo("750.00");
+
+        ArrearsAgingPageResponse theirs = arrearsAging.findPage(both, other.owner().getId(),
+                ArrearsSort.TOTAL_DUE, 0, 10);
+        assertThat(agreements(theirs)).containsExactly(otherAgreement);
+        assertThat(theirs.totalDue()).isEqualByComparingTo("40.00");
+
+        assertThat(arrearsAging.findPage(both, null, ArrearsSort.TOTAL_DUE, 0, 10).totalItems()).isEqualTo(5);
+    }
+
+    private ArrearsAgingPageResponse page(ArrearsSort sort, int page, int size) {
+        return arrearsAging.findPage(List.of(propertyId), null, sort, page, size);
+    }
+
+    private static List<Long> agreements(ArrearsAgingPageResponse page) {
+        return page.items().stream().map(ArrearsAgingResponse::rentAgreementId).toList();
+    }
+
+    /**
+     * Renames the tenant and gives their agreement an aging row, returning the
+     * agreement ID.
+     */
+    private Long owes(Tenant tenant, String name, String due0To30, String dueOver90, int oldestDaysAgo) {
+        jdbcTemplate.update("UPDATE tenants SET full_name = ? WHERE id = ?", name, tenant.getId());
+        Long agreementId = jdbcTemplate.queryForObject(
+                "SELECT id FROM rent_agreements WHERE tenant_id = ?", Long.class, tenant.getId());
+        BigDecimal recent = new BigDecimal(due0To30);
+        BigDecimal old = new BigDecimal(dueOver90);
+        jdbcTemplate.update("INSERT INTO arrears_aging (rent_agreement_id, tenant_id, property_id, due_0_30, "
+                        + "due_31_60, due_61_90, due_over_90, total_due, oldest_due_date, as_of, refreshed_at) "
+                        + "VALUES (?, ?, ?, ?, 0, 0, ?, ?, ?, ?, now())",
+                agreementId, tenant.getId(), tenant.getPropertyId(), recent, old, recent.add(old),
+                Date.valueOf(today.minusDays(oldestDaysAgo)), Date.valueOf(today));
+        return agreementId;
+    }
+}
@@ -0,0 +1,154 @@
+package com.dushy.tenantmanage.billing;
+
+import com.dushy.tenantmanage.PostgresTestSupport;
+import com.dushy.tenantmanage.dto.RentPaymentDto;
+import com.dushy.tenantmanage.dto.response.ArrearsAgingPageResponse;
+import com.dushy.tenantmanage.dto.response.ArrearsAgingResponse;
+import com.dushy.tenantmanage.entity.Tenant;
+import com.dushy.tenantmanage.enums.ArrearsSort;
+import com.dushy.tenantmanage.enums.PaymentMethod;
+import com.dushy.tenantmanage.querycount.PortfolioFixtures;
+import com.dushy.tenantmanage.service.RentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fixture agreements started three months ago, are due on the 5th and have
+ * one month paid, so from the 10th of this month four charges are posted and
+ * the three newest are owed.
+ */
+class RentPostingJobTest extends PostgresTestSupport {
+
+    @Autowired
+    private RentPostingJob job;
+
+    @Autowired
+    private RentService rentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${rent.posting.chunks:16}")
+    private int chunks;
+
+    private PortfolioFixtures.Portfolio portfolio;
+    private Long propertyId;
+    private LocalDate currentMonth;
+
+    @BeforeEach
+    void setUp() {
+        portfolio = fixtures.portfolio(1);
+        propertyId = portfolio.properties().get(0).getId();
+        currentMonth = LocalDate.now().withDayOfMonth(1);
+    }
+
+    @Test
+    void postsDueChargesOnceAndAgesWhatIsOwed() {
+        LocalDate today = currentMonth.withDayOfMonth(10);
+        job.run(today);
+        job.run(today.plusDays(1));
+
+        Integer agreements = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT rent_agreement_id) FROM rent_charges WHERE property_id = ?",
+                Integer.class, propertyId);
+        Integer charges = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM rent_charges WHERE property_id = ?", Integer.class, propertyId);
+        assertThat(charges).isEqualTo(agreements * 4);
+
+        Map<String, Object> aging = jdbcTemplate.queryForMap("SELECT COUNT(*) AS agreements, "
+                + "SUM(due_0_30) AS due_0_30, SUM(due_31_60) AS due_31_60, SUM(due_61_90) AS due_61_90, "
+                + "SUM(due_over_90) AS due_over_90, SUM(total_due) AS total_due, MIN(oldest_due_date) AS oldest "
+                + "FROM arrears_aging WHERE property_id = ?", propertyId);
+        BigDecimal rent = new BigDecimal("10000.00").multiply(BigDecimal.valueOf(agreements));
+        assertThat(((Number) aging.get("agreements")).intValue()).isEqualTo(agreements);
+        assertThat((BigDecimal) aging.get("due_0_30")).isEqualByComparingTo(rent);
+        assertThat((BigDecimal) aging.get("due_31_60")).isEqualByComparingTo(rent);
+        assertThat((BigDecimal) aging.get("due_61_90")).isEqualByComparingTo(rent);
+        assertThat((BigDecimal) aging.get("due_over_90")).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat((BigDecimal) aging.get("total_due")).isEqualByComparingTo(rent.multiply(BigDecimal.valueOf(3)));
+        assertThat(((Date) aging.get("oldest")).toLocalDate()).isEqualTo(currentMonth.minusMonths(2).withDayOfMonth(5));
+    }
+
+    @Test
+    void concurrentRunsWorkEachChunkOnce() {
+        LocalDate today = currentMonth.withDayOfMonth(12);
+        CompletableFuture<Map<RentPostingJob.Outcome, Integer>> first =
+                CompletableFuture.supplyAsync(() -> job.run(today));
+        CompletableFuture<Map<RentPostingJob.Outcome, Integer>> second =
+                CompletableFuture.supplyAsync(() -> job.run(today));
+
+        int completed = first.join().getOrDefault(RentPostingJob.Outcome.COMPLETED, 0)
+                + second.join().getOrDefault(RentPostingJob.Outcome.COMPLETED, 0);
+        assertThat(completed).isEqualTo(chunks);
+        assertThat(first.join()).doesNotContainKey(RentPostingJob.Outcome.FAILED);
+        assertThat(second.join()).doesNotContainKey(RentPostingJob.Outcome.FAILED);
+
+        assertThat(job.run(today)).containsOnlyKeys(RentPostingJob.Outcome.ALREADY_DONE);
+    }
+
+    @Test
+    void paymentRefreshesItsAgreementInTheReport() {
+        job.run(currentMonth.withDayOfMonth(14));
+        Tenant payer = portfolio.tenants().get(0);
+        int agreements = portfolio.tenants().size();
+
+        RentPaymentDto payment = new RentPaymentDto();
+        payment.setAmountPaid(new BigDecimal("10000.00"));
+        payment.setPaymentForMonth(currentMonth.minusMonths(1));
+        payment.setPaymentMode(PaymentMethod.UPI);
+        rentService.recordPayment(payment, payer.getId(), portfolio.owner().getId());
+
+        ArrearsAgingPageResponse all = rentService.getArrearsAging(List.of(propertyId), null, ArrearsSort.TOTAL_DUE,
+                0, 200);
+        assertThat(all.totalItems()).isEqualTo(agreements);
+        assertThat(all.totalDue()).isEqualByComparingTo(
+                new BigDecimal("30000.00").multiply(BigDecimal.valueOf(agreements)).subtract(new BigDecimal("10000.00")));
+        ArrearsAgingResponse payerRow = all.items().stream()
+                .filter(item -> item.tenantId().equals(payer.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(payerRow.totalDue()).isEqualByComparingTo("20000.00");
+        assertThat(all.items().get(all.items().size() - 1).tenantId()).isEqualTo(payer.getId());
+
+        ArrearsAgingPageResponse second = rentService.getArrearsAging(List.of(propertyId), portfolio.owner().getId(),
+                ArrearsSort.TOTAL_DUE, 1, 2);
+        assertThat(second.items()).hasSize(Math.min(2, agreements - 2));
+        assertThat(second.totalItems()).isEqualTo(agreements);
+
+        ArrearsAgingPageResponse otherOwner = rentService.getArrearsAging(List.of(propertyId), -1L,
+                ArrearsSort.TOTAL_DUE, 0, 50);
+        assertThat(otherOwner.items()).isEmpty();
+        assertThat(otherOwner.totalItems()).isZero();
+    }
+
+    @Test
+    void paymentRecomputesItsAgreementEvenWithoutAnAgingRow() {
+        job.run(currentMonth.withDayOfMonth(14));
+        Tenant payer = portfolio.tenants().get(0);
+        // What a property refresh that has deleted but not yet re-added the rows leaves behind
+        jdbcTemplate.update("DELETE FROM arrears_aging WHERE tenant_id = ?", payer.getId());
+
+        RentPaymentDto payment = new RentPaymentDto();
+        payment.setAmountPaid(new BigDecimal("10000.00"));
+        payment.setPaymentForMonth(currentMonth.minusMonths(1));
+        payment.setPaymentMode(PaymentMethod.UPI);
+        rentService.recordPayment(payment, payer.getId(), portfolio.owner().getId());
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT total_due, as_of FROM arrears_aging WHERE tenant_id = ?", payer.getId());
+        assertThat((BigDecimal) row.get("total_due")).isEqualByComparingTo("20000.00");
+        assertThat(((Date) row.get("as_of")).toLocalDate()).isEqualTo(LocalDate.now());
+    }
+}
@@ -0,0 +1,161 @@
+package com.dushy.tenantmanage.cache;
+
+import com.dushy.tenantmanage.PostgresTestSupport;
+import com.dushy.tenantmanage.TenantmanageApplication;
+import com.dushy.tenantmanage.controller.AssistantController;
+import com.dushy.tenantmanage.dto.PropertyDto;
+import com.dushy.tenantmanage.dto.request.AddAssistantRequest;
+import com.dushy.tenantmanage.dto.request.UpdatePermissionsRequest;
+import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.enums.PropertyPermission;
+import com.dushy.tenantmanage.enums.UserType;
+import com.dushy.tenantmanage.querycount.PortfolioFixtures;
+import com.dushy.tenantmanage.repository.UserRepository;
+import com.dushy.tenantmanage.security.PropertyAuthorizationService;
+import com.dushy.tenantmanage.service.PropertyService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two application nodes against one database: this test's context
+ * writes, a second context started alongside it reads. Each read on the
+ * second node is made twice before the write, so without invalidations it
+ * would keep serving the pre-write value from its second-level cache.
+ */
+class CacheInvalidationBusTest extends PostgresTestSupport {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static ConfigurableApplicationContext otherNode;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private AssistantController assistantController;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    private PortfolioFixtures.Portfolio portfolio;
+
+    @BeforeAll
+    static void startOtherNode() {
+        // Runs before this class's context is loaded, which is what would otherwise start the container
+        POSTGRES.start();
+        otherNode = new SpringApplicationBuilder(TenantmanageApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword(),
+                        "jwt.secret=c2Vjb25kLWxldmVsLWNhY2hlLXRlc3RzLWp3dC1zZWNyZXQta2V5LTMy",
+                        "spring.security.oauth2.client.registration.google.client-id=test",
+                        "spring.security.oauth2.client.registration.google.client-secret=test")
+                .run();
+    }
+
+    @AfterAll
+    static void stopOtherNode() {
+        if (otherNode != null) {
+            otherNode.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        awaitTrue(invalidationBus::isListening);
+        awaitTrue(otherNode.getBean(CacheInvalidationBus.class)::isListening);
+        portfolio = fixtures.portfolio(1);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(portfolio.owner().getEmail(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void propertyUpdateOnOneNodeIsVisibleOnTheOther() {
+        PropertyService otherPropertyService = otherNode.getBean(PropertyService.class);
+        Long propertyId = portfolio.properties().get(0).getId();
+        otherPropertyService.getPropertyById(propertyId);
+        otherPropertyService.getPropertyById(propertyId);
+
+        PropertyDto update = new PropertyDto();
+        update.setName("Renamed on another node");
+        update.setAddress("3 Other Street");
+        update.setCity("Nagpur");
+        update.setTotalFloors(2);
+        propertyService.updateProperty(propertyId, update);
+
+        awaitTrue(() -> "Renamed on another node".equals(otherPropertyService.getPropertyById(propertyId).name()));
+    }
+
+    @Test
+    void permissionChangeOnOneNodeIsVisibleOnTheOther() {
+        PropertyAuthorizationService otherAuthorization = otherNode.getBean(PropertyAuthorizationService.class);
+        Long propertyId = portfolio.properties().get(0).getId();
+        User assistant = userRepository.save(User.builder()
+                .email("assistant-" + UUID.randomUUID() + "@example.com")
+                .fullName("Fixture Assistant")
+                .userType(UserType.ASSISTANT)
+                .isActive(true)
+                .build());
+
+        AddAssistantRequest add = new AddAssistantRequest();
+        add.setEmail(assistant.getEmail());
+        add.setPermissions(Set.of(PropertyPermission.VIEW_PROPERTY));
+        assistantController.addAssistant(propertyId, add);
+
+        awaitTrue(() -> otherAuthorization.hasPropertyAccess(assistant.getId(), propertyId));
+        assertThat(otherAuthorization.hasPropertyPermission(assistant.getId(), propertyId,
+                PropertyPermission.MANAGE_PAYMENTS)).isFalse();
+        assertThat(otherAuthorization.hasPropertyPermission(assistant.getId(), propertyId,
+                PropertyPermission.MANAGE_PAYMENTS)).isFalse();
+
+        UpdatePermissionsRequest update = new UpdatePermissionsRequest();
+        update.setPermissions(Set.of(PropertyPermission.VIEW_PROPERTY, PropertyPermission.MANAGE_PAYMENTS));
+        assistantController.updatePermissions(propertyId, assistant.getId(), update);
+
+        awaitTrue(() -> otherAuthorization.hasPropertyPermission(assistant.getId(), propertyId,
+                PropertyPermission.MANAGE_PAYMENTS));
+
+        assistantController.removeAssistant(propertyId, assistant.getId());
+
+        awaitTrue(() -> !otherAuthorization.hasPropertyAccess(assistant.getId(), propertyId));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
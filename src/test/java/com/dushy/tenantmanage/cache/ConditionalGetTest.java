@@ -0,0 +1,149 @@
+package com.dushy.tenantmanage.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Validators and 304 decisions of {@link ConditionalGet}, with the version
+ * lookup stubbed.
+ */
+class ConditionalGetTest {
+
+    private static final Instant CHANGED_AT = Instant.parse("2025-06-01T10:15:30.250Z");
+
+    private final PropertyVersions propertyVersions = mock(PropertyVersions.class);
+    private final ConditionalGet conditionalGet = new ConditionalGet(propertyVersions);
+    private final AtomicInteger bodiesBuilt = new AtomicInteger();
+
+    @Test
+    void sendsAWeakEtagVaryingByAccept() {
+        version(1, CHANGED_AT);
+
+        Exchange first = get(request());
+
+        assertThat(first.entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.entity.getBody()).isEqualTo("body");
+        assertThat(first.etag()).startsWith("W/\"");
+        assertThat(first.entity.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+        assertThat(first.entity.getHeaders().getCacheControl()).contains("no-cache").contains("private");
+        assertThat(first.entity.getHeaders().getLastModified()).isEqualTo(CHANGED_AT.toEpochMilli() / 1000 * 1000);
+    }
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() {
+        version(1, CHANGED_AT);
+        String etag = get(request()).etag();
+
+        MockHttpServletRequest revalidation = request();
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        Exchange second = get(revalidation);
+
+        assertThat(second.entity.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.entity.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+        assertThat(bodiesBuilt).hasValue(1);
+    }
+
+    @Test
+    void bumpedVersionIsModified() {
+        version(1, CHANGED_AT);
+        String etag = get(request()).etag();
+
+        // A write in the same second: only the version tells them apart
+        version(2, CHANGED_AT.plusMillis(500));
+        MockHttpServletRequest revalidation = request();
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        Exchange second = get(revalidation);
+
+        assertThat(second.entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.etag()).isNotEqualTo(etag);
+        assertThat(bodiesBuilt).hasValue(2);
+    }
+
+    @Test
+    void ifModifiedSinceAloneIsNotTrustedWithinTheSecondOfTheChange() {
+        version(2, CHANGED_AT.plusMillis(500));
+        MockHttpServletRequest revalidation = request();
+        revalidation.addHeader(HttpHeaders.IF_MODIFIED_SINCE, "Sun, 01 Jun 2025 10:15:30 GMT");
+
+        Exchange response = get(revalidation);
+
+        assertThat(response.entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.etag()).isNotNull();
+    }
+
+    @Test
+    void ifModifiedSinceAfterTheChangeIsNotModified() {
+        version(1, CHANGED_AT);
+        MockHttpServletRequest revalidation = request();
+        revalidation.addHeader(HttpHeaders.IF_MODIFIED_SINCE, "Sun, 01 Jun 2025 10:15:31 GMT");
+
+        assertThat(get(revalidation).entity.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void ifNoneMatchTakesPrecedenceOverIfModifiedSince() {
+        version(1, CHANGED_AT);
+        String etag = get(request()).etag();
+
+        MockHttpServletRequest revalidation = request();
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        revalidation.addHeader(HttpHeaders.IF_MODIFIED_SINCE, "Sun, 01 Jun 2025 10:15:30 GMT");
+
+        assertThat(get(revalidation).entity.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void propertyWithoutVersionGetsNoValidators() {
+        when(propertyVersions.find(anyCollection())).thenReturn(Map.of());
+
+        Exchange response = get(request());
+
+        assertThat(response.entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.etag()).isNull();
+    }
+
+    private void version(long version, Instant updatedAt) {
+        when(propertyVersions.find(anyCollection()))
+                .thenReturn(Map.of(1L, new PropertyVersions.Version(version, updatedAt)));
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/properties/1");
+    }
+
+    private Exchange get(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ResponseEntity<String> entity = conditionalGet.ok(new ServletWebRequest(request, response), List.of(1L),
+                () -> {
+                    bodiesBuilt.incrementAndGet();
+                    return "body";
+                });
+        return new Exchange(entity, response);
+    }
+
+    /**
+     * checkNotModified writes the ETag to the servlet response, the rest is
+     * on the entity.
+     */
+    private record Exchange(ResponseEntity<String> entity, MockHttpServletResponse response) {
+
+        String etag() {
+            return response.getHeader(HttpHeaders.ETAG);
+        }
+    }
+}
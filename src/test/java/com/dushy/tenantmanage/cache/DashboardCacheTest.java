@@ -0,0 +1,162 @@
+package com.dushy.tenantmanage.cache;
+
+import com.dushy.tenantmanage.dto.DashboardSummaryDto;
+import com.dushy.tenantmanage.repository.PropertiesRepository;
+import com.dushy.tenantmanage.repository.TenantRepository;
+import com.dushy.tenantmanage.service.DashboardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Refresh-on-change behaviour of the dashboard cache with the dashboard
+ * queries and repositories stubbed. Entries never refresh on their own
+ * during these tests, so every recompute comes from a change.
+ */
+class DashboardCacheTest {
+
+    private static final long OWNER = 1L;
+    private static final long OTHER_OWNER = 2L;
+    private static final long PROPERTY = 10L;
+    private static final long OTHER_PROPERTY = 20L;
+
+    private final DashboardService dashboardService = mock(DashboardService.class);
+    private final PropertiesRepository propertiesRepository = mock(PropertiesRepository.class);
+    private final TenantRepository tenantRepository = mock(TenantRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final DashboardCache dashboardCache = new DashboardCache(dashboardService, propertiesRepository,
+            tenantRepository, mock(PlatformTransactionManager.class), eventPublisher,
+            true, 100, 3_600_000, 3_600_000, 2);
+
+    @AfterEach
+    void shutDown() {
+        dashboardCache.destroy();
+    }
+
+    @Test
+    void changeRefreshesOnlyTheEntriesCoveringTheProperty() {
+        when(dashboardService.getDashboardSummary(OWNER)).thenReturn(summary(1), summary(2));
+        when(dashboardService.getDashboardSummary(OTHER_OWNER)).thenReturn(summary(5));
+        when(dashboardService.getPropertySummary(PROPERTY)).thenReturn(summary(1), summary(2));
+        when(dashboardService.getPropertySummary(OTHER_PROPERTY)).thenReturn(summary(5));
+        when(propertiesRepository.findOwnerIdsByIdIn(anyCollection())).thenReturn(List.of(OWNER));
+        dashboardCache.getDashboardSummary(OWNER);
+        dashboardCache.getDashboardSummary(OTHER_OWNER);
+        dashboardCache.getPropertySummary(PROPERTY);
+        dashboardCache.getPropertySummary(OTHER_PROPERTY);
+
+        dashboardCache.propertiesChanged(List.of(PROPERTY));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(dashboardCache.getDashboardSummary(OWNER).getTotalRooms()).isEqualTo(2);
+            assertThat(dashboardCache.getPropertySummary(PROPERTY).getTotalRooms()).isEqualTo(2);
+        });
+        verify(eventPublisher, timeout(5000)).publishEvent(argThat((Object event) ->
+                event instanceof DashboardSummaryRefreshed refreshed
+                        && refreshed.userId() == OWNER && refreshed.summary().getTotalRooms() == 2));
+        assertThat(dashboardCache.getDashboardSummary(OTHER_OWNER).getTotalRooms()).isEqualTo(5);
+        assertThat(dashboardCache.getPropertySummary(OTHER_PROPERTY).getTotalRooms()).isEqualTo(5);
+        verify(dashboardService, times(1)).getDashboardSummary(OTHER_OWNER);
+        verify(dashboardService, times(1)).getPropertySummary(OTHER_PROPERTY);
+    }
+
+    @Test
+    void tenantChangeIsResolvedToItsProperty() {
+        when(dashboardService.getDashboardSummary(OWNER)).thenReturn(summary(1), summary(2));
+        when(tenantRepository.findPropertyIdsByIdIn(anyCollection())).thenReturn(List.of(PROPERTY));
+        when(propertiesRepository.findOwnerIdsByIdIn(anyCollection())).thenReturn(List.of(OWNER));
+        dashboardCache.getDashboardSummary(OWNER);
+
+        dashboardCache.tenantsChanged(List.of(100L));
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(dashboardCache.getDashboardSummary(OWNER).getTotalRooms())
+                        .isEqualTo(2));
+    }
+
+    @Test
+    void servesTheCachedValueWhileTheRefreshRuns() throws InterruptedException {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch finishRefresh = new CountDownLatch(1);
+        when(dashboardService.getDashboardSummary(OWNER)).thenReturn(summary(1)).thenAnswer(invocation -> {
+            refreshStarted.countDown();
+            finishRefresh.await();
+            return summary(2);
+        });
+        when(propertiesRepository.findOwnerIdsByIdIn(anyCollection())).thenReturn(List.of(OWNER));
+        dashboardCache.getDashboardSummary(OWNER);
+
+        dashboardCache.propertiesChanged(List.of(PROPERTY));
+        assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The reader neither waits for the refresh nor sees it half-done
+        assertThat(dashboardCache.getDashboardSummary(OWNER).getTotalRooms()).isEqualTo(1);
+
+        finishRefresh.countDown();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(dashboardCache.getDashboardSummary(OWNER).getTotalRooms())
+                        .isEqualTo(2));
+        verify(dashboardService, times(2)).getDashboardSummary(OWNER);
+    }
+
+    @Test
+    void refreshOvertakenByALaterChangeIsNeitherCachedNorPublished() throws InterruptedException {
+        CountDownLatch firstRefreshStarted = new CountDownLatch(1);
+        CountDownLatch finishFirstRefresh = new CountDownLatch(1);
+        CountDownLatch firstRefreshDone = new CountDownLatch(1);
+        when(dashboardService.getDashboardSummary(OWNER)).thenReturn(summary(1)).thenAnswer(invocation -> {
+            firstRefreshStarted.countDown();
+            finishFirstRefresh.await();
+            firstRefreshDone.countDown();
+            return summary(2);
+        }).thenReturn(summary(3));
+        when(propertiesRepository.findOwnerIdsByIdIn(anyCollection())).thenReturn(List.of(OWNER));
+        dashboardCache.getDashboardSummary(OWNER);
+
+        dashboardCache.propertiesChanged(List.of(PROPERTY));
+        assertThat(firstRefreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        dashboardCache.propertiesChanged(List.of(PROPERTY));
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(dashboardCache.getDashboardSummary(OWNER).getTotalRooms())
+                        .isEqualTo(3));
+
+        finishFirstRefresh.countDown();
+        assertThat(firstRefreshDone.await(5, TimeUnit.SECONDS)).isTrue();
+
+        verify(eventPublisher, after(200).times(1)).publishEvent(any(Object.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof DashboardSummaryRefreshed refreshed && refreshed.summary().getTotalRooms() == 3));
+        assertThat(dashboardCache.getDashboardSummary(OWNER).getTotalRooms()).isEqualTo(3);
+    }
+
+    @Test
+    void changeBeforeAnythingIsCachedLoadsNothing() {
+        dashboardCache.propertiesChanged(List.of(PROPERTY));
+
+        assertThat(dashboardCache.getDashboardSummary(OWNER)).isNull();
+        verify(propertiesRepository, times(0)).findOwnerIdsByIdIn(anyCollection());
+    }
+
+    private static DashboardSummaryDto summary(int totalRooms) {
+        return new DashboardSummaryDto(1, totalRooms, 0, totalRooms, 0, BigDecimal.ZERO, BigDecimal.ZERO, 0.0);
+    }
+}
@@ -0,0 +1,185 @@
+package com.dushy.tenantmanage.cache;
+
+import com.dushy.tenantmanage.PostgresTestSupport;
+import com.dushy.tenantmanage.controller.AssistantController;
+import com.dushy.tenantmanage.dto.PropertyDto;
+import com.dushy.tenantmanage.dto.RoomDto;
+import com.dushy.tenantmanage.dto.request.AddAssistantRequest;
+import com.dushy.tenantmanage.dto.request.UpdatePermissionsRequest;
+import com.dushy.tenantmanage.dto.response.PropertyResponse;
+import com.dushy.tenantmanage.entity.Room;
+import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.enums.PropertyPermission;
+import com.dushy.tenantmanage.enums.UserType;
+import com.dushy.tenantmanage.querycount.PortfolioFixtures;
+import com.dushy.tenantmanage.repository.RoomRepository;
+import com.dushy.tenantmanage.repository.UserRepository;
+import com.dushy.tenantmanage.security.PropertyAuthorizationService;
+import com.dushy.tenantmanage.service.PropertyService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Checks that writes made through the service and controller layers are
+ * visible to later reads served from the second-level cache.
+ * Not transactional: every call commits, as it would in a real request, so
+ * reads after a write go through the cache rather than the first-level cache.
+ */
+class SecondLevelCacheTest extends PostgresTestSupport {
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private AssistantController assistantController;
+
+    @Autowired
+    private PropertyAuthorizationService authorizationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    private Statistics statistics;
+    private PortfolioFixtures.Portfolio portfolio;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        portfolio = fixtures.portfolio(1);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(portfolio.owner().getEmail(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void propertyReadsAreServedFromCache() {
+        Long propertyId = portfolio.properties().get(0).getId();
+        propertyService.getPropertyById(propertyId);
+
+        long hits = statistics.getCacheRegionStatistics("properties").getHitCount();
+        propertyService.getPropertyById(propertyId);
+
+        assertThat(statistics.getCacheRegionStatistics("properties").getHitCount()).isGreaterThan(hits);
+    }
+
+    @Test
+    void propertyUpdateIsVisibleAfterCaching() {
+        Long propertyId = portfolio.properties().get(0).getId();
+        propertyService.getPropertyById(propertyId);
+
+        PropertyDto update = new PropertyDto();
+        update.setName("Renamed");
+        update.setAddress("2 New Street");
+        update.setCity("Pune");
+        update.setTotalFloors(4);
+        propertyService.updateProperty(propertyId, update);
+
+        PropertyResponse reloaded = propertyService.getPropertyById(propertyId);
+        assertThat(reloaded.name()).isEqualTo("Renamed");
+        assertThat(reloaded.city()).isEqualTo("Pune");
+        assertThat(reloaded.totalFloors()).isEqualTo(4);
+    }
+
+    @Test
+    void propertyDeleteIsVisibleAfterCaching() {
+        Long propertyId = portfolio.properties().get(0).getId();
+        propertyService.getPropertyById(propertyId);
+
+        propertyService.deleteProperty(propertyId);
+
+        assertThat(propertyService.getPropertyById(propertyId).isActive()).isFalse();
+    }
+
+    @Test
+    void roomUpdateIsVisibleAfterCaching() {
+        Long propertyId = portfolio.properties().get(0).getId();
+        Room room = roomRepository.findByPropertyIdOrderByFloorFloorNumberAscRoomNumberAsc(propertyId).get(0);
+        propertyService.getRoomById(room.getId());
+
+        RoomDto update = new RoomDto();
+        update.setRoomNumber("R-" + room.getId());
+        update.setRoomType(room.getRoomType());
+        propertyService.updateRoom(room.getId(), update);
+
+        assertThat(propertyService.getRoomById(room.getId()).roomNumber()).isEqualTo("R-" + room.getId());
+    }
+
+    @Test
+    void assistantPermissionChangesAreVisibleAfterCaching() {
+        Long propertyId = portfolio.properties().get(0).getId();
+        User assistant = userRepository.save(User.builder()
+                .email("assistant-" + UUID.randomUUID() + "@example.com")
+                .fullName("Fixture Assistant")
+                .userType(UserType.ASSISTANT)
+                .isActive(true)
+                .build());
+
+        AddAssistantRequest add = new AddAssistantRequest();
+        add.setEmail(assistant.getEmail());
+        add.setPermissions(Set.of(PropertyPermission.VIEW_PROPERTY));
+        assistantController.addAssistant(propertyId, add);
+
+        // Twice, so the second check is answered from the query and entity caches
+        assertThat(authorizationService.hasPropertyPermission(assistant.getId(), propertyId,
+                PropertyPermission.MANAGE_PAYMENTS)).isFalse();
+        assertThat(authorizationService.hasPropertyPermission(assistant.getId(), propertyId,
+                PropertyPermission.MANAGE_PAYMENTS)).isFalse();
+
+        UpdatePermissionsRequest update = new UpdatePermissionsRequest();
+        update.setPermissions(Set.of(PropertyPermission.VIEW_PROPERTY, PropertyPermission.MANAGE_PAYMENTS));
+        assistantController.updatePermissions(propertyId, assistant.getId(), update);
+
+        assertThat(authorizationService.hasPropertyPermission(assistant.getId(), propertyId,
+                PropertyPermission.MANAGE_PAYMENTS)).isTrue();
+
+        assistantController.removeAssistant(propertyId, assistant.getId());
+
+        assertThat(authorizationService.hasPropertyAccess(assistant.getId(), propertyId)).isFalse();
+    }
+
+    @Test
+    void roomAddedAfterCachingRefreshesTheOwnersDashboard() {
+        Long ownerId = portfolio.owner().getId();
+        Long propertyId = portfolio.properties().get(0).getId();
+        Room room = roomRepository.findByPropertyIdOrderByFloorFloorNumberAscRoomNumberAsc(propertyId).get(0);
+        int totalRooms = dashboardCache.getDashboardSummary(ownerId).getTotalRooms();
+
+        RoomDto added = new RoomDto();
+        added.setRoomNumber("R-new-" + room.getId());
+        added.setRoomType(room.getRoomType());
+        propertyService.addRoom(added, room.getFloor().getId());
+
+        // Refreshed in the background after the commit
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(dashboardCache.getDashboardSummary(ownerId).getTotalRooms())
+                        .isEqualTo(totalRooms + 1));
+    }
+}
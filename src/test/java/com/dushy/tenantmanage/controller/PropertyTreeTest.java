@@ -0,0 +1,106 @@
+package com.dushy.tenantmanage.controller;
+
+import com.dushy.tenantmanage.PostgresTestSupport;
+import com.dushy.tenantmanage.dto.PropertyTreeDto;
+import com.dushy.tenantmanage.entity.Tenant;
+import com.dushy.tenantmanage.querycount.PortfolioFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /api/properties/{id}/tree through the controller, so the include
+ * parameter is mapped to the levels the service builds. Each fixture
+ * property has two floors of three rooms, the last room on each floor vacant.
+ */
+class PropertyTreeTest extends PostgresTestSupport {
+
+    @Autowired
+    private PropertyController propertyController;
+
+    private PortfolioFixtures.Portfolio portfolio;
+    private Long propertyId;
+
+    @BeforeEach
+    void setUp() {
+        portfolio = fixtures.portfolio(1);
+        propertyId = portfolio.properties().get(0).getId();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(portfolio.owner().getEmail(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void buildsTheFullTreeWhenNothingIsRequested() {
+        PropertyTreeDto tree = tree(null);
+
+        assertThat(tree.getId()).isEqualTo(propertyId);
+        assertThat(tree.getTotalRooms()).isEqualTo(6);
+        assertThat(tree.getOccupiedRooms()).isEqualTo(4);
+        assertThat(tree.getFloors()).extracting(PropertyTreeDto.FloorNode::getFloorNumber).containsExactly(0, 1);
+
+        List<PropertyTreeDto.RoomNode> ground = tree.getFloors().get(0).getRooms();
+        assertThat(ground).extracting(PropertyTreeDto.RoomNode::getRoomNumber).containsExactly("000", "001", "002");
+        Tenant first = portfolio.tenants().get(0);
+        PropertyTreeDto.TenantNode tenant = ground.get(0).getTenant();
+        assertThat(tenant.getId()).isEqualTo(first.getId());
+        assertThat(tenant.getFullName()).isEqualTo(first.getFullName());
+        assertThat(tenant.getRentAmount()).isEqualByComparingTo("10000.00");
+        assertThat(tenant.getPaymentDueDay()).isEqualTo(5);
+        assertThat(ground.get(2).getTenant()).isNull();
+    }
+
+    @Test
+    void tenantsBringTheirRoomsWithThem() {
+        PropertyTreeDto tree = tree(Set.of("tenants"));
+
+        assertThat(tree.getFloors()).allSatisfy(floor -> {
+            assertThat(floor.getRooms()).hasSize(3);
+            assertThat(floor.getRooms()).filteredOn(room -> room.getTenant() != null).hasSize(2);
+        });
+    }
+
+    @Test
+    void roomsAloneLeaveTheTenantsOut() {
+        PropertyTreeDto tree = tree(Set.of("rooms"));
+
+        assertThat(tree.getFloors()).allSatisfy(floor -> {
+            assertThat(floor.getRooms()).hasSize(3);
+            assertThat(floor.getRooms()).allSatisfy(room -> assertThat(room.getTenant()).isNull());
+            assertThat(floor.getOccupiedRooms()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void anythingElseStopsAtTheFloorsButKeepsTheirCounts() {
+        PropertyTreeDto tree = tree(Set.of("floors"));
+
+        assertThat(tree.getTotalRooms()).isEqualTo(6);
+        assertThat(tree.getOccupiedRooms()).isEqualTo(4);
+        assertThat(tree.getFloors()).hasSize(2).allSatisfy(floor -> {
+            assertThat(floor.getRooms()).isNull();
+            assertThat(floor.getTotalRooms()).isEqualTo(3);
+            assertThat(floor.getOccupiedRooms()).isEqualTo(2);
+        });
+    }
+
+    private PropertyTreeDto tree(Set<String> include) {
+        return propertyController.getPropertyTree(propertyId, include,
+                new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse())).getBody();
+    }
+}
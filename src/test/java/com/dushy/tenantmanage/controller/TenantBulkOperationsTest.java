@@ -0,0 +1,147 @@
+package com.dushy.tenantmanage.controller;
+
+import com.dushy.tenantmanage.PostgresTestSupport;
+import com.dushy.tenantmanage.dto.BulkTenantOperationResultDto;
+import com.dushy.tenantmanage.dto.RentAgreementDto;
+import com.dushy.tenantmanage.dto.TenantDto;
+import com.dushy.tenantmanage.dto.request.BulkTenantOperationRequest;
+import com.dushy.tenantmanage.dto.request.BulkTenantOperationRequest.TenantOperation;
+import com.dushy.tenantmanage.entity.Tenant;
+import com.dushy.tenantmanage.enums.TenantOperationType;
+import com.dushy.tenantmanage.exception.AccessDeniedException;
+import com.dushy.tenantmanage.querycount.PortfolioFixtures;
+import com.dushy.tenantmanage.repository.RentAgreementRepository;
+import com.dushy.tenantmanage.repository.RoomRepository;
+import com.dushy.tenantmanage.repository.TenantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs POST /api/tenants/bulk through the controller, so the per-property
+ * authorization check is covered along with the operations themselves.
+ */
+class TenantBulkOperationsTest extends PostgresTestSupport {
+
+    @Autowired
+    private TenantController tenantController;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RentAgreementRepository rentAgreementRepository;
+
+    private PortfolioFixtures.Portfolio portfolio;
+
+    @BeforeEach
+    void setUp() {
+        portfolio = fixtures.portfolio(1);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(portfolio.owner().getEmail(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void appliesOperationsInOrderAndReportsEachOne() {
+        Tenant leaving = portfolio.tenants().get(0);
+        Tenant swapped = portfolio.tenants().get(1);
+        Tenant staying = portfolio.tenants().get(2);
+        Long freedRoomId = leaving.getRoom().getId();
+        Long vacantRoomId = roomRepository
+                .findByPropertyIdAndIsOccupiedFalseAndIsActiveTrueOrderByFloorFloorNumberAscRoomNumberAsc(
+                        portfolio.properties().get(0).getId())
+                .get(0).getId();
+
+        List<BulkTenantOperationResultDto> results = bulk(
+                TenantOperation.builder().type(TenantOperationType.MOVE_OUT).tenantId(leaving.getId()).build(),
+                moveIn(freedRoomId, "Into the freed room"),
+                swap(swapped.getId(), "Swapped in"),
+                moveIn(vacantRoomId, "Into the vacant room"),
+                moveIn(staying.getRoom().getId(), "Into an occupied room"),
+                TenantOperation.builder().type(TenantOperationType.MOVE_OUT).tenantId(-1L).build());
+
+        assertThat(results).extracting(BulkTenantOperationResultDto::getIndex).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(results).extracting(BulkTenantOperationResultDto::isSuccess)
+                .containsExactly(true, true, true, true, false, false);
+        assertThat(results.get(4).getMessage()).isEqualTo("Room is already occupied");
+        assertThat(results.get(5).getTenant()).isNull();
+
+        assertThat(tenantRepository.findById(leaving.getId()).orElseThrow().getIsActive()).isFalse();
+        assertThat(tenantRepository.findById(swapped.getId()).orElseThrow().getIsActive()).isFalse();
+        assertThat(rentAgreementRepository.findByTenantIdAndIsActiveTrue(leaving.getId())).isEmpty();
+        assertThat(tenantRepository.findByRoomIdAndIsActiveTrue(freedRoomId).orElseThrow().getFullName())
+                .isEqualTo("Into the freed room");
+        assertThat(tenantRepository.findByRoomIdAndIsActiveTrue(swapped.getRoom().getId()).orElseThrow()
+                .getFullName()).isEqualTo("Swapped in");
+        assertThat(roomRepository.findById(vacantRoomId).orElseThrow().getIsOccupied()).isTrue();
+        assertThat(rentAgreementRepository.findByTenantIdAndIsActiveTrue(results.get(3).getTenant().getId()))
+                .isPresent();
+    }
+
+    @Test
+    void rejectsTheWholeBatchWhenOnePropertyIsNotAccessible() {
+        Tenant own = portfolio.tenants().get(0);
+        Tenant foreign = fixtures.portfolio(1).tenants().get(0);
+
+        assertThatThrownBy(() -> bulk(
+                TenantOperation.builder().type(TenantOperationType.MOVE_OUT).tenantId(own.getId()).build(),
+                TenantOperation.builder().type(TenantOperationType.MOVE_OUT).tenantId(foreign.getId()).build()))
+                .isInstanceOf(AccessDeniedException.class);
+
+        assertThat(tenantRepository.findById(own.getId()).orElseThrow().getIsActive()).isTrue();
+        assertThat(tenantRepository.findById(foreign.getId()).orElseThrow().getIsActive()).isTrue();
+    }
+
+    private List<BulkTenantOperationResultDto> bulk(TenantOperation... operations) {
+        return tenantController.bulkTenantOperations(new BulkTenantOperationRequest(List.of(operations))).getBody();
+    }
+
+    private static TenantOperation moveIn(Long roomId, String name) {
+        return TenantOperation.builder()
+                .type(TenantOperationType.MOVE_IN)
+                .roomId(roomId)
+                .tenant(newTenant(name))
+                .agreement(newAgreement())
+                .build();
+    }
+
+    private static TenantOperation swap(Long tenantId, String name) {
+        return TenantOperation.builder()
+                .type(TenantOperationType.SWAP)
+                .tenantId(tenantId)
+                .tenant(newTenant(name))
+                .agreement(newAgreement())
+                .build();
+    }
+
+    private static TenantDto newTenant(String name) {
+        TenantDto tenant = new TenantDto();
+        tenant.setFullName(name);
+        tenant.setPhone("9876543210");
+        return tenant;
+    }
+
+    private static RentAgreementDto newAgreement() {
+        RentAgreementDto agreement = new RentAgreementDto();
+        agreement.setMonthlyRentAmount(new BigDecimal("12000.00"));
+        agreement.setPaymentDueDay(5);
+        return agreement;
+    }
+}
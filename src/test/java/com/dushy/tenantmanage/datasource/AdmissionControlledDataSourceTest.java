@@ -0,0 +1,108 @@
+package com.dushy.tenantmanage.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Permit accounting of the admission limiter against a stub DataSource,
+ * read back through its in-use gauge.
+ */
+class AdmissionControlledDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void stubConnections() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    }
+
+    @Test
+    void releasesThePermitWhenTheConnectionIsClosed() throws SQLException {
+        AdmissionControlledDataSource dataSource = dataSource(2, 1000);
+
+        Connection connection = dataSource.getConnection();
+        assertThat(inUse()).isEqualTo(1);
+
+        connection.close();
+        assertThat(inUse()).isZero();
+    }
+
+    @Test
+    void releasesThePermitWhenTheTargetFails() throws SQLException {
+        AdmissionControlledDataSource dataSource = dataSource(1, 50);
+        when(target.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("connection refused");
+        assertThatThrownBy(dataSource::getConnection).hasMessage("connection refused");
+        assertThat(inUse()).isZero();
+    }
+
+    @Test
+    void closingTwiceReleasesOnce() throws SQLException {
+        AdmissionControlledDataSource dataSource = dataSource(2, 1000);
+
+        Connection connection = dataSource.getConnection();
+        Connection other = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(inUse()).isEqualTo(1);
+        other.close();
+        assertThat(inUse()).isZero();
+    }
+
+    @Test
+    void closeReachesTheTargetConnectionOnce() throws SQLException {
+        Connection pooled = mock(Connection.class);
+        when(target.getConnection()).thenReturn(pooled);
+        AdmissionControlledDataSource dataSource = dataSource(1, 1000);
+
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        verify(pooled, times(1)).close();
+    }
+
+    @Test
+    void timesOutWhenNoPermitIsFree() throws SQLException {
+        AdmissionControlledDataSource dataSource = dataSource(1, 50);
+        Connection held = dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("OLTP connection admission timed out after 50 ms");
+        assertThat(meterRegistry.get("datasource.admission.rejected").tag("workload", "oltp").counter().count())
+                .isEqualTo(1);
+        assertThat(inUse()).isEqualTo(1);
+
+        held.close();
+        dataSource.getConnection().close();
+        assertThat(inUse()).isZero();
+    }
+
+    private AdmissionControlledDataSource dataSource(int maxConcurrent, long acquireTimeoutMs) {
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(target, "test", maxConcurrent,
+                acquireTimeoutMs, maxConcurrent, acquireTimeoutMs);
+        dataSource.bindTo(meterRegistry);
+        return dataSource;
+    }
+
+    private double inUse() {
+        return meterRegistry.get("datasource.admission.in-use").gauge().value();
+    }
+}
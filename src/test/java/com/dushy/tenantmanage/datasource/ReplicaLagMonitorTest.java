@@ -0,0 +1,84 @@
+package com.dushy.tenantmanage.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * When the lag monitor lets reads go to the replica, with the lag query
+ * stubbed.
+ */
+class ReplicaLagMonitorTest {
+
+    private final JdbcTemplate replica = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void replicaIsNotUsedBeforeTheFirstCheck() {
+        assertThat(monitor(1000, 1000).isReplicaUsable()).isFalse();
+        assertThat(lagGauge()).isEqualTo(-1);
+    }
+
+    @Test
+    void replicaIsUsedUpToTheLagThreshold() {
+        ReplicaLagMonitor monitor = monitor(1000, 1000);
+
+        lag(0.0);
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+
+        lag(1000.0);
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+        assertThat(lagGauge()).isEqualTo(1000);
+
+        lag(1001.0);
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    void failedCheckFallsBackToThePrimary() {
+        ReplicaLagMonitor monitor = monitor(1000, 1000);
+        lag(0.0);
+        monitor.check();
+
+        when(replica.queryForObject(anyString(), eq(Double.class))).thenThrow(new QueryTimeoutException("timeout"));
+        monitor.check();
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(lagGauge()).isEqualTo(-1);
+    }
+
+    @Test
+    void staleCheckFallsBackToThePrimary() throws InterruptedException {
+        // Stale after max(3 * 5, 20) = 20 ms without a successful check
+        ReplicaLagMonitor monitor = monitor(20, 5);
+        lag(0.0);
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+
+        Thread.sleep(50);
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    private ReplicaLagMonitor monitor(long maxLagMs, long checkIntervalMs) {
+        return new ReplicaLagMonitor(replica, meterRegistry, maxLagMs, checkIntervalMs);
+    }
+
+    private void lag(Double lagMs) {
+        when(replica.queryForObject(anyString(), eq(Double.class))).thenReturn(lagMs);
+    }
+
+    private double lagGauge() {
+        return meterRegistry.get("datasource.replica.lag").gauge().value();
+    }
+}
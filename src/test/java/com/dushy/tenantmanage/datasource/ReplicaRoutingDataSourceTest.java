@@ -0,0 +1,133 @@
+package com.dushy.tenantmanage.datasource;
+
+import com.dushy.tenantmanage.datasource.ReplicaRoutingDataSource.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routing decisions for the transaction state set up by hand, with the lag
+ * monitor stubbed.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final long READ_YOUR_WRITES_MS = 200;
+
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(mock(DataSource.class),
+            mock(DataSource.class), lagMonitor, READ_YOUR_WRITES_MS, meterRegistry);
+
+    @BeforeEach
+    void replicaIsHealthy() {
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        endTransaction();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void withoutTransactionUsesThePrimary() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+    }
+
+    @Test
+    void routesByTheReadOnlyFlag() {
+        beginTransaction(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.REPLICA);
+        endTransaction();
+
+        beginTransaction(false);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+
+        assertThat(routed("replica", "read-only")).isEqualTo(1);
+        assertThat(routed("primary", "read-write")).isEqualTo(1);
+    }
+
+    @Test
+    void lagFallsBackToThePrimary() {
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+        beginTransaction(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+        assertThat(routed("primary", "replica-lag")).isEqualTo(1);
+    }
+
+    @Test
+    void readsStayOnThePrimaryForTheWriterUntilTheWindowEnds() throws InterruptedException {
+        signIn("owner@example.com");
+        beginTransaction(false);
+        routing.determineCurrentLookupKey();
+        commit();
+
+        beginTransaction(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+        assertThat(routed("primary", "recent-write")).isEqualTo(1);
+        endTransaction();
+
+        signIn("assistant@example.com");
+        beginTransaction(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.REPLICA);
+        endTransaction();
+
+        Thread.sleep(READ_YOUR_WRITES_MS + 50);
+        signIn("owner@example.com");
+        beginTransaction(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.REPLICA);
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinTheUser() {
+        signIn("owner@example.com");
+        beginTransaction(false);
+        routing.determineCurrentLookupKey();
+        endTransaction();
+
+        beginTransaction(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.REPLICA);
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        endTransaction();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private static void signIn(String email) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.get("datasource.routing").tags("target", target, "reason", reason).counter().count();
+    }
+}
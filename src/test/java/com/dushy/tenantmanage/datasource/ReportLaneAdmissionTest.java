@@ -0,0 +1,143 @@
+package com.dushy.tenantmanage.datasource;
+
+import com.dushy.tenantmanage.config.DataSourceAdmissionConfig;
+import com.dushy.tenantmanage.exception.GlobalExceptionHandler;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The report lane as the admission config sets it up for a five-connection
+ * pool: reports get all but two connections, OLTP keeps those two, and a
+ * refused request surfaces as a 503.
+ */
+class ReportLaneAdmissionTest {
+
+    private final List<Connection> held = new ArrayList<>();
+
+    @AfterEach
+    void release() throws SQLException {
+        Workload.clear();
+        for (Connection connection : held) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void reportsAreCappedAtPoolSizeMinusTwo() throws SQLException {
+        DataSource dataSource = admissionControlled(5);
+
+        Workload.set(Workload.REPORT);
+        for (int i = 0; i < 3; i++) {
+            held.add(dataSource.getConnection());
+        }
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("REPORT connection admission timed out");
+    }
+
+    @Test
+    void oltpKeepsItsReservedConnectionsWhileReportsAreSaturated() throws SQLException {
+        DataSource dataSource = admissionControlled(5);
+
+        Workload.set(Workload.REPORT);
+        for (int i = 0; i < 3; i++) {
+            held.add(dataSource.getConnection());
+        }
+        Workload.set(Workload.OLTP);
+        held.add(dataSource.getConnection());
+        held.add(dataSource.getConnection());
+
+        // The pool is now full, for OLTP as well
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("OLTP connection admission timed out");
+    }
+
+    @Test
+    void poolsTooSmallToReserveForOltpAreRejected() throws SQLException {
+        assertThatThrownBy(() -> admissionControlled(2, new MockEnvironment()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("allows 0 of 2 connections");
+        assertThatThrownBy(() -> admissionControlled(4, new MockEnvironment()
+                .withProperty("datasource.admission.report.max-concurrent", "4")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("allows 4 of 4 connections");
+
+        // An explicit limit may reserve a single connection
+        DataSource dataSource = admissionControlled(2, new MockEnvironment()
+                .withProperty("datasource.admission.report.max-concurrent", "1")
+                .withProperty("datasource.admission.report.acquire-timeout-ms", "50"));
+        Workload.set(Workload.REPORT);
+        held.add(dataSource.getConnection());
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("REPORT connection admission timed out");
+        Workload.set(Workload.OLTP);
+        held.add(dataSource.getConnection());
+    }
+
+    @Test
+    void admissionTimeoutIsReportedAsServiceUnavailable() throws SQLException {
+        DataSource dataSource = admissionControlled(3);
+        Workload.set(Workload.REPORT);
+        held.add(dataSource.getConnection());
+        SQLTransientConnectionException timeout =
+                catchThrowableOfType(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        ResponseEntity<Map<String, Object>> response = new GlobalExceptionHandler()
+                .handleConnectionUnavailable(new CannotCreateTransactionException("Could not open JPA EntityManager",
+                        new DataAccessResourceFailureException("Unable to acquire JDBC Connection", timeout)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody()).containsEntry("status", 503);
+    }
+
+    @Test
+    void otherConnectionFailuresAreRethrown() {
+        CannotCreateTransactionException refused = new CannotCreateTransactionException(
+                "Could not open JPA EntityManager", new SQLException("Connection refused", "08001"));
+
+        assertThatThrownBy(() -> new GlobalExceptionHandler().handleConnectionUnavailable(refused))
+                .isSameAs(refused);
+    }
+
+    private static DataSource admissionControlled(int poolSize) {
+        return admissionControlled(poolSize, new MockEnvironment()
+                .withProperty("datasource.admission.acquire-timeout-ms", "50")
+                .withProperty("datasource.admission.report.acquire-timeout-ms", "50"));
+    }
+
+    private static DataSource admissionControlled(int poolSize, MockEnvironment environment) {
+        HikariDataSource hikari = new HikariDataSource() {
+            @Override
+            public Connection getConnection() {
+                return mock(Connection.class);
+            }
+        };
+        hikari.setMaximumPoolSize(poolSize);
+        return (DataSource) DataSourceAdmissionConfig.dataSourceAdmissionPostProcessor(environment)
+                .postProcessAfterInitialization(hikari, "dataSource");
+    }
+}
@@ -0,0 +1,246 @@
+package com.dushy.tenantmanage.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Closed-loop load driver for a running instance. Logs in as the users written
+ * by {@link SyntheticPortfolioGenerator}, then has each worker repeatedly pick
+ * a user and an endpoint from a weighted mix modelled on the web client's
+ * screens, and reports throughput and p50/p99/p99.9 latency per endpoint.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java@load -Dloadtest.base-url=http://localhost:8080 \
+ *     -Dloadtest.concurrency=32 -Dloadtest.duration-seconds=120
+ * </pre>
+ */
+public final class LoadDriver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<Operation> mix = new ArrayList<>();
+    private final int totalWeight;
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final Histogram overall = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+
+    /**
+     * One endpoint of the mix. The path function picks concrete ids from the
+     * session so requests spread over the user's own data.
+     */
+    record Operation(String name, int weight, Function<Session, String> path) {
+    }
+
+    /**
+     * A logged-in user and the ids discovered for it at start-up.
+     */
+    record Session(String email, String token, List<Long> propertyIds, List<Long> tenantIds) {
+
+        long anyProperty() {
+            return propertyIds.get(ThreadLocalRandom.current().nextInt(propertyIds.size()));
+        }
+
+        long anyTenant() {
+            return tenantIds.get(ThreadLocalRandom.current().nextInt(tenantIds.size()));
+        }
+    }
+
+    private static final class Stats {
+        final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final AtomicLong errors = new AtomicLong();
+    }
+
+    LoadDriver(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        add("dashboard.summary", 20, s -> "/api/dashboard/summary");
+        add("dashboard.rentTrends", 8, s -> "/api/dashboard/analytics/rent?months=12");
+        add("dashboard.occupancyTrends", 4, s -> "/api/dashboard/analytics/occupancy?months=12");
+        add("dashboard.propertySummary", 6, s -> "/api/dashboard/summary/property/" + s.anyProperty());
+        add("properties.list", 10, s -> "/api/properties");
+        add("properties.tree", 6, s -> "/api/properties/" + s.anyProperty() + "/tree");
+        add("tenants.list", 12, s -> "/api/tenants");
+        add("tenants.get", 8, s -> "/api/tenants/" + s.anyTenant());
+        add("rent.search", 8, s -> "/api/rent/payments/search?startDate=" + month + "&endDate="
+                + month.plusMonths(1).minusDays(1) + "&propertyId=" + s.anyProperty());
+        add("rent.byTenant", 6, s -> "/api/rent/payments/tenant/" + s.anyTenant());
+        add("rent.due", 6, s -> "/api/rent/due/" + s.anyTenant());
+        add("rent.dueReport", 3, s -> "/api/rent/due/report");
+        add("rent.propertySummary", 3, s -> "/api/rent/summary/property/" + s.anyProperty());
+        totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+    }
+
+    private void add(String name, int weight, Function<Session, String> path) {
+        mix.add(new Operation(name, weight, path));
+        stats.put(name, new Stats());
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+        Path usersFile = Path.of(System.getProperty("loadtest.users", "target/loadtest/users.csv"));
+        int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+        int maxUsers = Integer.getInteger("loadtest.max-users", 50);
+        long warmupSeconds = Long.getLong("loadtest.warmup-seconds", 15L);
+        long durationSeconds = Long.getLong("loadtest.duration-seconds", 60L);
+
+        LoadDriver driver = new LoadDriver(baseUrl);
+        List<Session> sessions = driver.login(usersFile, maxUsers);
+        System.out.printf("Logged in %d users; warming up for %d s%n", sessions.size(), warmupSeconds);
+        driver.run(sessions, concurrency, warmupSeconds, false);
+        driver.reset();
+
+        System.out.printf("Measuring for %d s with %d workers%n", durationSeconds, concurrency);
+        long elapsedNanos = driver.run(sessions, concurrency, durationSeconds, true);
+        driver.report(elapsedNanos);
+    }
+
+    List<Session> login(Path usersFile, int maxUsers) throws IOException, InterruptedException {
+        List<Session> sessions = new ArrayList<>();
+        for (String line : Files.readAllLines(usersFile).stream().skip(1).limit(maxUsers).toList()) {
+            String[] fields = line.split(",");
+            String body = MAPPER.writeValueAsString(Map.of("email", fields[0], "password", fields[1]));
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed for " + fields[0] + ": " + response.statusCode());
+            }
+            String token = MAPPER.readTree(response.body()).get("token").asText();
+            List<Long> propertyIds = ids(get("/api/properties", token));
+            List<Long> tenantIds = ids(get("/api/tenants", token));
+            if (!propertyIds.isEmpty() && !tenantIds.isEmpty()) {
+                sessions.add(new Session(fields[0], token, propertyIds, tenantIds));
+            }
+        }
+        if (sessions.isEmpty()) {
+            throw new IllegalStateException("No usable users in " + usersFile + "; run the seed step first");
+        }
+        return sessions;
+    }
+
+    private JsonNode get(String path, String token) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(path, token), HttpResponse.BodyHandlers.ofString());
+        return MAPPER.readTree(response.body());
+    }
+
+    private static List<Long> ids(JsonNode array) {
+        List<Long> ids = new ArrayList<>();
+        array.forEach(node -> ids.add(node.get("id").asLong()));
+        return ids;
+    }
+
+    private HttpRequest request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    long run(List<Session> sessions, int concurrency, long seconds, boolean record) throws InterruptedException {
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Session session = sessions.get(random.nextInt(sessions.size()));
+                        execute(pick(random.nextInt(totalWeight)), session, record);
+                    }
+                });
+            }
+        }
+        return System.nanoTime() - started;
+    }
+
+    private Operation pick(int roll) {
+        for (Operation operation : mix) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private void execute(Operation operation, Session session, boolean record) {
+        Stats endpoint = stats.get(operation.name());
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request(operation.path().apply(session), session.token()),
+                    HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 400) {
+                endpoint.errors.incrementAndGet();
+            }
+        } catch (IOException e) {
+            endpoint.errors.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (record) {
+            long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), MAX_LATENCY_MICROS);
+            endpoint.latency.recordValue(micros);
+            overall.recordValue(micros);
+        }
+    }
+
+    private void reset() {
+        stats.values().forEach(s -> {
+            s.latency.reset();
+            s.errors.set(0);
+        });
+        overall.reset();
+    }
+
+    void report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%n%-28s %9s %9s %8s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Req/s", "Errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        stats.forEach((name, s) -> row(name, s.latency, s.errors.get(), seconds));
+        long errors = stats.values().stream().mapToLong(s -> s.errors.get()).sum();
+        row("TOTAL", overall, errors, seconds);
+    }
+
+    private static void row(String name, Histogram latency, long errors, double seconds) {
+        long count = latency.getTotalCount();
+        System.out.printf("%-28s %9d %9.1f %8d %9.2f %9.2f %9.2f %9.2f%n", name, count, count / seconds, errors,
+                millis(latency, 50), millis(latency, 99), millis(latency, 99.9),
+                latency.getMaxValue() / 1000.0);
+    }
+
+    private static double millis(Histogram latency, double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
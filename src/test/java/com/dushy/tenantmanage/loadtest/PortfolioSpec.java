@@ -0,0 +1,35 @@
+package com.dushy.tenantmanage.loadtest;
+
+/**
+ * Shape of the synthetic portfolio, read from loadtest.* system properties.
+ * The defaults produce a mid-sized landlord base: 20 owners x 5 properties x
+ * 4 floors x 8 rooms, about 3000 active tenants and three years of payments.
+ */
+record PortfolioSpec(
+        int owners,
+        int propertiesPerOwner,
+        int floorsPerProperty,
+        int roomsPerFloor,
+        int assistantsPerOwner,
+        double occupancy,
+        int historyYears,
+        double missedPaymentRate,
+        long seed) {
+
+    static PortfolioSpec fromSystemProperties() {
+        return new PortfolioSpec(
+                Integer.getInteger("loadtest.owners", 20),
+                Integer.getInteger("loadtest.properties-per-owner", 5),
+                Integer.getInteger("loadtest.floors-per-property", 4),
+                Integer.getInteger("loadtest.rooms-per-floor", 8),
+                Integer.getInteger("loadtest.assistants-per-owner", 2),
+                Double.parseDouble(System.getProperty("loadtest.occupancy", "0.85")),
+                Integer.getInteger("loadtest.history-years", 3),
+                Double.parseDouble(System.getProperty("loadtest.missed-payment-rate", "0.05")),
+                Long.getLong("loadtest.seed", 42L));
+    }
+
+    int roomsPerOwner() {
+        return propertiesPerOwner * floorsPerProperty * roomsPerFloor;
+    }
+}
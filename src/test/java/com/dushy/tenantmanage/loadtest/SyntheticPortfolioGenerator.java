@@ -0,0 +1,373 @@
+package com.dushy.tenantmanage.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds a synthetic portfolio into a local database migrated by the
+ * application (start it once so Flyway runs). Every owner gets properties,
+ * floors, rooms, tenants with agreements and payment history, and assistants
+ * with PropertyAccess grants. Rows are written with batched JDBC rather than
+ * through the services so large portfolios load in minutes.
+ *
+ * <p>Each run adds a new, independently named set of users, so it can be
+ * repeated against the same database. The logins are written to
+ * loadtest.users (default target/loadtest/users.csv) for {@link LoadDriver}.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java@seed -Dloadtest.db.url=jdbc:postgresql://localhost:5432/tenantmanage \
+ *     -Dloadtest.db.username=postgres -Dloadtest.db.password=postgres -Dloadtest.owners=50
+ * </pre>
+ */
+public final class SyntheticPortfolioGenerator {
+
+    static final String PASSWORD = "loadtest-password";
+
+    private static final int SEQUENCE_INCREMENT = 50; // allocationSize of the pooled entity sequences
+    private static final String[] CITIES = {"Pune", "Mumbai", "Bengaluru", "Hyderabad", "Chennai", "Delhi"};
+    private static final String[] PAYMENT_MODES = {"UPI", "UPI", "UPI", "BANK_TRANSFER", "CASH", "CHEQUE"};
+    private static final String[] ASSISTANT_PERMISSIONS = {"VIEW_PROPERTY", "MANAGE_TENANTS", "MANAGE_PAYMENTS"};
+
+    private final Connection connection;
+    private final PortfolioSpec spec;
+    private final Random random;
+    private final String runTag;
+    private final String passwordHash;
+    private final LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private final SequenceIds floorIds;
+    private final SequenceIds roomIds;
+    private final SequenceIds tenantIds;
+    private final SequenceIds agreementIds;
+
+    private final PreparedStatement insertUser;
+    private final PreparedStatement insertUserAssistant;
+    private final PreparedStatement insertProperty;
+    private final PreparedStatement insertFloor;
+    private final PreparedStatement insertRoom;
+    private final PreparedStatement insertTenant;
+    private final PreparedStatement insertAgreement;
+    private final PreparedStatement insertPayment;
+    private final PreparedStatement insertAccess;
+    private final PreparedStatement insertPermission;
+
+    private long tenantCount;
+    private long paymentCount;
+
+    SyntheticPortfolioGenerator(Connection connection, PortfolioSpec spec) throws SQLException {
+        this.connection = connection;
+        this.spec = spec;
+        this.random = new Random(spec.seed());
+        this.runTag = Long.toString(System.currentTimeMillis(), 36);
+        this.passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        floorIds = new SequenceIds("floors_seq");
+        roomIds = new SequenceIds("rooms_seq");
+        tenantIds = new SequenceIds("tenants_seq");
+        agreementIds = new SequenceIds("rent_agreements_seq");
+
+        insertUser = connection.prepareStatement(
+                "INSERT INTO users (email, password_hash, auth_provider, full_name, phone, user_type, is_active, "
+                        + "created_at, updated_at) VALUES (?, ?, 'LOCAL', ?, ?, ?, true, ?, ?) RETURNING id");
+        insertUserAssistant = connection.prepareStatement(
+                "INSERT INTO user_assistants (owner_id, assistant_id, is_active, created_at) VALUES (?, ?, true, ?)");
+        insertProperty = connection.prepareStatement(
+                "INSERT INTO properties (owner_id, name, address, city, state, postal_code, country, total_floors, "
+                        + "is_active, created_at, updated_at) VALUES (?, ?, ?, ?, 'MH', ?, 'India', ?, true, ?, ?) "
+                        + "RETURNING id");
+        insertFloor = connection.prepareStatement(
+                "INSERT INTO floors (id, property_id, floor_number, floor_name, is_active, created_at) "
+                        + "VALUES (?, ?, ?, ?, true, ?)");
+        insertRoom = connection.prepareStatement(
+                "INSERT INTO rooms (id, floor_id, property_id, room_number, room_type, size_sqft, is_occupied, "
+                        + "is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, true, ?, ?)");
+        insertTenant = connection.prepareStatement(
+                "INSERT INTO tenants (id, room_id, property_id, full_name, email, phone, id_proof_type, "
+                        + "id_proof_number, move_in_date, move_out_date, is_active, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, 'AADHAR', ?, ?, ?, ?, ?, ?)");
+        insertAgreement = connection.prepareStatement(
+                "INSERT INTO rent_agreements (id, tenant_id, monthly_rent_amount, security_deposit, start_date, "
+                        + "end_date, is_active, payment_due_day, created_at, created_by) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        insertPayment = connection.prepareStatement(
+                "INSERT INTO rent_payments (rent_agreement_id, tenant_id, property_id, amount_paid, payment_date, "
+                        + "payment_for_month, payment_mode, transaction_reference, recorded_by, recorded_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        insertAccess = connection.prepareStatement(
+                "INSERT INTO property_access (property_id, user_id, access_level, granted_by, granted_at, is_active) "
+                        + "VALUES (?, ?, 'WRITE', ?, ?, true) RETURNING id");
+        insertPermission = connection.prepareStatement(
+                "INSERT INTO property_access_permissions (property_access_id, permission) VALUES (?, ?)");
+    }
+
+    public static void main(String[] args) throws SQLException, IOException {
+        PortfolioSpec spec = PortfolioSpec.fromSystemProperties();
+        Path usersFile = Path.of(System.getProperty("loadtest.users", "target/loadtest/users.csv"));
+        String url = System.getProperty("loadtest.db.url", System.getenv("DB_URL_PROD"));
+        String username = System.getProperty("loadtest.db.username", System.getenv("DB_USERNAME_PROD"));
+        String password = System.getProperty("loadtest.db.password", System.getenv("DB_PASSWORD_PROD"));
+        if (url == null) {
+            throw new IllegalArgumentException("Set -Dloadtest.db.url or DB_URL_PROD");
+        }
+
+        long started = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+            new SyntheticPortfolioGenerator(connection, spec).generate(usersFile);
+        }
+        System.out.printf("Done in %d s%n", (System.nanoTime() - started) / 1_000_000_000L);
+    }
+
+    void generate(Path usersFile) throws SQLException, IOException {
+        Files.createDirectories(usersFile.toAbsolutePath().getParent());
+        try (PrintWriter users = new PrintWriter(Files.newBufferedWriter(usersFile))) {
+            users.println("email,password,role");
+            for (int o = 0; o < spec.owners(); o++) {
+                generateOwner(o, users);
+                connection.commit();
+                System.out.printf("Owner %d/%d: %d tenants, %d payments so far%n",
+                        o + 1, spec.owners(), tenantCount, paymentCount);
+            }
+        }
+        System.out.printf("Seeded %d owners, %d rooms, %d tenants, %d payments; logins in %s%n",
+                spec.owners(), (long) spec.owners() * spec.roomsPerOwner(), tenantCount, paymentCount, usersFile);
+    }
+
+    private void generateOwner(int ownerIndex, PrintWriter users) throws SQLException {
+        String ownerEmail = email("owner", ownerIndex);
+        long ownerId = insertUser(ownerEmail, "Owner " + ownerIndex, "OWNER");
+        users.println(ownerEmail + "," + PASSWORD + ",OWNER");
+
+        List<Long> assistantIds = new ArrayList<>();
+        for (int a = 0; a < spec.assistantsPerOwner(); a++) {
+            String assistantEmail = email("assistant", ownerIndex * 100 + a);
+            long assistantId = insertUser(assistantEmail, "Assistant " + ownerIndex + "-" + a, "ASSISTANT");
+            assistantIds.add(assistantId);
+            insertUserAssistant.setLong(1, ownerId);
+            insertUserAssistant.setLong(2, assistantId);
+            insertUserAssistant.setTimestamp(3, Timestamp.valueOf(now));
+            insertUserAssistant.addBatch();
+            users.println(assistantEmail + "," + PASSWORD + ",ASSISTANT");
+        }
+        insertUserAssistant.executeBatch();
+
+        for (int p = 0; p < spec.propertiesPerOwner(); p++) {
+            long propertyId = generateProperty(ownerId, ownerIndex, p);
+            // Each assistant manages roughly half of the owner's properties
+            for (int a = 0; a < assistantIds.size(); a++) {
+                if ((p + a) % 2 == 0) {
+                    grantAccess(propertyId, assistantIds.get(a), ownerId);
+                }
+            }
+        }
+    }
+
+    private long generateProperty(long ownerId, int ownerIndex, int propertyIndex) throws SQLException {
+        String city = CITIES[random.nextInt(CITIES.length)];
+        insertProperty.setLong(1, ownerId);
+        insertProperty.setString(2, "Residency " + ownerIndex + "-" + propertyIndex);
+        insertProperty.setString(3, (propertyIndex + 1) + " Synthetic Road");
+        insertProperty.setString(4, city);
+        insertProperty.setString(5, String.valueOf(400001 + random.nextInt(99999)));
+        insertProperty.setInt(6, spec.floorsPerProperty());
+        insertProperty.setTimestamp(7, Timestamp.valueOf(now));
+        insertProperty.setTimestamp(8, Timestamp.valueOf(now));
+        long propertyId = returningId(insertProperty);
+
+        for (int f = 0; f < spec.floorsPerProperty(); f++) {
+            long floorId = floorIds.next();
+            insertFloor.setLong(1, floorId);
+            insertFloor.setLong(2, propertyId);
+            insertFloor.setInt(3, f);
+            insertFloor.setString(4, f == 0 ? "Ground" : "Floor " + f);
+            insertFloor.setTimestamp(5, Timestamp.valueOf(now));
+            insertFloor.addBatch();
+
+            for (int r = 0; r < spec.roomsPerFloor(); r++) {
+                long roomId = roomIds.next();
+                boolean occupied = random.nextDouble() < spec.occupancy();
+                insertRoom.setLong(1, roomId);
+                insertRoom.setLong(2, floorId);
+                insertRoom.setLong(3, propertyId);
+                insertRoom.setString(4, String.format("%d%02d", f, r + 1));
+                insertRoom.setString(5, r % 4 == 0 ? "DOUBLE" : "SINGLE");
+                insertRoom.setBigDecimal(6, BigDecimal.valueOf(120 + random.nextInt(180)));
+                insertRoom.setBoolean(7, occupied);
+                insertRoom.setTimestamp(8, Timestamp.valueOf(now));
+                insertRoom.setTimestamp(9, Timestamp.valueOf(now));
+                insertRoom.addBatch();
+                generateOccupancy(ownerId, propertyId, roomId, occupied);
+            }
+        }
+
+        // Dependency order: floors, rooms, tenants, agreements, payments
+        insertFloor.executeBatch();
+        insertRoom.executeBatch();
+        insertTenant.executeBatch();
+        insertAgreement.executeBatch();
+        insertPayment.executeBatch();
+        return propertyId;
+    }
+
+    /**
+     * History of one room: optionally a previous tenant who moved out, then
+     * the current tenant when the room is occupied.
+     */
+    private void generateOccupancy(long ownerId, long propertyId, long roomId, boolean occupied) throws SQLException {
+        LocalDate historyStart = currentMonth.minusYears(spec.historyYears());
+        int historyMonths = (int) ChronoUnit.MONTHS.between(historyStart, currentMonth);
+        LocalDate currentMoveIn = currentMonth.minusMonths(random.nextInt(historyMonths + 1))
+                .plusDays(random.nextInt(28));
+
+        LocalDate previousMoveOut = occupied ? currentMoveIn.minusDays(1) : currentMonth.minusMonths(random.nextInt(3))
+                .minusDays(1);
+        if (ChronoUnit.MONTHS.between(historyStart, previousMoveOut) >= 3 && random.nextBoolean()) {
+            generateTenancy(ownerId, propertyId, roomId, historyStart.plusDays(random.nextInt(28)), previousMoveOut);
+        }
+        if (occupied) {
+            generateTenancy(ownerId, propertyId, roomId, currentMoveIn, null);
+        }
+    }
+
+    private void generateTenancy(long ownerId, long propertyId, long roomId, LocalDate moveIn, LocalDate moveOut)
+            throws SQLException {
+        long tenantId = tenantIds.next();
+        boolean active = moveOut == null;
+        insertTenant.setLong(1, tenantId);
+        insertTenant.setLong(2, roomId);
+        insertTenant.setLong(3, propertyId);
+        insertTenant.setString(4, "Tenant " + tenantId);
+        insertTenant.setString(5, "tenant" + tenantId + "." + runTag + "@loadtest.local");
+        insertTenant.setString(6, String.format("9%09d", tenantId % 1_000_000_000L));
+        insertTenant.setString(7, String.format("%012d", tenantId));
+        insertTenant.setDate(8, Date.valueOf(moveIn));
+        insertTenant.setDate(9, active ? null : Date.valueOf(moveOut));
+        insertTenant.setBoolean(10, active);
+        insertTenant.setTimestamp(11, Timestamp.valueOf(moveIn.atStartOfDay()));
+        insertTenant.setTimestamp(12, Timestamp.valueOf(now));
+        insertTenant.addBatch();
+        tenantCount++;
+
+        long agreementId = agreementIds.next();
+        BigDecimal rent = BigDecimal.valueOf(6000 + 500L * random.nextInt(17));
+        int dueDay = 1 + random.nextInt(10);
+        insertAgreement.setLong(1, agreementId);
+        insertAgreement.setLong(2, tenantId);
+        insertAgreement.setBigDecimal(3, rent);
+        insertAgreement.setBigDecimal(4, rent.multiply(BigDecimal.TWO));
+        insertAgreement.setDate(5, Date.valueOf(moveIn));
+        insertAgreement.setDate(6, active ? null : Date.valueOf(moveOut));
+        insertAgreement.setBoolean(7, active);
+        insertAgreement.setInt(8, dueDay);
+        insertAgreement.setTimestamp(9, Timestamp.valueOf(moveIn.atStartOfDay()));
+        insertAgreement.setLong(10, ownerId);
+        insertAgreement.addBatch();
+
+        LocalDate lastMonth = active ? currentMonth : moveOut.withDayOfMonth(1);
+        for (LocalDate month = moveIn.withDayOfMonth(1); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            if (random.nextDouble() < spec.missedPaymentRate()) {
+                continue;
+            }
+            LocalDate paidOn = month.plusDays(dueDay - 1L + random.nextInt(7));
+            if (paidOn.isAfter(LocalDate.now())) {
+                continue;
+            }
+            // A few partial payments so due-rent reports have something to show
+            BigDecimal amount = random.nextInt(20) == 0 ? rent.divide(BigDecimal.TWO) : rent;
+            insertPayment.setLong(1, agreementId);
+            insertPayment.setLong(2, tenantId);
+            insertPayment.setLong(3, propertyId);
+            insertPayment.setBigDecimal(4, amount);
+            insertPayment.setDate(5, Date.valueOf(paidOn));
+            insertPayment.setDate(6, Date.valueOf(month));
+            insertPayment.setString(7, PAYMENT_MODES[random.nextInt(PAYMENT_MODES.length)]);
+            insertPayment.setString(8, "LT-" + agreementId + "-" + month);
+            insertPayment.setLong(9, ownerId);
+            insertPayment.setTimestamp(10, Timestamp.valueOf(paidOn.atTime(10, 0)));
+            insertPayment.addBatch();
+            paymentCount++;
+        }
+    }
+
+    private void grantAccess(long propertyId, long assistantId, long ownerId) throws SQLException {
+        insertAccess.setLong(1, propertyId);
+        insertAccess.setLong(2, assistantId);
+        insertAccess.setLong(3, ownerId);
+        insertAccess.setTimestamp(4, Timestamp.valueOf(now));
+        long accessId = returningId(insertAccess);
+        for (String permission : ASSISTANT_PERMISSIONS) {
+            insertPermission.setLong(1, accessId);
+            insertPermission.setString(2, permission);
+            insertPermission.addBatch();
+        }
+        insertPermission.executeBatch();
+    }
+
+    private long insertUser(String email, String fullName, String userType) throws SQLException {
+        insertUser.setString(1, email);
+        insertUser.setString(2, passwordHash);
+        insertUser.setString(3, fullName);
+        insertUser.setString(4, String.format("8%09d", random.nextInt(1_000_000_000)));
+        insertUser.setString(5, userType);
+        insertUser.setTimestamp(6, Timestamp.valueOf(now));
+        insertUser.setTimestamp(7, Timestamp.valueOf(now));
+        return returningId(insertUser);
+    }
+
+    private String email(String role, int index) {
+        return role + index + "." + runTag + "@loadtest.local";
+    }
+
+    private static long returningId(PreparedStatement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * Hands out ids the way Hibernate's pooled optimizer does: each nextval is
+     * the top of a block of {@link #SEQUENCE_INCREMENT} ids. The application
+     * can keep inserting through the same sequences without collisions.
+     */
+    private final class SequenceIds {
+
+        private final String sequence;
+        private long next = 1;
+        private long last = 0;
+
+        SequenceIds(String sequence) {
+            this.sequence = sequence;
+        }
+
+        long next() throws SQLException {
+            if (next > last) {
+                try (PreparedStatement statement = connection.prepareStatement("SELECT nextval(?)")) {
+                    statement.setString(1, sequence);
+                    last = returningId(statement);
+                }
+                next = Math.max(1, last - SEQUENCE_INCREMENT + 1);
+            }
+            return next++;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.dushy.tenantmanage.migration;
+
+import com.dushy.tenantmanage.PostgresTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EXPLAINs the repository access patterns V4 added indexes for and checks
+ * each is planned as an index or bitmap scan. Sequential scans are switched
+ * off for the test transaction, since on near-empty tables the planner would
+ * rightly prefer them; what is checked is that a matching index exists and
+ * the predicate can use it. Where an older index serves the same lookup it
+ * is accepted too.
+ */
+@Transactional
+class AccessPatternIndexTest extends PostgresTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> accessPatterns() {
+        return Stream.of(
+                Arguments.of("SELECT SUM(amount_paid) FROM rent_payments "
+                        + "WHERE tenant_id = 1 AND payment_for_month = DATE '2025-01-01'",
+                        List.of("idx_rent_payments_tenant_month")),
+                Arguments.of("SELECT * FROM rent_payments WHERE tenant_id = 1",
+                        List.of("idx_rent_payments_tenant_month")),
+                Arguments.of("SELECT * FROM rent_payments "
+                        + "WHERE payment_date BETWEEN DATE '2025-01-01' AND DATE '2025-01-31'",
+                        List.of("idx_rent_payments_payment_date")),
+                Arguments.of("SELECT * FROM rent_payments WHERE payment_for_month = DATE '2025-01-01'",
+                        List.of("idx_rent_payments_payment_for_month")),
+                Arguments.of("SELECT * FROM rent_payments WHERE rent_agreement_id = 1",
+                        List.of("idx_rent_payments_agreement")),
+                Arguments.of("SELECT * FROM tenants WHERE room_id = 1 AND is_active = true",
+                        List.of("idx_tenants_room_active", "idx_tenants_room_move_in")),
+                Arguments.of("SELECT * FROM tenants WHERE room_id = 1 ORDER BY move_in_date DESC",
+                        List.of("idx_tenants_room_move_in")),
+                Arguments.of("SELECT * FROM tenants WHERE phone = '9000000001'",
+                        List.of("idx_tenants_phone")),
+                Arguments.of("SELECT * FROM property_access WHERE user_id = 1 AND is_active = true",
+                        List.of("idx_property_access_user_active")),
+                Arguments.of("SELECT * FROM property_access WHERE property_id = 1 AND is_active = true",
+                        List.of("idx_property_access_property_active", "property_access_property_id_user_id_key")),
+                Arguments.of("SELECT * FROM rent_agreements WHERE tenant_id = 1 AND is_active = true",
+                        List.of("idx_rent_agreements_tenant_active")),
+                Arguments.of("SELECT * FROM rent_agreements "
+                        + "WHERE end_date BETWEEN DATE '2025-01-01' AND DATE '2025-03-31'",
+                        List.of("idx_rent_agreements_end_date")),
+                Arguments.of("SELECT * FROM properties WHERE owner_id = 1 ORDER BY name",
+                        List.of("idx_properties_owner_name")),
+                Arguments.of("SELECT * FROM property_access_permissions WHERE property_access_id = 1",
+                        List.of("idx_property_access_permissions_access")));
+    }
+
+    @BeforeEach
+    void disableSequentialScans() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("accessPatterns")
+    void usesAnIndex(String sql, List<String> indexes) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+        assertThat(plan).as(plan).doesNotContain("Seq Scan");
+        // Index Scan [Backward] / Index Only Scan "using <index> on <table>", Bitmap Index Scan "on <index>"
+        assertThat(indexes).as(plan).anyMatch(index -> plan.contains(" using " + index + " ")
+                || plan.contains("Bitmap Index Scan on " + index + " "));
+    }
+}
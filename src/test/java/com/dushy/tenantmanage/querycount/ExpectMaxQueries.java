@@ -0,0 +1,31 @@
+package com.dushy.tenantmanage.querycount;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Upper bound on the SQL statements issued by the measured call of a test.
+ * The test must run its call through {@link QueryCountTestSupport#measured}.
+ * For parameterized tests over fixture sizes the count must also stay the
+ * same as the size grows, which is what catches N+1 regressions.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface ExpectMaxQueries {
+
+    /**
+     * Maximum number of statements at any fixture size.
+     */
+    int value();
+
+    /**
+     * Whether the count may grow with the fixture size. Leave false unless the
+     * method is expected to issue one statement per row (e.g. batched writes).
+     */
+    boolean scalesWithData() default false;
+}
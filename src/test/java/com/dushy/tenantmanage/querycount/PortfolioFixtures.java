@@ -0,0 +1,146 @@
+package com.dushy.tenantmanage.querycount;
+
+import com.dushy.tenantmanage.entity.Floor;
+import com.dushy.tenantmanage.entity.Properties;
+import com.dushy.tenantmanage.entity.RentAgreement;
+import com.dushy.tenantmanage.entity.RentPayment;
+import com.dushy.tenantmanage.entity.Room;
+import com.dushy.tenantmanage.entity.Tenant;
+import com.dushy.tenantmanage.entity.User;
+import com.dushy.tenantmanage.enums.PaymentMethod;
+import com.dushy.tenantmanage.enums.RoomType;
+import com.dushy.tenantmanage.enums.UserType;
+import com.dushy.tenantmanage.repository.FloorRepository;
+import com.dushy.tenantmanage.repository.PropertiesRepository;
+import com.dushy.tenantmanage.repository.RentAgreementRepository;
+import com.dushy.tenantmanage.repository.RentPaymentRepository;
+import com.dushy.tenantmanage.repository.RoomRepository;
+import com.dushy.tenantmanage.repository.TenantRepository;
+import com.dushy.tenantmanage.repository.UserRepository;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeds a synthetic portfolio for query-count tests: one owner with N
+ * properties, each with 2 floors of 3 rooms. Two rooms per floor are let,
+ * and each tenant has an active agreement and a payment for this month.
+ */
+@TestComponent
+public class PortfolioFixtures {
+
+    static final int FLOORS_PER_PROPERTY = 2;
+    static final int ROOMS_PER_FLOOR = 3;
+
+    private final UserRepository userRepository;
+    private final PropertiesRepository propertiesRepository;
+    private final FloorRepository floorRepository;
+    private final RoomRepository roomRepository;
+    private final TenantRepository tenantRepository;
+    private final RentAgreementRepository rentAgreementRepository;
+    private final RentPaymentRepository rentPaymentRepository;
+
+    public PortfolioFixtures(UserRepository userRepository,
+            PropertiesRepository propertiesRepository,
+            FloorRepository floorRepository,
+            RoomRepository roomRepository,
+            TenantRepository tenantRepository,
+            RentAgreementRepository rentAgreementRepository,
+            RentPaymentRepository rentPaymentRepository) {
+        this.userRepository = userRepository;
+        this.propertiesRepository = propertiesRepository;
+        this.floorRepository = floorRepository;
+        this.roomRepository = roomRepository;
+        this.tenantRepository = tenantRepository;
+        this.rentAgreementRepository = rentAgreementRepository;
+        this.rentPaymentRepository = rentPaymentRepository;
+    }
+
+    public record Portfolio(User owner, List<Properties> properties, List<Tenant> tenants) {
+    }
+
+    public Portfolio portfolio(int propertyCount) {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        User owner = userRepository.save(User.builder()
+                .email("owner-" + UUID.randomUUID() + "@example.com")
+                .fullName("Fixture Owner")
+                .userType(UserType.OWNER)
+                .isActive(true)
+                .build());
+
+        List<Properties> properties = new ArrayList<>();
+        List<Tenant> tenants = new ArrayList<>();
+        for (int p = 0; p < propertyCount; p++) {
+            Properties property = propertiesRepository.save(Properties.builder()
+                    .owner(owner)
+                    .name("Property " + p)
+                    .address(p + " Fixture Road")
+                    .city("Pune")
+                    .state("MH")
+                    .postalCode("411001")
+                    .country("India")
+                    .totalFloors(FLOORS_PER_PROPERTY)
+                    .isActive(true)
+                    .build());
+            properties.add(property);
+
+            for (int f = 0; f < FLOORS_PER_PROPERTY; f++) {
+                Floor floor = floorRepository.save(Floor.builder()
+                        .property(property)
+                        .floorNumber(f)
+                        .isActive(true)
+                        .build());
+
+                for (int r = 0; r < ROOMS_PER_FLOOR; r++) {
+                    boolean let = r < ROOMS_PER_FLOOR - 1;
+                    Room room = roomRepository.save(Room.builder()
+                            .floor(floor)
+                            .propertyId(property.getId())
+                            .roomNumber(f + "0" + r)
+                            .roomType(RoomType.SINGLE)
+                            .isOccupied(let)
+                            .isActive(true)
+                            .build());
+                    if (let) {
+                        tenants.add(letRoom(room, owner, currentMonth));
+                    }
+                }
+            }
+        }
+        return new Portfolio(owner, properties, tenants);
+    }
+
+    private Tenant letRoom(Room room, User owner, LocalDate currentMonth) {
+        Tenant tenant = tenantRepository.save(Tenant.builder()
+                .room(room)
+                .propertyId(room.getPropertyId())
+                .fullName("Tenant " + room.getId())
+                .phone("9" + String.format("%09d", room.getId()))
+                .moveInDate(currentMonth.minusMonths(3))
+                .isActive(true)
+                .build());
+        RentAgreement agreement = rentAgreementRepository.save(RentAgreement.builder()
+                .tenant(tenant)
+                .monthlyRentAmount(new BigDecimal("10000.00"))
+                .startDate(currentMonth.minusMonths(3))
+                .paymentDueDay(5)
+                .isActive(true)
+                .createdBy(owner)
+                .build());
+        rentPaymentRepository.save(RentPayment.builder()
+                .rentAgreement(agreement)
+                .tenant(tenant)
+                .propertyId(room.getPropertyId())
+                .amountPaid(new BigDecimal("10000.00"))
+                .paymentDate(currentMonth.plusDays(2))
+                .paymentForMonth(currentMonth)
+                .paymentMode(PaymentMethod.UPI)
+                .recordedBy(owner)
+                .build());
+        return tenant;
+    }
+}
@@ -0,0 +1,64 @@
+package com.dushy.tenantmanage.querycount;
+
+import com.dushy.tenantmanage.monitoring.RequestQueryContext;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Checks {@link ExpectMaxQueries} after each test invocation. The first
+ * invocation of a parameterized test is kept as the baseline; later (larger)
+ * fixture sizes fail if they issue more statements than it did.
+ */
+public class QueryCountExtension implements AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(QueryCountExtension.class);
+
+    private static final ThreadLocal<Measurement> LAST_MEASUREMENT = new ThreadLocal<>();
+
+    record Measurement(int fixtureSize, RequestQueryContext queries) {
+    }
+
+    static void record(int fixtureSize, RequestQueryContext queries) {
+        LAST_MEASUREMENT.set(new Measurement(fixtureSize, queries));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Measurement measurement = LAST_MEASUREMENT.get();
+        LAST_MEASUREMENT.remove();
+
+        ExpectMaxQueries expected = context.getRequiredTestMethod().getAnnotation(ExpectMaxQueries.class);
+        if (expected == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        if (measurement == null) {
+            fail("@ExpectMaxQueries test did not run its call through measured()");
+        }
+
+        int count = measurement.queries().getCount();
+        if (count > expected.value()) {
+            fail(String.format("Expected at most %d queries but %d were issued at fixture size %d:%n  %s",
+                    expected.value(), count, measurement.fixtureSize(), statements(measurement)));
+        }
+
+        if (!expected.scalesWithData()) {
+            // Parent is the parameterized test container, shared by all its invocations
+            ExtensionContext.Store store = context.getParent().orElse(context).getStore(NAMESPACE);
+            Measurement baseline = store.getOrComputeIfAbsent(
+                    context.getRequiredTestMethod(), method -> measurement, Measurement.class);
+            int baselineCount = baseline.queries().getCount();
+            if (count > baselineCount) {
+                fail(String.format("Query count grows with data: %d queries at fixture size %d, %d at size %d:%n  %s",
+                        baselineCount, baseline.fixtureSize(), count, measurement.fixtureSize(),
+                        statements(measurement)));
+            }
+        }
+    }
+
+    private static String statements(Measurement measurement) {
+        return String.join(System.lineSeparator() + "  ", measurement.queries().getStatements());
+    }
+}
@@ -0,0 +1,118 @@
+package com.dushy.tenantmanage.querycount;
+
+import com.dushy.tenantmanage.dto.RentPaymentResponseDto;
+import com.dushy.tenantmanage.entity.Properties;
+import com.dushy.tenantmanage.service.DashboardService;
+import com.dushy.tenantmanage.service.PropertyService;
+import com.dushy.tenantmanage.service.RentService;
+import com.dushy.tenantmanage.service.TenantService;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Guards the read paths that used to issue one query per property, tenant or
+ * payment. Each test runs at every fixture size and fails if the statement
+ * count grows with it.
+ */
+class QueryCountRegressionTest extends QueryCountTestSupport {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TenantService tenantService;
+
+    @Autowired
+    private RentService rentService;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @ParameterizedTest(name = "{0} properties")
+    @MethodSource("fixtureSizes")
+    @ExpectMaxQueries(6)
+    void dashboardSummary(int size) {
+        PortfolioFixtures.Portfolio portfolio = seed(size);
+
+        var summary = measured(() -> dashboardService.getDashboardSummary(portfolio.owner().getId()));
+
+        assertEquals(size, summary.getTotalProperties());
+    }
+
+    @ParameterizedTest(name = "{0} properties")
+    @MethodSource("fixtureSizes")
+    @ExpectMaxQueries(2)
+    void rentTrends(int size) {
+        PortfolioFixtures.Portfolio portfolio = seed(size);
+
+        measured(() -> dashboardService.getRentTrendsForUser(portfolio.owner().getId(), 6));
+    }
+
+    @ParameterizedTest(name = "{0} properties")
+    @MethodSource("fixtureSizes")
+    @ExpectMaxQueries(3)
+    void tenantResponseDtos(int size) {
+        PortfolioFixtures.Portfolio portfolio = seed(size);
+
+        var dtos = measured(() -> tenantService.getActiveTenants());
+
+        assertEquals(portfolio.tenants().size(), dtos.size());
+    }
+
+    @ParameterizedTest(name = "{0} properties")
+    @MethodSource("fixtureSizes")
+    @ExpectMaxQueries(1)
+    void paymentSearch(int size) {
+        PortfolioFixtures.Portfolio portfolio = seed(size);
+        LocalDate today = LocalDate.now();
+
+        List<Long> propertyIds = portfolio.properties().stream().map(Properties::getId).toList();
+
+        List<RentPaymentResponseDto> payments = new ArrayList<>();
+        measured(() -> {
+            rentService.streamPaymentsWithFilters(today.withDayOfMonth(1), today.withDayOfMonth(1).plusMonths(1),
+                    propertyIds, null, payments::add);
+            return payments;
+        });
+
+        assertEquals(portfolio.tenants().size(), payments.size());
+    }
+
+    @ParameterizedTest(name = "{0} properties")
+    @MethodSource("fixtureSizes")
+    @ExpectMaxQueries(1)
+    void paymentSearchByProperty(int size) {
+        PortfolioFixtures.Portfolio portfolio = seed(size);
+        LocalDate today = LocalDate.now();
+        Long propertyId = portfolio.properties().get(0).getId();
+
+        List<RentPaymentResponseDto> payments = new ArrayList<>();
+        measured(() -> {
+            rentService.streamPaymentsWithFilters(today.withDayOfMonth(1), today.withDayOfMonth(1).plusMonths(1),
+                    List.of(propertyId), null, payments::add);
+            return payments;
+        });
+
+        assertEquals(portfolio.tenants().stream().filter(t -> propertyId.equals(t.getPropertyId())).count(),
+                payments.size());
+    }
+
+    @ParameterizedTest(name = "{0} properties")
+    @MethodSource("fixtureSizes")
+    @ExpectMaxQueries(4)
+    void propertyTree(int size) {
+        PortfolioFixtures.Portfolio portfolio = seed(size);
+        Long propertyId = portfolio.properties().get(0).getId();
+
+        var tree = measured(() -> propertyService.getPropertyTree(propertyId, true, true));
+
+        assertEquals(PortfolioFixtures.FLOORS_PER_PROPERTY, tree.getFloors().size());
+    }
+}
@@ -0,0 +1,57 @@
+package com.dushy.tenantmanage.querycount;
+
+import com.dushy.tenantmanage.PostgresTestSupport;
+import com.dushy.tenantmanage.monitoring.RequestQueryContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Base class for query-count regression tests.
+ * Runs the application against a throwaway Postgres (migrated by Flyway) and
+ * rolls back each test. Fixture sizes come from the querycount.sizes system
+ * property, e.g. -Dquerycount.sizes=2,10,50 (default 2,8).
+ */
+@Transactional
+public abstract class QueryCountTestSupport extends PostgresTestSupport {
+
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    private int fixtureSize;
+
+    static IntStream fixtureSizes() {
+        return Arrays.stream(System.getProperty("querycount.sizes", "2,8").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt);
+    }
+
+    /**
+     * Seed a portfolio of the given number of properties for the current test.
+     */
+    protected PortfolioFixtures.Portfolio seed(int size) {
+        fixtureSize = size;
+        return fixtures.portfolio(size);
+    }
+
+    /**
+     * Run the call under test and count the statements it issues. The
+     * persistence context is flushed and cleared first, so nothing seeded by
+     * the test is served from the first-level cache.
+     */
+    protected <T> T measured(Supplier<T> call) {
+        entityManager.flush();
+        entityManager.clear();
+        RequestQueryContext queries = RequestQueryContext.start();
+        try {
+            return call.get();
+        } finally {
+            RequestQueryContext.clear();
+            QueryCountExtension.record(fixtureSize, queries);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.dushy.tenantmanage.web;
+
+import com.dushy.tenantmanage.cache.DashboardCache;
+import com.dushy.tenantmanage.cache.DashboardSummaryRefreshed;
+import com.dushy.tenantmanage.dto.DashboardSummaryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Live dashboard streams served through MockMvc, reading the event text as
+ * it is written. Heartbeats are pushed out of the way so only summaries and
+ * deltas appear.
+ */
+class DashboardEventStreamTest {
+
+    private static final long COALESCE_MS = 300;
+    private static final long OWNER = 1L;
+
+    private final DashboardCache dashboardCache = mock(DashboardCache.class);
+    private final DashboardEventStream stream = new DashboardEventStream(dashboardCache, 60_000, COALESCE_MS,
+            3_600_000, 3000, 2);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(stream)).build();
+
+    @RestController
+    record StreamController(DashboardEventStream stream) {
+
+        @GetMapping(path = "/stream/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        SseEmitter subscribe(@PathVariable Long userId) {
+            return stream.subscribe(userId);
+        }
+    }
+
+    @AfterEach
+    void shutDown() {
+        stream.destroy();
+    }
+
+    @Test
+    void deltaHasOnlyTheChangedFigures() {
+        DashboardSummaryDto before = summary(6, 4, new BigDecimal("40000"));
+        DashboardSummaryDto after = summary(7, 4, new BigDecimal("40000.00"));
+
+        Map<String, Object> delta = DashboardEventStream.delta(before, after);
+
+        // Rent totals compare by value, so a different scale is not a change
+        assertThat(delta).containsOnly(Map.entry("totalRooms", 7), Map.entry("vacantRooms", 3),
+                Map.entry("occupancyRate", 4 / 7.0));
+        assertThat(DashboardEventStream.delta(before, before)).isEmpty();
+    }
+
+    @Test
+    void sendsTheSummaryFirstAndThenOneDeltaPerCoalescingWindow() throws Exception {
+        when(dashboardCache.getDashboardSummary(OWNER)).thenReturn(summary(6, 4, new BigDecimal("40000")));
+        MvcResult result = open(OWNER);
+        await().atMost(Duration.ofSeconds(5)).until(() -> content(result).contains("event:summary"));
+
+        stream.summaryRefreshed(new DashboardSummaryRefreshed(OWNER, summary(6, 5, new BigDecimal("40000"))));
+        stream.summaryRefreshed(new DashboardSummaryRefreshed(OWNER, summary(6, 6, new BigDecimal("40000"))));
+        stream.summaryRefreshed(new DashboardSummaryRefreshed(OWNER, summary(6, 6, new BigDecimal("50000"))));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> content(result).contains("event:delta"));
+        Thread.sleep(2 * COALESCE_MS);
+        String events = content(result);
+        assertThat(events.split("event:delta", -1)).hasSize(2);
+        // Measured against what the client has, so the intermediate state is folded in
+        assertThat(events).contains("\"occupiedRooms\":6").contains("\"totalRentExpected\":50000")
+                .doesNotContain("\"occupiedRooms\":5");
+    }
+
+    @Test
+    void unchangedRefreshSendsNothing() throws Exception {
+        when(dashboardCache.getDashboardSummary(OWNER)).thenReturn(summary(6, 4, new BigDecimal("40000")));
+        MvcResult result = open(OWNER);
+        await().atMost(Duration.ofSeconds(5)).until(() -> content(result).contains("event:summary"));
+
+        stream.summaryRefreshed(new DashboardSummaryRefreshed(OWNER, summary(6, 4, new BigDecimal("40000.00"))));
+        Thread.sleep(3 * COALESCE_MS);
+
+        assertThat(content(result)).doesNotContain("event:delta");
+    }
+
+    @Test
+    void closesTheOldestStreamBeyondThePerUserCap() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        stream.bindTo(meterRegistry);
+        when(dashboardCache.getDashboardSummary(anyLong())).thenReturn(summary(6, 4, new BigDecimal("40000")));
+        MvcResult oldest = open(OWNER);
+        MvcResult second = open(OWNER);
+        MvcResult newest = open(OWNER);
+        MvcResult otherUser = open(2L);
+
+        assertThat(meterRegistry.get("dashboard.stream.connections").gauge().value()).isEqualTo(3);
+        // A refresh that beats the first send would go out as the summary instead of a delta
+        await().atMost(Duration.ofSeconds(5)).until(() -> content(second).contains("event:summary")
+                && content(newest).contains("event:summary"));
+        stream.summaryRefreshed(new DashboardSummaryRefreshed(OWNER, summary(6, 5, new BigDecimal("40000"))));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> content(second).contains("event:delta")
+                && content(newest).contains("event:delta"));
+        assertThat(content(oldest)).doesNotContain("event:delta");
+        assertThat(content(otherUser)).doesNotContain("event:delta");
+    }
+
+    private MvcResult open(Long userId) throws Exception {
+        return mockMvc.perform(get("/stream/" + userId)).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private static String content(MvcResult result) throws Exception {
+        return result.getResponse().getContentAsString();
+    }
+
+    private static DashboardSummaryDto summary(int rooms, int occupied, BigDecimal rentExpected) {
+        return new DashboardSummaryDto(1, rooms, occupied, rooms - occupied, occupied, rentExpected,
+                BigDecimal.ZERO, occupied / (double) rooms);
+    }
+}
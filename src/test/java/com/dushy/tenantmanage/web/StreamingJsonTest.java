@@ -0,0 +1,58 @@
+package com.dushy.tenantmanage.web;
+
+import com.dushy.tenantmanage.datasource.Workload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Row-by-row JSON arrays, written on another thread as the MVC async
+ * executor would.
+ */
+class StreamingJsonTest {
+
+    private final StreamingJson streamingJson = new StreamingJson(new ObjectMapper());
+
+    @AfterEach
+    void clearWorkload() {
+        Workload.clear();
+    }
+
+    @Test
+    void writesTheRowsOnTheRequestsWorkload() throws Exception {
+        AtomicReference<Workload> producerWorkload = new AtomicReference<>();
+        AtomicReference<Workload> afterwards = new AtomicReference<>();
+        Workload.set(Workload.REPORT);
+        ResponseEntity<StreamingResponseBody> response = streamingJson.array(String.class, rows -> {
+            producerWorkload.set(Workload.current());
+            List.of("a", "b").forEach(rows);
+        });
+        // What the interceptor does when async handling starts
+        Workload.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompletableFuture.runAsync(() -> {
+            try {
+                response.getBody().writeTo(out);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            afterwards.set(Workload.current());
+        }).get();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[\"a\",\"b\"]");
+        assertThat(producerWorkload).hasValue(Workload.REPORT);
+        // The async thread is pooled; the lane must not leak to its next task
+        assertThat(afterwards).hasValue(Workload.OLTP);
+    }
+}